@@ -0,0 +1,22 @@
+package ua.foxminded.school.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()
+                || commandLineOptions.shouldListWithParams()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,76 @@
+package ua.foxminded.school.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ua.foxminded.school.domain.model.Course;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseDaoBenchmark {
+
+    @State(Scope.Thread)
+    public static class NewCourses {
+        List<Course> courses;
+
+        @Setup(Level.Invocation)
+        public void setUp(SchoolDatabaseState state) {
+            courses = state.createCourses();
+        }
+    }
+
+    @Benchmark
+    public boolean saveAllBatch(SchoolDatabaseState state, NewCourses newCourses) {
+        return state.courseDao.saveAllBatch(newCourses.courses);
+    }
+
+    @Benchmark
+    public List<Course> findAll(SchoolDatabaseState state) {
+        return state.courseDao.findAll();
+    }
+
+    @Benchmark
+    public List<Course> findAllByStudentId(SchoolDatabaseState state) {
+        return state.courseDao.findAllByStudentId(state.studentWithCourses.getId());
+    }
+
+    @Benchmark
+    public long streamAllByStudentId(SchoolDatabaseState state) {
+        try (Stream<Course> courses = state.courseDao.streamAllByStudentId(state.studentWithCourses.getId())) {
+            return courses.count();
+        }
+    }
+
+    @Benchmark
+    public Optional<Course> findByName(SchoolDatabaseState state) {
+        return state.courseDao.findByName(state.courseWithStudents.getName());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Course>> findAllByStudentIds(SchoolDatabaseState state) {
+        return state.courseDao.findAllByStudentIds(state.studentIds);
+    }
+
+    @Benchmark
+    public Map<String, Course> findByNames(SchoolDatabaseState state) {
+        return state.courseDao.findByNames(state.courseNames);
+    }
+}
@@ -0,0 +1,77 @@
+package ua.foxminded.school.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ua.foxminded.school.domain.model.Group;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupDaoBenchmark {
+    private static final int MIN_STUDENTS_COUNT = 10;
+    private static final int MAX_STUDENTS_COUNT = 30;
+    private static final int RANKED_GROUPS_LIMIT = 3;
+
+    @State(Scope.Thread)
+    public static class NewGroups {
+        List<Group> groups;
+
+        @Setup(Level.Invocation)
+        public void setUp(SchoolDatabaseState state) {
+            groups = state.createGroups();
+        }
+    }
+
+    @Benchmark
+    public boolean saveAllBatch(SchoolDatabaseState state, NewGroups newGroups) {
+        return state.groupDao.saveAllBatch(newGroups.groups);
+    }
+
+    @Benchmark
+    public List<Group> findAllByEqualOrLessStudentsCount(SchoolDatabaseState state) {
+        return state.groupDao.findAllByEqualOrLessStudentsCount(MAX_STUDENTS_COUNT);
+    }
+
+    @Benchmark
+    public List<Group> findAllByStudentsCountBetween(SchoolDatabaseState state) {
+        return state.groupDao.findAllByStudentsCountBetween(MIN_STUDENTS_COUNT, MAX_STUDENTS_COUNT);
+    }
+
+    @Benchmark
+    public List<Group> findLargest(SchoolDatabaseState state) {
+        return state.groupDao.findLargest(RANKED_GROUPS_LIMIT);
+    }
+
+    @Benchmark
+    public List<Group> findSmallest(SchoolDatabaseState state) {
+        return state.groupDao.findSmallest(RANKED_GROUPS_LIMIT);
+    }
+
+    @Benchmark
+    public List<Group> findAll(SchoolDatabaseState state) {
+        return state.groupDao.findAll();
+    }
+
+    @Benchmark
+    public long streamAll(SchoolDatabaseState state) {
+        try (Stream<Group> groups = state.groupDao.streamAll()) {
+            return groups.count();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ua.foxminded.school.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.DaoConfig;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+import ua.foxminded.school.util.data.Data;
+
+@State(Scope.Benchmark)
+public class SchoolDatabaseState {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "200", "2000", "20000" })
+    public int datasetSize;
+
+    @Param({ "100", "5000" })
+    public int batchSize;
+
+    final AtomicInteger nameSequence = new AtomicInteger();
+    final Data data = new Data();
+    DataSource dataSource;
+    StudentDao studentDao;
+    GroupDao groupDao;
+    CourseDao courseDao;
+    List<Group> groups;
+    List<Course> courses;
+    List<Student> students;
+    Course courseWithStudents;
+    Student studentWithCourses;
+    Student studentWithoutCourses;
+    int pageAnchorId;
+    List<Integer> studentIds;
+    List<String> courseNames;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+        new SchoolDbInitializer(dataSource).reset();
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setBatchChunkSize(batchSize);
+        studentDao = new StudentDaoImpl(dataSource, daoConfig);
+        groupDao = new GroupDaoImpl(dataSource, daoConfig);
+        courseDao = new CourseDaoImpl(dataSource, daoConfig);
+
+        groups = data.getGroups();
+        groupDao.saveAllBatch(groups);
+        courses = data.getCourses();
+        courseDao.saveAllBatch(courses);
+        students = data.getStudents(groups, datasetSize);
+        studentDao.saveAllBatch(students);
+        studentDao.assignToCoursesBatch(data.getStudentsCourses(students, courses));
+
+        courseWithStudents = courses.get(0);
+        studentWithCourses = students.get(students.size() / 2);
+        studentWithoutCourses = new Student(0, 0, "Benchmark", "Student");
+        studentDao.save(studentWithoutCourses);
+        pageAnchorId = students.get(students.size() / 2).getId();
+        studentIds = students.stream().limit(batchSize).map(Student::getId).toList();
+        courseNames = courses.stream().map(Course::getName).toList();
+    }
+
+    List<Student> createStudents() {
+        return data.getStudents(groups, batchSize);
+    }
+
+    List<Group> createGroups() {
+        List<Group> newGroups = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            newGroups.add(new Group(0, "BG-" + nameSequence.incrementAndGet()));
+        }
+        return newGroups;
+    }
+
+    List<Course> createCourses() {
+        List<Course> newCourses = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String name = "BC-" + nameSequence.incrementAndGet();
+            newCourses.add(new Course(0, name, name));
+        }
+        return newCourses;
+    }
+
+    int getPageSize() {
+        return PAGE_SIZE;
+    }
+}
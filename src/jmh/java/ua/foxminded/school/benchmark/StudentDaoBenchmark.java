@@ -0,0 +1,174 @@
+package ua.foxminded.school.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ua.foxminded.school.dao.BulkOperationResult;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentDaoBenchmark {
+
+    @State(Scope.Thread)
+    public static class NewStudents {
+        List<Student> students;
+
+        @Setup(Level.Invocation)
+        public void setUp(SchoolDatabaseState state) {
+            students = state.createStudents();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SavedStudents {
+        Map<Student, List<Course>> studentsCourses;
+        List<Integer> studentIds;
+        List<Enrollment> enrollments;
+
+        @Setup(Level.Invocation)
+        public void setUp(SchoolDatabaseState state) {
+            List<Student> students = state.createStudents();
+            state.studentDao.saveAllBatch(students);
+            studentsCourses = state.data.getStudentsCourses(students, state.courses);
+            studentIds = students.stream().map(Student::getId).toList();
+            enrollments = studentsCourses.entrySet().stream()
+                    .flatMap(entry -> entry.getValue().stream()
+                            .map(course -> new Enrollment(entry.getKey().getId(), course.getId())))
+                    .toList();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EnrolledStudents {
+        Course course;
+        List<Enrollment> enrollments;
+
+        @Setup(Level.Invocation)
+        public void setUp(SchoolDatabaseState state) {
+            String name = "BC-" + state.nameSequence.incrementAndGet();
+            course = new Course(0, name, name);
+            state.courseDao.saveAllBatch(List.of(course));
+            List<Student> students = state.createStudents();
+            state.studentDao.saveAllBatch(students);
+            Map<Student, List<Course>> studentsCourses = new HashMap<>();
+            students.forEach(student -> studentsCourses.put(student, List.of(course)));
+            state.studentDao.assignToCoursesBatch(studentsCourses);
+            enrollments = students.stream().map(student -> new Enrollment(student.getId(), course.getId()))
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public boolean saveAllBatch(SchoolDatabaseState state, NewStudents newStudents) {
+        return state.studentDao.saveAllBatch(newStudents.students);
+    }
+
+    @Benchmark
+    public boolean assignToCoursesBatch(SchoolDatabaseState state, SavedStudents savedStudents) {
+        return state.studentDao.assignToCoursesBatch(savedStudents.studentsCourses);
+    }
+
+    @Benchmark
+    public OptionalInt assignAllToCourses(SchoolDatabaseState state, SavedStudents savedStudents) {
+        return state.studentDao.assignAllToCourses(savedStudents.enrollments);
+    }
+
+    @Benchmark
+    public List<Student> findAllByCourseName(SchoolDatabaseState state) {
+        return state.studentDao.findAllByCourseName(state.courseWithStudents.getName());
+    }
+
+    @Benchmark
+    public Map<String, List<Student>> findAllByCourseNames(SchoolDatabaseState state) {
+        return state.studentDao.findAllByCourseNames(state.courseNames);
+    }
+
+    @Benchmark
+    public long streamAllByCourseName(SchoolDatabaseState state) {
+        try (Stream<Student> students = state.studentDao.streamAllByCourseName(state.courseWithStudents.getName())) {
+            return students.count();
+        }
+    }
+
+    @Benchmark
+    public boolean saveThenDeleteById(SchoolDatabaseState state) {
+        Student student = new Student(0, 0, "FirstName", "LastName");
+        return state.studentDao.save(student) && state.studentDao.deleteById(student.getId());
+    }
+
+    @Benchmark
+    public BulkOperationResult<Integer> deleteByIds(SchoolDatabaseState state, SavedStudents savedStudents) {
+        return state.studentDao.deleteByIds(savedStudents.studentIds);
+    }
+
+    @Benchmark
+    public List<Student> findAll(SchoolDatabaseState state) {
+        return state.studentDao.findAll();
+    }
+
+    @Benchmark
+    public long streamAll(SchoolDatabaseState state) {
+        try (Stream<Student> students = state.studentDao.streamAll()) {
+            return students.count();
+        }
+    }
+
+    @Benchmark
+    public List<Student> findPage(SchoolDatabaseState state) {
+        return state.studentDao.findPage(state.pageAnchorId, state.getPageSize());
+    }
+
+    @Benchmark
+    public List<Student> findPageByGroupId(SchoolDatabaseState state) {
+        return state.studentDao.findPageByGroupId(state.groups.get(0).getId(), state.pageAnchorId,
+                state.getPageSize());
+    }
+
+    @Benchmark
+    public List<Student> findPageByCourseId(SchoolDatabaseState state) {
+        return state.studentDao.findPageByCourseId(state.courseWithStudents.getId(), state.pageAnchorId,
+                state.getPageSize());
+    }
+
+    @Benchmark
+    public boolean assignToCourseThenDeleteFromCourse(SchoolDatabaseState state) {
+        int studentId = state.studentWithoutCourses.getId();
+        int courseId = state.courseWithStudents.getId();
+        return state.studentDao.assignToCourse(studentId, courseId)
+                && state.studentDao.deleteFromCourse(studentId, courseId);
+    }
+
+    @Benchmark
+    public BulkOperationResult<Enrollment> deleteFromCourses(SchoolDatabaseState state,
+            EnrolledStudents enrolledStudents) {
+        return state.studentDao.deleteFromCourses(enrolledStudents.enrollments);
+    }
+
+    @Benchmark
+    public BulkOperationResult<Integer> deleteAllFromCourse(SchoolDatabaseState state,
+            EnrolledStudents enrolledStudents) {
+        return state.studentDao.deleteAllFromCourse(enrolledStudents.course.getId());
+    }
+}
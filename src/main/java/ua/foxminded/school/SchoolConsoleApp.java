@@ -1,22 +1,247 @@
 package ua.foxminded.school;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
 import javax.sql.DataSource;
 
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.dao.metrics.DaoMetrics;
 import ua.foxminded.school.ui.UserInterface;
+import ua.foxminded.school.ui.script.ScriptExecutor;
+import ua.foxminded.school.ui.script.ScriptReport;
 import ua.foxminded.school.util.JdbcUtil;
 import ua.foxminded.school.util.SchoolDbInitializer;
+import ua.foxminded.school.util.csv.CsvExporter;
+import ua.foxminded.school.util.csv.CsvImporter;
+import ua.foxminded.school.util.csv.CsvTable;
 import ua.foxminded.school.util.data.Data;
+import ua.foxminded.school.util.pool.PooledDataSource;
+import ua.foxminded.school.util.snapshot.SnapshotRestorer;
+import ua.foxminded.school.util.snapshot.SnapshotWriter;
+import ua.foxminded.school.util.startup.BackgroundStartup;
+import ua.foxminded.school.util.startup.StartupTimeline;
 
 public class SchoolConsoleApp {
-    public static void main(String[] args) {
-        DataSource dataSource = JdbcUtil.createDefaultPostgresDataSource();
-        SchoolDbInitializer schoolDbInitializer = new SchoolDbInitializer(dataSource);
-        schoolDbInitializer.init();
+    private static final String SEED_ARGUMENT = "--seed";
+    private static final String SCRIPT_ARGUMENT = "--script";
+    private static final String IMPORT_ARGUMENT = "--import";
+    private static final String EXPORT_ARGUMENT = "--export";
+    private static final String SAVE_SNAPSHOT_ARGUMENT = "--save-snapshot";
+    private static final String RESTORE_SNAPSHOT_ARGUMENT = "--restore-snapshot";
+    private static final String COMPRESS_SNAPSHOT_ARGUMENT = "--compress-snapshot";
+    private static final String ALL_TABLES = "all";
+    private static final String STANDARD_INPUT_SCRIPT = "-";
+    private static final String STANDARD_STREAM = "-";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int SCRIPT_FAILED_EXIT_STATUS = 1;
+    private static final int PREWARMED_CONNECTIONS_COUNT = 4;
 
-        Data testData = new Data();
-        JdbcUtil.insertTestDataInDatabase(testData, dataSource);
+    public static void main(String[] args) {
+        StartupTimeline timeline = new StartupTimeline();
+        List<String> arguments = Arrays.asList(args);
+        String scriptFile = findScriptFile(arguments);
+        List<String> importArguments = findTransferArguments(arguments, IMPORT_ARGUMENT);
+        List<String> exportArguments = findTransferArguments(arguments, EXPORT_ARGUMENT);
+        Path saveSnapshotFile = findSnapshotFile(arguments, SAVE_SNAPSHOT_ARGUMENT);
+        Path restoreSnapshotFile = findSnapshotFile(arguments, RESTORE_SNAPSHOT_ARGUMENT);
+        boolean seedRequested = arguments.contains(SEED_ARGUMENT);
+        boolean scriptFailed = false;
+        try (PooledDataSource dataSource = JdbcUtil.createDefaultPooledPostgresDataSource()) {
+            SchoolDbInitializer schoolDbInitializer = new SchoolDbInitializer(dataSource);
+            if (scriptFile != null) {
+                prepareDatabase(schoolDbInitializer, dataSource, seedRequested, false, restoreSnapshotFile);
+                scriptFailed = !runScript(dataSource, scriptFile).isSuccessful();
+            } else if (importArguments != null || exportArguments != null || saveSnapshotFile != null) {
+                prepareDatabase(schoolDbInitializer, dataSource, seedRequested, false, restoreSnapshotFile);
+                if (importArguments != null) {
+                    importCsv(dataSource, importArguments.get(0), importArguments.get(1));
+                }
+                if (exportArguments != null) {
+                    exportCsv(dataSource, exportArguments.get(0), exportArguments.get(1));
+                }
+                if (saveSnapshotFile != null) {
+                    saveSnapshot(dataSource, saveSnapshotFile, arguments.contains(COMPRESS_SNAPSHOT_ARGUMENT));
+                }
+            } else {
+                runInteractive(schoolDbInitializer, dataSource, seedRequested, restoreSnapshotFile, timeline);
+            }
+        }
+        if (scriptFailed) {
+            System.exit(SCRIPT_FAILED_EXIT_STATUS);
+        }
+    }
 
-        UserInterface userInterface = new UserInterface(dataSource);
+    private static void runInteractive(SchoolDbInitializer schoolDbInitializer, PooledDataSource dataSource,
+            boolean seedRequested, Path restoreSnapshotFile, StartupTimeline timeline) {
+        BackgroundStartup startup = new BackgroundStartup(timeline);
+        UserInterface userInterface = new UserInterface(dataSource, new DaoMetrics(), startup.dataReady());
+        startup.readinessStep("database prepared",
+                () -> prepareDatabase(schoolDbInitializer, dataSource, seedRequested, true, restoreSnapshotFile))
+                .readinessStep("enrollment index loaded", userInterface::loadEnrollmentIndex)
+                .warmUpStep("connections pre-warmed", () -> dataSource.prewarm(PREWARMED_CONNECTIONS_COUNT))
+                .warmUpStep("hot queries warmed", userInterface::warmUp)
+                .start();
+        timeline.mark("menu shown");
         userInterface.run();
     }
+
+    private static void prepareDatabase(SchoolDbInitializer schoolDbInitializer, DataSource dataSource,
+            boolean seedRequested, boolean seedEmptyDatabase, Path restoreSnapshotFile) {
+        if (restoreSnapshotFile != null) {
+            schoolDbInitializer.reset();
+            restoreSnapshot(dataSource, restoreSnapshotFile);
+            return;
+        }
+        if (seedRequested) {
+            schoolDbInitializer.reset();
+        } else {
+            schoolDbInitializer.init();
+        }
+        if (seedRequested || seedEmptyDatabase && schoolDbInitializer.isEmpty()) {
+            JdbcUtil.insertTestDataInDatabase(new Data(), dataSource);
+        }
+    }
+
+    private static String findScriptFile(List<String> arguments) {
+        int scriptArgumentIndex = arguments.indexOf(SCRIPT_ARGUMENT);
+        if (scriptArgumentIndex < 0) {
+            return null;
+        }
+        if (scriptArgumentIndex + 1 >= arguments.size()) {
+            throw new IllegalArgumentException(
+                    String.format("Script file is missing, usage: %s <file> or %s %s", SCRIPT_ARGUMENT,
+                            SCRIPT_ARGUMENT, STANDARD_INPUT_SCRIPT));
+        }
+        return arguments.get(scriptArgumentIndex + 1);
+    }
+
+    private static Path findSnapshotFile(List<String> arguments, String snapshotArgument) {
+        int snapshotArgumentIndex = arguments.indexOf(snapshotArgument);
+        if (snapshotArgumentIndex < 0) {
+            return null;
+        }
+        if (snapshotArgumentIndex + 1 >= arguments.size()) {
+            throw new IllegalArgumentException(
+                    String.format("Snapshot file is missing, usage: %s <file>", snapshotArgument));
+        }
+        return Path.of(arguments.get(snapshotArgumentIndex + 1));
+    }
+
+    private static void saveSnapshot(DataSource dataSource, Path snapshotFile, boolean compressed) {
+        SnapshotWriter snapshotWriter = new SnapshotWriter(new StudentDaoImpl(dataSource),
+                new CourseDaoImpl(dataSource), new GroupDaoImpl(dataSource), compressed);
+        try {
+            System.err.println(snapshotWriter.write(snapshotFile));
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Cannot save snapshot to %s", snapshotFile), e);
+        }
+    }
+
+    private static void restoreSnapshot(DataSource dataSource, Path snapshotFile) {
+        try {
+            System.err.println(new SnapshotRestorer(dataSource).restore(snapshotFile));
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Cannot restore snapshot from %s", snapshotFile), e);
+        }
+    }
+
+    private static List<String> findTransferArguments(List<String> arguments, String transferArgument) {
+        int transferArgumentIndex = arguments.indexOf(transferArgument);
+        if (transferArgumentIndex < 0) {
+            return null;
+        }
+        if (transferArgumentIndex + 2 >= arguments.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Table or location is missing, usage: %s <table> <file|%s> or %s %s <directory>",
+                    transferArgument, STANDARD_STREAM, transferArgument, ALL_TABLES));
+        }
+        return arguments.subList(transferArgumentIndex + 1, transferArgumentIndex + 3);
+    }
+
+    private static List<CsvTable> selectTables(String tableToken, String location) {
+        if (!tableToken.equalsIgnoreCase(ALL_TABLES)) {
+            return List.of(CsvTable.fromToken(tableToken));
+        }
+        if (location.equals(STANDARD_STREAM)) {
+            throw new IllegalArgumentException("All tables can be transferred only to or from a directory");
+        }
+        return List.of(CsvTable.values());
+    }
+
+    private static Path resolveCsvFile(CsvTable table, String tableToken, String location) {
+        Path path = Path.of(location);
+        return tableToken.equalsIgnoreCase(ALL_TABLES) ? path.resolve(table.getFileName()) : path;
+    }
+
+    private static void importCsv(DataSource dataSource, String tableToken, String location) {
+        CsvImporter csvImporter = new CsvImporter(dataSource);
+        for (CsvTable table : selectTables(tableToken, location)) {
+            try (Reader input = location.equals(STANDARD_STREAM)
+                    ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                    : Files.newBufferedReader(resolveCsvFile(table, tableToken, location), StandardCharsets.UTF_8)) {
+                System.err.println(csvImporter.importTable(table, input));
+            } catch (IOException e) {
+                throw new IllegalStateException(
+                        String.format("Cannot import table %s from %s", table.getToken(), location), e);
+            }
+        }
+    }
+
+    private static void exportCsv(DataSource dataSource, String tableToken, String location) {
+        CsvExporter csvExporter = new CsvExporter(new StudentDaoImpl(dataSource), new CourseDaoImpl(dataSource),
+                new GroupDaoImpl(dataSource));
+        for (CsvTable table : selectTables(tableToken, location)) {
+            try {
+                if (location.equals(STANDARD_STREAM)) {
+                    Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                            OUTPUT_BUFFER_SIZE);
+                    System.err.println(csvExporter.exportTable(table, output));
+                } else {
+                    Path file = resolveCsvFile(table, tableToken, location);
+                    if (file.getParent() != null) {
+                        Files.createDirectories(file.getParent());
+                    }
+                    try (Writer output = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                        System.err.println(csvExporter.exportTable(table, output));
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(
+                        String.format("Cannot export table %s to %s", table.getToken(), location), e);
+            }
+        }
+    }
+
+    private static ScriptReport runScript(DataSource dataSource, String scriptFile) {
+        ScriptExecutor scriptExecutor = new ScriptExecutor(new StudentDaoImpl(dataSource),
+                new CourseDaoImpl(dataSource), new GroupDaoImpl(dataSource));
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (BufferedReader script = openScript(scriptFile)) {
+            ScriptReport report = scriptExecutor.execute(script, output);
+            System.err.println(report);
+            return report;
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Cannot execute script: %s", scriptFile), e);
+        }
+    }
+
+    private static BufferedReader openScript(String scriptFile) throws IOException {
+        if (scriptFile.equals(STANDARD_INPUT_SCRIPT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(scriptFile), StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,23 @@
+package ua.foxminded.school.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.domain.model.Course;
+
+public interface AsyncCourseDao {
+    CompletableFuture<Boolean> saveAllBatch(List<Course> courses);
+
+    CompletableFuture<List<Course>> findAll();
+
+    CompletableFuture<List<Course>> findAllByStudentId(int studentId);
+
+    CompletableFuture<Optional<Course>> findByName(String courseName);
+
+    CompletableFuture<Map<Integer, List<Course>>> findAllByStudentIds(Collection<Integer> studentIds);
+
+    CompletableFuture<Map<String, Course>> findByNames(Collection<String> courseNames);
+}
@@ -0,0 +1,20 @@
+package ua.foxminded.school.dao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.domain.model.Group;
+
+public interface AsyncGroupDao {
+    CompletableFuture<Boolean> saveAllBatch(List<Group> groups);
+
+    CompletableFuture<List<Group>> findAllByEqualOrLessStudentsCount(int studentsCount);
+
+    CompletableFuture<List<Group>> findAllByStudentsCountBetween(int minStudentsCount, int maxStudentsCount);
+
+    CompletableFuture<List<Group>> findLargest(int limit);
+
+    CompletableFuture<List<Group>> findSmallest(int limit);
+
+    CompletableFuture<List<Group>> findAll();
+}
@@ -0,0 +1,45 @@
+package ua.foxminded.school.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+public interface AsyncStudentDao {
+    CompletableFuture<Boolean> saveAllBatch(List<Student> students);
+
+    CompletableFuture<Boolean> assignToCoursesBatch(Map<Student, List<Course>> studentsCourses);
+
+    CompletableFuture<OptionalInt> assignAllToCourses(Collection<Enrollment> enrollments);
+
+    CompletableFuture<List<Student>> findAllByCourseName(String courseName);
+
+    CompletableFuture<Map<String, List<Student>>> findAllByCourseNames(Collection<String> courseNames);
+
+    CompletableFuture<Boolean> save(Student student);
+
+    CompletableFuture<Boolean> deleteById(int studentId);
+
+    CompletableFuture<BulkOperationResult<Integer>> deleteByIds(Collection<Integer> studentIds);
+
+    CompletableFuture<List<Student>> findAll();
+
+    CompletableFuture<List<Student>> findPage(int afterId, int limit);
+
+    CompletableFuture<List<Student>> findPageByGroupId(int groupId, int afterId, int limit);
+
+    CompletableFuture<List<Student>> findPageByCourseId(int courseId, int afterId, int limit);
+
+    CompletableFuture<Boolean> assignToCourse(int studentId, int courseId);
+
+    CompletableFuture<Boolean> deleteFromCourse(int studentId, int courseId);
+
+    CompletableFuture<BulkOperationResult<Enrollment>> deleteFromCourses(Collection<Enrollment> enrollments);
+
+    CompletableFuture<BulkOperationResult<Integer>> deleteAllFromCourse(int courseId);
+}
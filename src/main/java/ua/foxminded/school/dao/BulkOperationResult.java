@@ -0,0 +1,63 @@
+package ua.foxminded.school.dao;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class BulkOperationResult<K> {
+    private final Set<K> succeeded = new LinkedHashSet<>();
+    private final Set<K> notFound = new LinkedHashSet<>();
+    private final Set<K> failed = new LinkedHashSet<>();
+    private boolean aborted;
+
+    public void addSucceeded(Collection<K> keys) {
+        succeeded.addAll(keys);
+    }
+
+    public void addNotFound(Collection<K> keys) {
+        notFound.addAll(keys);
+    }
+
+    public void addFailed(Collection<K> keys) {
+        failed.addAll(keys);
+    }
+
+    public void abort() {
+        aborted = true;
+    }
+
+    public Set<K> getSucceeded() {
+        return Collections.unmodifiableSet(succeeded);
+    }
+
+    public Set<K> getNotFound() {
+        return Collections.unmodifiableSet(notFound);
+    }
+
+    public Set<K> getFailed() {
+        return Collections.unmodifiableSet(failed);
+    }
+
+    public int getSucceededCount() {
+        return succeeded.size();
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public boolean hasFailures() {
+        return aborted || !failed.isEmpty();
+    }
+
+    public boolean isComplete() {
+        return notFound.isEmpty() && !hasFailures();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationResult [succeeded=" + succeeded.size() + ", notFound=" + notFound.size() + ", failed="
+                + failed.size() + ", aborted=" + aborted + "]";
+    }
+}
@@ -1,7 +1,10 @@
 package ua.foxminded.school.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import ua.foxminded.school.domain.model.Course;
 
@@ -10,7 +13,15 @@ public interface CourseDao {
 
     List<Course> findAll();
 
+    Stream<Course> streamAll();
+
     List<Course> findAllByStudentId(int studentId);
 
+    Stream<Course> streamAllByStudentId(int studentId);
+
     Optional<Course> findByName(String courseName);
+
+    Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds);
+
+    Map<String, Course> findByNames(Collection<String> courseNames);
 }
@@ -1,6 +1,7 @@
 package ua.foxminded.school.dao;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import ua.foxminded.school.domain.model.Group;
 
@@ -9,5 +10,13 @@ public interface GroupDao {
 
     List<Group> findAllByEqualOrLessStudentsCount(int studentsCount);
 
+    List<Group> findAllByStudentsCountBetween(int minStudentsCount, int maxStudentsCount);
+
+    List<Group> findLargest(int limit);
+
+    List<Group> findSmallest(int limit);
+
     List<Group> findAll();
+
+    Stream<Group> streamAll();
 }
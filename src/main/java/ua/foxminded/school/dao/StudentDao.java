@@ -1,9 +1,13 @@
 package ua.foxminded.school.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
 
 import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
 import ua.foxminded.school.domain.model.Student;
 
 public interface StudentDao {
@@ -11,15 +15,37 @@ public interface StudentDao {
 
     boolean assignToCoursesBatch(Map<Student, List<Course>> studentsCourses);
 
+    OptionalInt assignAllToCourses(Collection<Enrollment> enrollments);
+
     List<Student> findAllByCourseName(String courseName);
 
+    Stream<Student> streamAllByCourseName(String courseName);
+
+    Map<String, List<Student>> findAllByCourseNames(Collection<String> courseNames);
+
     boolean save(Student student);
 
     boolean deleteById(int studentId);
 
+    BulkOperationResult<Integer> deleteByIds(Collection<Integer> studentIds);
+
     List<Student> findAll();
 
+    Stream<Student> streamAll();
+
+    Stream<Enrollment> streamAllEnrollments();
+
+    List<Student> findPage(int afterId, int limit);
+
+    List<Student> findPageByGroupId(int groupId, int afterId, int limit);
+
+    List<Student> findPageByCourseId(int courseId, int afterId, int limit);
+
     boolean assignToCourse(int studentId, int courseId);
 
     boolean deleteFromCourse(int studentId, int courseId);
+
+    BulkOperationResult<Enrollment> deleteFromCourses(Collection<Enrollment> enrollments);
+
+    BulkOperationResult<Integer> deleteAllFromCourse(int courseId);
 }
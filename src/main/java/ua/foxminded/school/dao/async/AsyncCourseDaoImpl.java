@@ -0,0 +1,56 @@
+package ua.foxminded.school.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.dao.AsyncCourseDao;
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.domain.model.Course;
+
+public class AsyncCourseDaoImpl implements AsyncCourseDao {
+    private final CourseDao courseDao;
+    private final AsyncDaoExecutor executor;
+
+    public AsyncCourseDaoImpl(CourseDao courseDao, AsyncDaoExecutor executor) {
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveAllBatch(List<Course> courses) {
+        Objects.requireNonNull(courses);
+        return executor.submit(() -> courseDao.saveAllBatch(courses));
+    }
+
+    @Override
+    public CompletableFuture<List<Course>> findAll() {
+        return executor.submit(courseDao::findAll);
+    }
+
+    @Override
+    public CompletableFuture<List<Course>> findAllByStudentId(int studentId) {
+        return executor.submit(() -> courseDao.findAllByStudentId(studentId));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Course>> findByName(String courseName) {
+        Objects.requireNonNull(courseName);
+        return executor.submit(() -> courseDao.findByName(courseName));
+    }
+
+    @Override
+    public CompletableFuture<Map<Integer, List<Course>>> findAllByStudentIds(Collection<Integer> studentIds) {
+        Objects.requireNonNull(studentIds);
+        return executor.submit(() -> courseDao.findAllByStudentIds(studentIds));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Course>> findByNames(Collection<String> courseNames) {
+        Objects.requireNonNull(courseNames);
+        return executor.submit(() -> courseDao.findByNames(courseNames));
+    }
+}
@@ -0,0 +1,140 @@
+package ua.foxminded.school.dao.async;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import ua.foxminded.school.util.pool.PooledDataSource;
+
+public class AsyncDaoExecutor implements AutoCloseable {
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public AsyncDaoExecutor(int maxConcurrency, Duration timeout) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeout = timeout;
+    }
+
+    public static AsyncDaoExecutor forDataSource(DataSource dataSource, Duration timeout) {
+        int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        if (dataSource instanceof PooledDataSource pooledDataSource) {
+            maxConcurrency = pooledDataSource.getConfig().getMaxSize();
+        }
+        return new AsyncDaoExecutor(maxConcurrency, timeout);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        Objects.requireNonNull(operation);
+        DaoTask<T> task = new DaoTask<>(operation);
+        try {
+            executor.execute(task::run);
+        } catch (RejectedExecutionException e) {
+            task.completeExceptionally(e);
+            return task;
+        }
+        if (!timeout.isZero()) {
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(task::timeout);
+        }
+        return task;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private class DaoTask<T> extends CompletableFuture<T> {
+        private final Supplier<T> operation;
+        private final CancellationScope scope = new CancellationScope();
+        private Thread waitingThread;
+
+        DaoTask(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        void run() {
+            if (!awaitPermit()) {
+                return;
+            }
+            scope.enter();
+            try {
+                complete(operation.get());
+            } catch (Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                scope.exit();
+                permits.release();
+            }
+        }
+
+        private boolean awaitPermit() {
+            synchronized (this) {
+                if (isDone()) {
+                    return false;
+                }
+                waitingThread = Thread.currentThread();
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                completeExceptionally(e);
+                return false;
+            }
+            synchronized (this) {
+                waitingThread = null;
+                Thread.interrupted();
+                if (isDone()) {
+                    permits.release();
+                    return false;
+                }
+                return true;
+            }
+        }
+
+        void timeout() {
+            if (completeExceptionally(new TimeoutException("DAO operation timed out after " + timeout))) {
+                abort();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                abort();
+            }
+            return cancelled;
+        }
+
+        private void abort() {
+            synchronized (this) {
+                if (waitingThread != null) {
+                    waitingThread.interrupt();
+                }
+            }
+            scope.cancel();
+        }
+    }
+}
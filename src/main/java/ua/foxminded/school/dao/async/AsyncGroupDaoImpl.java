@@ -0,0 +1,50 @@
+package ua.foxminded.school.dao.async;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.dao.AsyncGroupDao;
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.domain.model.Group;
+
+public class AsyncGroupDaoImpl implements AsyncGroupDao {
+    private final GroupDao groupDao;
+    private final AsyncDaoExecutor executor;
+
+    public AsyncGroupDaoImpl(GroupDao groupDao, AsyncDaoExecutor executor) {
+        this.groupDao = Objects.requireNonNull(groupDao);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveAllBatch(List<Group> groups) {
+        Objects.requireNonNull(groups);
+        return executor.submit(() -> groupDao.saveAllBatch(groups));
+    }
+
+    @Override
+    public CompletableFuture<List<Group>> findAllByEqualOrLessStudentsCount(int studentsCount) {
+        return executor.submit(() -> groupDao.findAllByEqualOrLessStudentsCount(studentsCount));
+    }
+
+    @Override
+    public CompletableFuture<List<Group>> findAllByStudentsCountBetween(int minStudentsCount, int maxStudentsCount) {
+        return executor.submit(() -> groupDao.findAllByStudentsCountBetween(minStudentsCount, maxStudentsCount));
+    }
+
+    @Override
+    public CompletableFuture<List<Group>> findLargest(int limit) {
+        return executor.submit(() -> groupDao.findLargest(limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Group>> findSmallest(int limit) {
+        return executor.submit(() -> groupDao.findSmallest(limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Group>> findAll() {
+        return executor.submit(groupDao::findAll);
+    }
+}
@@ -0,0 +1,113 @@
+package ua.foxminded.school.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+
+import ua.foxminded.school.dao.AsyncStudentDao;
+import ua.foxminded.school.dao.BulkOperationResult;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+public class AsyncStudentDaoImpl implements AsyncStudentDao {
+    private final StudentDao studentDao;
+    private final AsyncDaoExecutor executor;
+
+    public AsyncStudentDaoImpl(StudentDao studentDao, AsyncDaoExecutor executor) {
+        this.studentDao = Objects.requireNonNull(studentDao);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveAllBatch(List<Student> students) {
+        Objects.requireNonNull(students);
+        return executor.submit(() -> studentDao.saveAllBatch(students));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> assignToCoursesBatch(Map<Student, List<Course>> studentsCourses) {
+        Objects.requireNonNull(studentsCourses);
+        return executor.submit(() -> studentDao.assignToCoursesBatch(studentsCourses));
+    }
+
+    @Override
+    public CompletableFuture<OptionalInt> assignAllToCourses(Collection<Enrollment> enrollments) {
+        Objects.requireNonNull(enrollments);
+        return executor.submit(() -> studentDao.assignAllToCourses(enrollments));
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> findAllByCourseName(String courseName) {
+        Objects.requireNonNull(courseName);
+        return executor.submit(() -> studentDao.findAllByCourseName(courseName));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, List<Student>>> findAllByCourseNames(Collection<String> courseNames) {
+        Objects.requireNonNull(courseNames);
+        return executor.submit(() -> studentDao.findAllByCourseNames(courseNames));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> save(Student student) {
+        Objects.requireNonNull(student);
+        return executor.submit(() -> studentDao.save(student));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteById(int studentId) {
+        return executor.submit(() -> studentDao.deleteById(studentId));
+    }
+
+    @Override
+    public CompletableFuture<BulkOperationResult<Integer>> deleteByIds(Collection<Integer> studentIds) {
+        Objects.requireNonNull(studentIds);
+        return executor.submit(() -> studentDao.deleteByIds(studentIds));
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> findAll() {
+        return executor.submit(studentDao::findAll);
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> findPage(int afterId, int limit) {
+        return executor.submit(() -> studentDao.findPage(afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> findPageByGroupId(int groupId, int afterId, int limit) {
+        return executor.submit(() -> studentDao.findPageByGroupId(groupId, afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> findPageByCourseId(int courseId, int afterId, int limit) {
+        return executor.submit(() -> studentDao.findPageByCourseId(courseId, afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> assignToCourse(int studentId, int courseId) {
+        return executor.submit(() -> studentDao.assignToCourse(studentId, courseId));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteFromCourse(int studentId, int courseId) {
+        return executor.submit(() -> studentDao.deleteFromCourse(studentId, courseId));
+    }
+
+    @Override
+    public CompletableFuture<BulkOperationResult<Enrollment>> deleteFromCourses(Collection<Enrollment> enrollments) {
+        Objects.requireNonNull(enrollments);
+        return executor.submit(() -> studentDao.deleteFromCourses(enrollments));
+    }
+
+    @Override
+    public CompletableFuture<BulkOperationResult<Integer>> deleteAllFromCourse(int courseId) {
+        return executor.submit(() -> studentDao.deleteAllFromCourse(courseId));
+    }
+}
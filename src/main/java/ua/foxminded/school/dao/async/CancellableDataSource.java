@@ -0,0 +1,117 @@
+package ua.foxminded.school.dao.async;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+public class CancellableDataSource implements DataSource {
+    private static final Set<String> STATEMENT_CREATING_METHODS = Set.of("createStatement", "prepareStatement",
+            "prepareCall");
+
+    private final DataSource targetDataSource;
+
+    public CancellableDataSource(DataSource targetDataSource) {
+        this.targetDataSource = Objects.requireNonNull(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(targetDataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(targetDataSource.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        CancellationScope scope = CancellationScope.current();
+        if (scope == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(CancellableDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new RegisteringConnectionHandler(connection, scope));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return targetDataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        targetDataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        targetDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return targetDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return targetDataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return targetDataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || targetDataSource.isWrapperFor(iface);
+    }
+
+    private static class RegisteringConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final CancellationScope scope;
+
+        RegisteringConnectionHandler(Connection connection, CancellationScope scope) {
+            this.connection = connection;
+            this.scope = scope;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                Object result = invokeTarget(method, args);
+                if (STATEMENT_CREATING_METHODS.contains(method.getName())) {
+                    scope.register((Statement) result);
+                }
+                return result;
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
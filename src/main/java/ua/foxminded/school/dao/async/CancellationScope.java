@@ -0,0 +1,52 @@
+package ua.foxminded.school.dao.async;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+class CancellationScope {
+    private static final Logger LOGGER = LogManager.getLogger(CancellationScope.class);
+    private static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+
+    private final List<Statement> statements = new ArrayList<>();
+    private boolean cancelled;
+
+    static CancellationScope current() {
+        return CURRENT.get();
+    }
+
+    void enter() {
+        CURRENT.set(this);
+    }
+
+    void exit() {
+        CURRENT.remove();
+        synchronized (this) {
+            statements.clear();
+        }
+    }
+
+    synchronized void register(Statement statement) throws SQLException {
+        if (cancelled) {
+            statement.close();
+            throw new SQLException("DAO operation was cancelled");
+        }
+        statements.add(statement);
+    }
+
+    synchronized void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                LOGGER.debug("Cannot cancel statement, it has probably completed already", e);
+            }
+        }
+        statements.clear();
+    }
+}
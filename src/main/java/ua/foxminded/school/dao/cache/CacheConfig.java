@@ -0,0 +1,36 @@
+package ua.foxminded.school.dao.cache;
+
+public class CacheConfig {
+    private static final int DEFAULT_MAX_SIZE = 1_000;
+    private static final long DEFAULT_TTL_MILLIS = 300_000;
+
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private long ttlMillis = DEFAULT_TTL_MILLIS;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public void setTtlMillis(long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheConfig [maxSize=" + maxSize + ", ttlMillis=" + ttlMillis + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package ua.foxminded.school.dao.cache;
+
+public class CacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long invalidationCount;
+    private final int size;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long expirationCount,
+            long invalidationCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    public CacheStatistics plus(CacheStatistics other) {
+        return new CacheStatistics(hitCount + other.hitCount, missCount + other.missCount,
+                evictionCount + other.evictionCount, expirationCount + other.expirationCount,
+                invalidationCount + other.invalidationCount, size + other.size);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", expirations=" + expirationCount + ", invalidations=" + invalidationCount + ", size=" + size
+                + "]";
+    }
+}
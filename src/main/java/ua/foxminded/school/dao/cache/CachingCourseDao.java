@@ -0,0 +1,79 @@
+package ua.foxminded.school.dao.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.domain.model.Course;
+
+public class CachingCourseDao implements CourseDao {
+    private static final String ALL_COURSES_KEY = "ALL";
+
+    private final CourseDao courseDao;
+    private final ReadThroughCache<String, List<Course>> allCoursesCache;
+    private final ReadThroughCache<String, Optional<Course>> coursesByNameCache;
+
+    public CachingCourseDao(CourseDao courseDao, CacheConfig cacheConfig) {
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.allCoursesCache = new ReadThroughCache<>(cacheConfig, courses -> !courses.isEmpty());
+        this.coursesByNameCache = new ReadThroughCache<>(cacheConfig, Optional::isPresent);
+    }
+
+    @Override
+    public boolean saveAllBatch(List<Course> courses) {
+        try {
+            return courseDao.saveAllBatch(courses);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Course> findAll() {
+        return allCoursesCache.get(ALL_COURSES_KEY, () -> List.copyOf(courseDao.findAll()));
+    }
+
+    @Override
+    public Stream<Course> streamAll() {
+        return courseDao.streamAll();
+    }
+
+    @Override
+    public List<Course> findAllByStudentId(int studentId) {
+        return courseDao.findAllByStudentId(studentId);
+    }
+
+    @Override
+    public Stream<Course> streamAllByStudentId(int studentId) {
+        return courseDao.streamAllByStudentId(studentId);
+    }
+
+    @Override
+    public Optional<Course> findByName(String courseName) {
+        Objects.requireNonNull(courseName);
+        return coursesByNameCache.get(courseName, () -> courseDao.findByName(courseName));
+    }
+
+    @Override
+    public Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds) {
+        return courseDao.findAllByStudentIds(studentIds);
+    }
+
+    @Override
+    public Map<String, Course> findByNames(Collection<String> courseNames) {
+        return courseDao.findByNames(courseNames);
+    }
+
+    public void invalidateAll() {
+        allCoursesCache.invalidateAll();
+        coursesByNameCache.invalidateAll();
+    }
+
+    public CacheStatistics getStatistics() {
+        return allCoursesCache.getStatistics().plus(coursesByNameCache.getStatistics());
+    }
+}
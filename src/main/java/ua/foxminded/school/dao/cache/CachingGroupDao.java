@@ -0,0 +1,67 @@
+package ua.foxminded.school.dao.cache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.domain.model.Group;
+
+public class CachingGroupDao implements GroupDao {
+    private static final String ALL_GROUPS_KEY = "ALL";
+
+    private final GroupDao groupDao;
+    private final ReadThroughCache<String, List<Group>> allGroupsCache;
+
+    public CachingGroupDao(GroupDao groupDao, CacheConfig cacheConfig) {
+        this.groupDao = Objects.requireNonNull(groupDao);
+        this.allGroupsCache = new ReadThroughCache<>(cacheConfig, groups -> !groups.isEmpty());
+    }
+
+    @Override
+    public boolean saveAllBatch(List<Group> groups) {
+        try {
+            return groupDao.saveAllBatch(groups);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Group> findAllByEqualOrLessStudentsCount(int studentsCount) {
+        return groupDao.findAllByEqualOrLessStudentsCount(studentsCount);
+    }
+
+    @Override
+    public List<Group> findAllByStudentsCountBetween(int minStudentsCount, int maxStudentsCount) {
+        return groupDao.findAllByStudentsCountBetween(minStudentsCount, maxStudentsCount);
+    }
+
+    @Override
+    public List<Group> findLargest(int limit) {
+        return groupDao.findLargest(limit);
+    }
+
+    @Override
+    public List<Group> findSmallest(int limit) {
+        return groupDao.findSmallest(limit);
+    }
+
+    @Override
+    public List<Group> findAll() {
+        return allGroupsCache.get(ALL_GROUPS_KEY, () -> List.copyOf(groupDao.findAll()));
+    }
+
+    @Override
+    public Stream<Group> streamAll() {
+        return groupDao.streamAll();
+    }
+
+    public void invalidateAll() {
+        allGroupsCache.invalidateAll();
+    }
+
+    public CacheStatistics getStatistics() {
+        return allGroupsCache.getStatistics();
+    }
+}
@@ -0,0 +1,110 @@
+package ua.foxminded.school.dao.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+class ReadThroughCache<K, V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Predicate<V> cacheable;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private long generation;
+
+    ReadThroughCache(CacheConfig config, Predicate<V> cacheable) {
+        this(config, cacheable, System::currentTimeMillis);
+    }
+
+    ReadThroughCache(CacheConfig config, Predicate<V> cacheable, LongSupplier clock) {
+        this.maxSize = config.getMaxSize();
+        this.ttlMillis = config.getTtlMillis();
+        this.cacheable = cacheable;
+        this.clock = clock;
+    }
+
+    V get(K key, Supplier<V> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (clock.getAsLong() < entry.expiresAtMillis()) {
+                    hitCount.increment();
+                    return entry.value();
+                }
+                entries.remove(key);
+                expirationCount.increment();
+            }
+            missCount.increment();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        V value = loader.get();
+        if (cacheable.test(value)) {
+            put(key, value, loadGeneration);
+        }
+        return value;
+    }
+
+    private void put(K key, V value, long loadGeneration) {
+        lock.lock();
+        try {
+            if (loadGeneration != generation) {
+                return;
+            }
+            entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+            evictEldestEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictEldestEntries() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            invalidationCount.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CacheStatistics getStatistics() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), expirationCount.sum(),
+                invalidationCount.sum(), size);
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
@@ -6,10 +6,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -17,23 +21,42 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.dao.impl.bulk.ChunkedBatchExecutor;
 import ua.foxminded.school.domain.model.Course;
 
 public class CourseDaoImpl implements CourseDao {
     private static final Logger LOGGER = LogManager.getLogger(CourseDaoImpl.class);
     private static final boolean SUCCESSFUL_OPERATION = true;
     private static final boolean FAILED_OPERATION = false;
-    private static final String INSERT_COURSE_SQL = "INSERT INTO courses(name, description) VALUES (?,?);";
     private static final String SELECT_ALL_COURSES_SQL = "SELECT * FROM courses;";
     private static final String SELECT_ALL_BY_STUDENT_ID_SQL = "SELECT courses.id, courses.name, courses.description "
             + "FROM students_courses INNER JOIN courses ON courses.id = students_courses.course_id "
             + "WHERE student_id = ?;";
     private static final String SELECT_ALL_BY_COURSE_NAME_SQL = "SELECT * FROM courses WHERE courses.name = ?;";
+    private static final String SELECT_ALL_BY_STUDENT_IDS_SQL_FORMAT = "SELECT students_courses.student_id, "
+            + "courses.id, courses.name, courses.description "
+            + "FROM students_courses INNER JOIN courses ON courses.id = students_courses.course_id "
+            + "WHERE students_courses.student_id %s ORDER BY students_courses.student_id, courses.id;";
+    private static final String SELECT_ALL_BY_COURSE_NAMES_SQL_FORMAT = "SELECT * FROM courses WHERE courses.name %s;";
+    private static final String INTEGER_ARRAY_TYPE = "integer";
+    private static final String VARCHAR_ARRAY_TYPE = "varchar";
 
     private final DataSource dataSource;
+    private final ChunkedBatchExecutor batchExecutor;
+    private final CursorStreams cursorStreams;
+    private final MultiKeyQuery multiKeyQuery;
 
     public CourseDaoImpl(DataSource dataSource) {
+        this(dataSource, new DaoConfig());
+    }
+
+    public CourseDaoImpl(DataSource dataSource, DaoConfig daoConfig) {
         this.dataSource = dataSource;
+        this.batchExecutor = new ChunkedBatchExecutor(daoConfig);
+        this.cursorStreams = new CursorStreams(dataSource, daoConfig);
+        this.multiKeyQuery = new MultiKeyQuery(daoConfig.getLookupChunkSize());
     }
 
     @Override
@@ -49,22 +72,8 @@ public class CourseDaoImpl implements CourseDao {
     }
 
     private void saveAllCoursesBatch(List<Course> courses, Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_COURSE_SQL)) {
-            performBatchInsert(statement, courses);
-        }
-    }
-
-    private void performBatchInsert(PreparedStatement statement, List<Course> courses) throws SQLException {
-        for (Course course : courses) {
-            fillCourseInsertStatement(course, statement);
-            statement.addBatch();
-        }
-        statement.executeBatch();
-    }
-
-    private void fillCourseInsertStatement(Course course, PreparedStatement statement) throws SQLException {
-        statement.setString(1, course.getName());
-        statement.setString(2, course.getDescription());
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        batchExecutor.execute(connection, courses.iterator(), bulkLoader::loadCourses);
     }
 
     @Override
@@ -119,6 +128,56 @@ public class CourseDaoImpl implements CourseDao {
         }
     }
 
+    @Override
+    public Stream<Course> streamAll() {
+        return cursorStreams.stream(SELECT_ALL_COURSES_SQL, StatementBinder.NO_PARAMETERS,
+                this::createCourseFromResultSetRow);
+    }
+
+    @Override
+    public Stream<Course> streamAllByStudentId(int studentId) {
+        return cursorStreams.stream(SELECT_ALL_BY_STUDENT_ID_SQL, statement -> statement.setInt(1, studentId),
+                this::createCourseFromResultSetRow);
+    }
+
+    @Override
+    public Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds) {
+        Objects.requireNonNull(studentIds);
+        Map<Integer, List<Course>> studentsCourses = new LinkedHashMap<>();
+        studentIds.forEach(studentId -> studentsCourses.put(studentId, new ArrayList<>()));
+        if (studentIds.isEmpty()) {
+            return studentsCourses;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            List<Map.Entry<Integer, Course>> rows = multiKeyQuery.findAll(connection,
+                    SELECT_ALL_BY_STUDENT_IDS_SQL_FORMAT, INTEGER_ARRAY_TYPE, studentIds,
+                    resultSet -> Map.entry(resultSet.getInt("student_id"), createCourseFromResultSetRow(resultSet)));
+            rows.forEach(row -> studentsCourses.get(row.getKey()).add(row.getValue()));
+            return studentsCourses;
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding courses by %d student IDs", studentIds.size()), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    @Override
+    public Map<String, Course> findByNames(Collection<String> courseNames) {
+        Objects.requireNonNull(courseNames);
+        if (courseNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            List<Course> courses = multiKeyQuery.findAll(connection, SELECT_ALL_BY_COURSE_NAMES_SQL_FORMAT,
+                    VARCHAR_ARRAY_TYPE, courseNames, this::createCourseFromResultSetRow);
+            Map<String, Course> coursesByName = new LinkedHashMap<>();
+            courses.forEach(course -> coursesByName.put(course.getName(), course));
+            return coursesByName;
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding courses by %d names", courseNames.size()), e);
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     public Optional<Course> findByName(String courseName) {
         Objects.requireNonNull(courseName);
@@ -0,0 +1,112 @@
+package ua.foxminded.school.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.exception.DaoOperationException;
+
+class CursorStreams {
+    private static final Logger LOGGER = LogManager.getLogger(CursorStreams.class);
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    CursorStreams(DataSource dataSource, DaoConfig daoConfig) {
+        this.dataSource = dataSource;
+        this.fetchSize = daoConfig.getFetchSize();
+    }
+
+    <T> Stream<T> stream(String sql, StatementBinder binder, RowMapper<T> rowMapper) {
+        Cursor<T> cursor = new Cursor<>(rowMapper);
+        try {
+            cursor.open(sql, binder);
+        } catch (SQLException | RuntimeException e) {
+            cursor.close();
+            throw new DaoOperationException(String.format("Error opening cursor for query: %s", sql), e);
+        }
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    private class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final RowMapper<T> rowMapper;
+        private Connection connection;
+        private boolean autoCommit;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private boolean closed;
+
+        Cursor(RowMapper<T> rowMapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rowMapper = rowMapper;
+        }
+
+        void open(String sql, StatementBinder binder) throws SQLException {
+            connection = dataSource.getConnection();
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            binder.bind(statement);
+            resultSet = statement.executeQuery();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!resultSet.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(rowMapper.mapRow(resultSet));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new DaoOperationException("Error reading cursor row", e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            if (connection != null) {
+                try {
+                    connection.commit();
+                    connection.setAutoCommit(autoCommit);
+                } catch (SQLException e) {
+                    LOGGER.warn("Error finishing cursor transaction", e);
+                }
+                closeQuietly(connection);
+            }
+        }
+
+        private void closeQuietly(AutoCloseable resource) {
+            if (resource == null) {
+                return;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.warn("Error closing cursor resource", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ua.foxminded.school.dao.impl;
+
+import java.util.Objects;
+
+public class DaoConfig {
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 5_000;
+    private static final CommitMode DEFAULT_COMMIT_MODE = CommitMode.SINGLE_TRANSACTION;
+    private static final int DEFAULT_FETCH_SIZE = 1_000;
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_LOOKUP_CHUNK_SIZE = 1_000;
+    private static final boolean DEFAULT_PARALLEL_ALL_OR_NOTHING = false;
+
+    private int batchChunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+    private CommitMode commitMode = DEFAULT_COMMIT_MODE;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private int lookupChunkSize = DEFAULT_LOOKUP_CHUNK_SIZE;
+    private boolean parallelAllOrNothing = DEFAULT_PARALLEL_ALL_OR_NOTHING;
+
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+
+    public void setBatchChunkSize(int batchChunkSize) {
+        if (batchChunkSize <= 0) {
+            throw new IllegalArgumentException("Batch chunk size must be positive");
+        }
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    public CommitMode getCommitMode() {
+        return commitMode;
+    }
+
+    public void setCommitMode(CommitMode commitMode) {
+        this.commitMode = Objects.requireNonNull(commitMode);
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getLookupChunkSize() {
+        return lookupChunkSize;
+    }
+
+    public void setLookupChunkSize(int lookupChunkSize) {
+        if (lookupChunkSize <= 0) {
+            throw new IllegalArgumentException("Lookup chunk size must be positive");
+        }
+        this.lookupChunkSize = lookupChunkSize;
+    }
+
+    public boolean isParallelAllOrNothing() {
+        return parallelAllOrNothing;
+    }
+
+    public void setParallelAllOrNothing(boolean parallelAllOrNothing) {
+        this.parallelAllOrNothing = parallelAllOrNothing;
+    }
+
+    @Override
+    public String toString() {
+        return "DaoConfig [batchChunkSize=" + batchChunkSize + ", commitMode=" + commitMode + ", fetchSize="
+                + fetchSize + ", parallelism=" + parallelism + ", lookupChunkSize=" + lookupChunkSize
+                + ", parallelAllOrNothing=" + parallelAllOrNothing + "]";
+    }
+
+    public enum CommitMode {
+        SINGLE_TRANSACTION, PER_CHUNK
+    }
+}
@@ -0,0 +1,24 @@
+package ua.foxminded.school.dao.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public enum DatabaseDialect {
+    POSTGRESQL("PostgreSQL"), H2("H2"), OTHER("");
+
+    private final String productName;
+
+    DatabaseDialect(String productName) {
+        this.productName = productName;
+    }
+
+    public static DatabaseDialect of(Connection connection) throws SQLException {
+        String databaseProductName = connection.getMetaData().getDatabaseProductName();
+        for (DatabaseDialect dialect : values()) {
+            if (dialect != OTHER && dialect.productName.equalsIgnoreCase(databaseProductName)) {
+                return dialect;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -16,22 +17,37 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.dao.impl.bulk.ChunkedBatchExecutor;
 import ua.foxminded.school.domain.model.Group;
 
 public class GroupDaoImpl implements GroupDao {
     private static final Logger LOGGER = LogManager.getLogger(GroupDaoImpl.class);
     private static final boolean SUCCESSFUL_OPERATION = true;
     private static final boolean FAILED_OPERATION = false;
-    private static final String INSERT_GROUP_SQL = "INSERT INTO groups(name) VALUES (?);";
-    private static final String SELECT_ALL_BY_STUDENTS_COUNT_SQL = "SELECT groups.id, groups.name "
-            + "FROM groups LEFT JOIN students ON groups.id = students.group_id "
-            + "WHERE groups.id != 0 GROUP BY groups.id HAVING COUNT(students.group_id) <= ? ORDER BY groups.id;";
+    private static final String SELECT_ALL_BY_STUDENTS_COUNT_SQL = "SELECT id, name FROM groups "
+            + "WHERE id != 0 AND students_count <= ? ORDER BY id;";
+    private static final String SELECT_ALL_BY_STUDENTS_COUNT_BETWEEN_SQL = "SELECT id, name FROM groups "
+            + "WHERE id != 0 AND students_count BETWEEN ? AND ? ORDER BY students_count, id;";
+    private static final String SELECT_LARGEST_GROUPS_SQL = "SELECT id, name FROM groups "
+            + "WHERE id != 0 ORDER BY students_count DESC, id LIMIT ?;";
+    private static final String SELECT_SMALLEST_GROUPS_SQL = "SELECT id, name FROM groups "
+            + "WHERE id != 0 ORDER BY students_count, id LIMIT ?;";
     private static final String SELECT_ALL_GROUPS_SQL = "SELECT * FROM groups WHERE groups.id != 0;";
 
     private final DataSource dataSource;
+    private final ChunkedBatchExecutor batchExecutor;
+    private final CursorStreams cursorStreams;
 
     public GroupDaoImpl(DataSource dataSource) {
+        this(dataSource, new DaoConfig());
+    }
+
+    public GroupDaoImpl(DataSource dataSource, DaoConfig daoConfig) {
         this.dataSource = dataSource;
+        this.batchExecutor = new ChunkedBatchExecutor(daoConfig);
+        this.cursorStreams = new CursorStreams(dataSource, daoConfig);
     }
 
     @Override
@@ -47,17 +63,8 @@ public class GroupDaoImpl implements GroupDao {
     }
 
     private void saveAllGroupsBatch(List<Group> groups, Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_GROUP_SQL)) {
-            performBatchInsert(statement, groups);
-        }
-    }
-
-    private void performBatchInsert(PreparedStatement statement, List<Group> groups) throws SQLException {
-        for (Group group : groups) {
-            statement.setString(1, group.getName());
-            statement.addBatch();
-        }
-        statement.executeBatch();
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        batchExecutor.execute(connection, groups.iterator(), bulkLoader::loadGroups);
     }
 
     @Override
@@ -71,8 +78,54 @@ public class GroupDaoImpl implements GroupDao {
     }
 
     private List<Group> findAllGroupsByStudentsCount(Connection connection, int studentsCount) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL_BY_STUDENTS_COUNT_SQL)) {
-            statement.setInt(1, studentsCount);
+        return findGroups(connection, SELECT_ALL_BY_STUDENTS_COUNT_SQL, studentsCount);
+    }
+
+    @Override
+    public List<Group> findAllByStudentsCountBetween(int minStudentsCount, int maxStudentsCount) {
+        try (Connection connection = dataSource.getConnection()) {
+            return findGroups(connection, SELECT_ALL_BY_STUDENTS_COUNT_BETWEEN_SQL, minStudentsCount,
+                    maxStudentsCount);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding groups by students count between %d and %d", minStudentsCount,
+                    maxStudentsCount), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Group> findLargest(int limit) {
+        checkLimit(limit);
+        try (Connection connection = dataSource.getConnection()) {
+            return findGroups(connection, SELECT_LARGEST_GROUPS_SQL, limit);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding %d largest groups", limit), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Group> findSmallest(int limit) {
+        checkLimit(limit);
+        try (Connection connection = dataSource.getConnection()) {
+            return findGroups(connection, SELECT_SMALLEST_GROUPS_SQL, limit);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding %d smallest groups", limit), e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void checkLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+
+    private List<Group> findGroups(Connection connection, String sql, int... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setInt(i + 1, parameters[i]);
+            }
             ResultSet resultSet = statement.executeQuery();
             return collectToList(resultSet);
         }
@@ -110,4 +163,10 @@ public class GroupDaoImpl implements GroupDao {
             return collectToList(resultSet);
         }
     }
+
+    @Override
+    public Stream<Group> streamAll() {
+        return cursorStreams.stream(SELECT_ALL_GROUPS_SQL, StatementBinder.NO_PARAMETERS,
+                this::createGroupFromResultSetRow);
+    }
 }
@@ -0,0 +1,84 @@
+package ua.foxminded.school.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+class MultiKeyQuery {
+    private static final String ANY_ARRAY_PREDICATE = "= ANY(?)";
+    private static final String IN_LIST_PREDICATE_FORMAT = "IN (%s)";
+
+    private final int chunkSize;
+
+    MultiKeyQuery(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    <K> List<List<K>> partition(Collection<K> keys) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<List<K>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += chunkSize) {
+            chunks.add(distinctKeys.subList(from, Math.min(from + chunkSize, distinctKeys.size())));
+        }
+        return chunks;
+    }
+
+    <K, T> List<T> findAll(Connection connection, String sqlFormat, String arrayElementType, Collection<K> keys,
+            RowMapper<T> rowMapper) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        for (List<K> chunk : partition(keys)) {
+            rows.addAll(findChunk(connection, sqlFormat, arrayElementType, chunk, rowMapper));
+        }
+        return rows;
+    }
+
+    <K, T> List<T> findChunk(Connection connection, String sqlFormat, String arrayElementType, List<K> chunk,
+            RowMapper<T> rowMapper) throws SQLException {
+        try (PreparedStatement statement = prepareChunk(connection, sqlFormat, arrayElementType, chunk)) {
+            List<T> rows = new ArrayList<>();
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                rows.add(rowMapper.mapRow(resultSet));
+            }
+            return rows;
+        }
+    }
+
+    <K> int updateChunk(Connection connection, String sqlFormat, String arrayElementType, List<K> chunk,
+            int... parameters) throws SQLException {
+        try (PreparedStatement statement = prepareChunk(connection, sqlFormat, arrayElementType, chunk, parameters)) {
+            return statement.executeUpdate();
+        }
+    }
+
+    private <K> PreparedStatement prepareChunk(Connection connection, String sqlFormat, String arrayElementType,
+            List<K> chunk, int... parameters) throws SQLException {
+        if (DatabaseDialect.of(connection) == DatabaseDialect.POSTGRESQL) {
+            PreparedStatement statement = connection.prepareStatement(String.format(sqlFormat, ANY_ARRAY_PREDICATE));
+            statement.setArray(1, connection.createArrayOf(arrayElementType, chunk.toArray()));
+            bindParameters(statement, 2, parameters);
+            return statement;
+        }
+        int placeholdersCount = Math.min(Integer.highestOneBit(chunk.size() * 2 - 1), chunkSize);
+        String placeholders = String.join(",", Collections.nCopies(placeholdersCount, "?"));
+        PreparedStatement statement = connection.prepareStatement(
+                String.format(sqlFormat, String.format(IN_LIST_PREDICATE_FORMAT, placeholders)));
+        for (int i = 0; i < placeholdersCount; i++) {
+            statement.setObject(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+        }
+        bindParameters(statement, placeholdersCount + 1, parameters);
+        return statement;
+    }
+
+    private void bindParameters(PreparedStatement statement, int firstIndex, int... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setInt(firstIndex + i, parameters[i]);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package ua.foxminded.school.dao.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@FunctionalInterface
+interface StatementBinder {
+    StatementBinder NO_PARAMETERS = statement -> {
+    };
+
+    void bind(PreparedStatement statement) throws SQLException;
+}
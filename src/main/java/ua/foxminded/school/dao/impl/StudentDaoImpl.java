@@ -6,43 +6,108 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import ua.foxminded.school.dao.BulkOperationResult;
 import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.dao.impl.bulk.ChunkedBatchExecutor;
+import ua.foxminded.school.dao.impl.bulk.EnrollmentIterator;
+import ua.foxminded.school.dao.impl.bulk.ParallelBulkInserter;
+import ua.foxminded.school.dao.impl.bulk.StudentsCountUpdater;
 import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
 import ua.foxminded.school.domain.model.Student;
 
 public class StudentDaoImpl implements StudentDao {
     private static final Logger LOGGER = LogManager.getLogger(StudentDaoImpl.class);
     private static final boolean SUCCESSFUL_OPERATION = true;
     private static final boolean FAILED_OPERATION = false;
-    private static final String INSERT_STUDENT_SQL = "INSERT INTO students(group_id, first_name, last_name) VALUES (?,?,?);";
-    private static final String INSERT_STUDENTS_COURSES_SQL = "INSERT INTO students_courses(student_id, course_id) VALUES (?,?);";
+    private static final String INSERT_STUDENTS_COURSES_ON_CONFLICT_DO_NOTHING_SQL = "INSERT INTO students_courses(student_id, course_id) "
+            + "VALUES (?,?) ON CONFLICT DO NOTHING;";
+    private static final String INSERT_MISSING_STUDENTS_COURSES_SQL = "INSERT INTO students_courses(student_id, course_id) "
+            + "SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM students_courses WHERE student_id = ? AND course_id = ?);";
     private static final String SELECT_STUDENTS_BY_COURSE_NAME_SQL = "SELECT students.id, students.group_id, students.first_name, students.last_name "
             + "FROM students_courses INNER JOIN students ON students.id = students_courses.student_id "
             + "INNER JOIN courses ON courses.id = students_courses.course_id WHERE courses.name = ?;";
+    private static final String SELECT_STUDENTS_BY_COURSE_NAMES_SQL_FORMAT = "SELECT courses.name AS course_name, "
+            + "students.id, students.group_id, students.first_name, students.last_name "
+            + "FROM courses INNER JOIN students_courses ON students_courses.course_id = courses.id "
+            + "INNER JOIN students ON students.id = students_courses.student_id "
+            + "WHERE courses.name %s ORDER BY courses.name, students.id;";
+    private static final String VARCHAR_ARRAY_TYPE = "varchar";
     private static final String INSERT_STUDENT_WITHOUT_GROUP_SQL = "INSERT INTO students(group_id, first_name, last_name) VALUES (?, ?, ?);";
     private static final String DELETE_STUDENT_BY_ID_SQL = "DELETE FROM students WHERE students.id = ?;";
+    private static final String SUBTRACT_STUDENT_FROM_GROUP_COUNT_SQL = "UPDATE groups SET students_count = students_count - 1 "
+            + "WHERE id = (SELECT group_id FROM students WHERE students.id = ?);";
     private static final String SELECT_ALL_STUDENTS_SQL = "SELECT * FROM students;";
+    private static final String SELECT_ALL_ENROLLMENTS_SQL = "SELECT student_id, course_id FROM students_courses;";
+    private static final String SELECT_STUDENTS_PAGE_SQL = "SELECT id, group_id, first_name, last_name FROM students "
+            + "WHERE id > ? ORDER BY id LIMIT ?;";
+    private static final String SELECT_STUDENTS_PAGE_BY_GROUP_ID_SQL = "SELECT id, group_id, first_name, last_name "
+            + "FROM students WHERE group_id = ? AND id > ? ORDER BY id LIMIT ?;";
+    private static final String SELECT_STUDENTS_PAGE_BY_COURSE_ID_SQL = "SELECT students.id, students.group_id, students.first_name, students.last_name "
+            + "FROM (SELECT student_id FROM students_courses WHERE course_id = ? AND student_id > ? "
+            + "ORDER BY student_id LIMIT ?) page INNER JOIN students ON students.id = page.student_id "
+            + "ORDER BY students.id;";
     private static final String DELETE_STUDENT_FROM_COURSE_SQL = "DELETE FROM students_courses WHERE student_id = ? AND course_id = ?";
+    private static final String DELETE_STUDENTS_COURSES_BY_PAIRS_SQL = "DELETE FROM students_courses "
+            + "WHERE (student_id, course_id) IN (SELECT * FROM unnest(?::int[], ?::int[])) "
+            + "RETURNING student_id, course_id;";
+    private static final String SELECT_STUDENTS_GROUPS_FOR_UPDATE_SQL_FORMAT = "SELECT id, group_id FROM students "
+            + "WHERE id %s FOR UPDATE;";
+    private static final String DELETE_STUDENTS_BY_IDS_SQL_FORMAT = "DELETE FROM students WHERE id %s;";
+    private static final String SELECT_COURSE_STUDENT_IDS_FOR_UPDATE_SQL = "SELECT student_id FROM students_courses "
+            + "WHERE course_id = ? AND student_id > ? ORDER BY student_id LIMIT ? FOR UPDATE;";
+    private static final String DELETE_STUDENTS_FROM_COURSE_SQL_FORMAT = "DELETE FROM students_courses "
+            + "WHERE student_id %s AND course_id = ?;";
+    private static final String INTEGER_ARRAY_TYPE = "integer";
 
     private final DataSource dataSource;
+    private final ChunkedBatchExecutor batchExecutor;
+    private final CursorStreams cursorStreams;
+    private final ParallelBulkInserter parallelBulkInserter;
+    private final MultiKeyQuery multiKeyQuery;
+    private final MultiKeyQuery bulkDeleteQuery;
+    private final int bulkDeleteChunkSize;
 
     public StudentDaoImpl(DataSource dataSource) {
+        this(dataSource, new DaoConfig());
+    }
+
+    public StudentDaoImpl(DataSource dataSource, DaoConfig daoConfig) {
         this.dataSource = dataSource;
+        this.batchExecutor = new ChunkedBatchExecutor(daoConfig);
+        this.cursorStreams = new CursorStreams(dataSource, daoConfig);
+        this.parallelBulkInserter = new ParallelBulkInserter(dataSource, daoConfig);
+        this.multiKeyQuery = new MultiKeyQuery(daoConfig.getLookupChunkSize());
+        this.bulkDeleteQuery = new MultiKeyQuery(daoConfig.getBatchChunkSize());
+        this.bulkDeleteChunkSize = daoConfig.getBatchChunkSize();
     }
 
     @Override
     public boolean saveAllBatch(List<Student> students) {
         Objects.requireNonNull(students);
+        if (parallelBulkInserter.isEnabled()) {
+            return saveAllStudentsInParallel(students);
+        }
         try (Connection connection = dataSource.getConnection()) {
             saveAllStudents(students, connection);
             return SUCCESSFUL_OPERATION;
@@ -52,18 +117,19 @@ public class StudentDaoImpl implements StudentDao {
         }
     }
 
-    private void saveAllStudents(List<Student> students, Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENT_SQL)) {
-            performBatchStudentsInsert(statement, students);
+    private boolean saveAllStudentsInParallel(List<Student> students) {
+        try {
+            parallelBulkInserter.insertStudents(students);
+            return SUCCESSFUL_OPERATION;
+        } catch (SQLException e) {
+            LOGGER.error("Error saving students in parallel", e);
+            return FAILED_OPERATION;
         }
     }
 
-    private void performBatchStudentsInsert(PreparedStatement statement, List<Student> students) throws SQLException {
-        for (Student student : students) {
-            fillStudentInsertStatement(student, statement);
-            statement.addBatch();
-        }
-        statement.executeBatch();
+    private void saveAllStudents(List<Student> students, Connection connection) throws SQLException {
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        batchExecutor.execute(connection, students.iterator(), bulkLoader::loadStudents);
     }
 
     private PreparedStatement fillStudentInsertStatement(Student student, PreparedStatement statement)
@@ -77,6 +143,9 @@ public class StudentDaoImpl implements StudentDao {
     @Override
     public boolean assignToCoursesBatch(Map<Student, List<Course>> studentsCourses) {
         Objects.requireNonNull(studentsCourses);
+        if (parallelBulkInserter.isEnabled()) {
+            return assignStudentsToCoursesInParallel(studentsCourses);
+        }
         try (Connection connection = dataSource.getConnection()) {
             assignStudentsToCourses(studentsCourses, connection);
             return SUCCESSFUL_OPERATION;
@@ -86,24 +155,41 @@ public class StudentDaoImpl implements StudentDao {
         }
     }
 
-    private void assignStudentsToCourses(Map<Student, List<Course>> studentsCourses, Connection connection)
-            throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENTS_COURSES_SQL)) {
-            performBatchStudentsCoursesInsert(statement, studentsCourses);
+    private boolean assignStudentsToCoursesInParallel(Map<Student, List<Course>> studentsCourses) {
+        try {
+            parallelBulkInserter.insertEnrollments(new EnrollmentIterator(studentsCourses));
+            return SUCCESSFUL_OPERATION;
+        } catch (SQLException e) {
+            LOGGER.error("Error assigning students to courses in parallel", e);
+            return FAILED_OPERATION;
         }
     }
 
-    private void performBatchStudentsCoursesInsert(PreparedStatement statement,
-            Map<Student, List<Course>> studentsCourses) throws SQLException {
-        for (Map.Entry<Student, List<Course>> entry : studentsCourses.entrySet()) {
-            Student student = entry.getKey();
-            List<Course> courses = entry.getValue();
-            for (Course course : courses) {
-                fillStudentsCoursesInsertStatement(student.getId(), course.getId(), statement);
-                statement.addBatch();
-            }
+    @Override
+    public OptionalInt assignAllToCourses(Collection<Enrollment> enrollments) {
+        Objects.requireNonNull(enrollments);
+        try (Connection connection = dataSource.getConnection()) {
+            return OptionalInt.of(insertMissingEnrollments(enrollments, connection));
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error assigning %d enrollments", enrollments.size()), e);
+            return OptionalInt.empty();
         }
-        statement.executeBatch();
+    }
+
+    private int insertMissingEnrollments(Collection<Enrollment> enrollments, Connection connection)
+            throws SQLException {
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        AtomicInteger insertedCount = new AtomicInteger();
+        batchExecutor.execute(connection, new LinkedHashSet<>(enrollments).iterator(), (chunkConnection,
+                chunk) -> insertedCount.addAndGet(bulkLoader.loadStudentsCourses(chunkConnection, chunk)));
+        return insertedCount.get();
+    }
+
+    private void assignStudentsToCourses(Map<Student, List<Course>> studentsCourses, Connection connection)
+            throws SQLException {
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        EnrollmentIterator enrollments = new EnrollmentIterator(studentsCourses);
+        batchExecutor.execute(connection, enrollments, bulkLoader::loadStudentsCourses);
     }
 
     private void fillStudentsCoursesInsertStatement(int studentId, int courseId, PreparedStatement statement)
@@ -131,6 +217,34 @@ public class StudentDaoImpl implements StudentDao {
         }
     }
 
+    @Override
+    public Stream<Student> streamAllByCourseName(String courseName) {
+        Objects.requireNonNull(courseName);
+        return cursorStreams.stream(SELECT_STUDENTS_BY_COURSE_NAME_SQL, statement -> statement.setString(1, courseName),
+                this::createStudentFromResultSetRow);
+    }
+
+    @Override
+    public Map<String, List<Student>> findAllByCourseNames(Collection<String> courseNames) {
+        Objects.requireNonNull(courseNames);
+        Map<String, List<Student>> coursesStudents = new LinkedHashMap<>();
+        courseNames.forEach(courseName -> coursesStudents.put(courseName, new ArrayList<>()));
+        if (courseNames.isEmpty()) {
+            return coursesStudents;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            List<Map.Entry<String, Student>> rows = multiKeyQuery.findAll(connection,
+                    SELECT_STUDENTS_BY_COURSE_NAMES_SQL_FORMAT, VARCHAR_ARRAY_TYPE, courseNames,
+                    resultSet -> Map.entry(resultSet.getString("course_name"),
+                            createStudentFromResultSetRow(resultSet)));
+            rows.forEach(row -> coursesStudents.get(row.getKey()).add(row.getValue()));
+            return coursesStudents;
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding students by %d course names", courseNames.size()), e);
+            return Collections.emptyMap();
+        }
+    }
+
     private List<Student> collectToList(ResultSet resultSet) throws SQLException {
         List<Student> students = new ArrayList<>();
         while (resultSet.next()) {
@@ -161,6 +275,26 @@ public class StudentDaoImpl implements StudentDao {
     }
 
     private boolean saveStudent(Student student, Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            boolean saved = insertStudent(student, connection);
+            if (saved) {
+                StudentsCountUpdater.addStudents(connection, List.of(student));
+                connection.commit();
+            } else {
+                connection.rollback();
+            }
+            return saved;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean insertStudent(Student student, Connection connection) throws SQLException {
         try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENT_WITHOUT_GROUP_SQL,
                 PreparedStatement.RETURN_GENERATED_KEYS);) {
             fillStudentInsertStatement(student, statement);
@@ -208,16 +342,78 @@ public class StudentDaoImpl implements StudentDao {
     }
 
     private boolean deleteStudentById(int studentId, Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(DELETE_STUDENT_BY_ID_SQL,
-                PreparedStatement.RETURN_GENERATED_KEYS)) {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement countStatement = connection.prepareStatement(SUBTRACT_STUDENT_FROM_GROUP_COUNT_SQL);
+                PreparedStatement statement = connection.prepareStatement(DELETE_STUDENT_BY_ID_SQL)) {
+            countStatement.setInt(1, studentId);
+            countStatement.executeUpdate();
             statement.setInt(1, studentId);
             if (!executeUpdate(statement, String.format("Does not exist student with given ID: %d", studentId))) {
+                connection.rollback();
                 return FAILED_OPERATION;
             }
+            connection.commit();
             return SUCCESSFUL_OPERATION;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
         }
     }
 
+    @Override
+    public BulkOperationResult<Integer> deleteByIds(Collection<Integer> studentIds) {
+        Objects.requireNonNull(studentIds);
+        BulkOperationResult<Integer> result = new BulkOperationResult<>();
+        List<List<Integer>> chunks = bulkDeleteQuery.partition(studentIds);
+        if (chunks.isEmpty()) {
+            return result;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            for (List<Integer> chunk : chunks) {
+                deleteStudentsChunk(chunk, result, connection);
+            }
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error deleting %d students", studentIds.size()), e);
+            markUnprocessedAsFailed(chunks, result);
+        }
+        return result;
+    }
+
+    private void deleteStudentsChunk(List<Integer> chunk, BulkOperationResult<Integer> result, Connection connection) {
+        try {
+            Set<Integer> deletedIds = inTransaction(connection, () -> deleteExistingStudents(chunk, connection));
+            result.addSucceeded(deletedIds);
+            result.addNotFound(chunk.stream().filter(id -> !deletedIds.contains(id)).toList());
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error deleting chunk of %d students starting with ID: %d", chunk.size(),
+                    chunk.get(0)), e);
+            result.addFailed(chunk);
+        }
+    }
+
+    private Set<Integer> deleteExistingStudents(List<Integer> chunk, Connection connection) throws SQLException {
+        List<Map.Entry<Integer, Integer>> studentsGroups = bulkDeleteQuery.findChunk(connection,
+                SELECT_STUDENTS_GROUPS_FOR_UPDATE_SQL_FORMAT, INTEGER_ARRAY_TYPE, chunk,
+                resultSet -> Map.entry(resultSet.getInt("id"), resultSet.getInt("group_id")));
+        Set<Integer> existingIds = new LinkedHashSet<>();
+        Map<Integer, Integer> groupsRemovedCounts = new TreeMap<>();
+        for (Map.Entry<Integer, Integer> studentGroup : studentsGroups) {
+            existingIds.add(studentGroup.getKey());
+            groupsRemovedCounts.merge(studentGroup.getValue(), 1, Integer::sum);
+        }
+        if (existingIds.isEmpty()) {
+            return existingIds;
+        }
+        int deletedCount = bulkDeleteQuery.updateChunk(connection, DELETE_STUDENTS_BY_IDS_SQL_FORMAT,
+                INTEGER_ARRAY_TYPE, new ArrayList<>(existingIds));
+        checkDeletedCount(existingIds.size(), deletedCount);
+        StudentsCountUpdater.subtractStudents(connection, groupsRemovedCounts);
+        return existingIds;
+    }
+
     @Override
     public List<Student> findAll() {
         try (Connection connection = dataSource.getConnection()) {
@@ -235,6 +431,70 @@ public class StudentDaoImpl implements StudentDao {
         }
     }
 
+    @Override
+    public Stream<Student> streamAll() {
+        return cursorStreams.stream(SELECT_ALL_STUDENTS_SQL, StatementBinder.NO_PARAMETERS,
+                this::createStudentFromResultSetRow);
+    }
+
+    @Override
+    public Stream<Enrollment> streamAllEnrollments() {
+        return cursorStreams.stream(SELECT_ALL_ENROLLMENTS_SQL, StatementBinder.NO_PARAMETERS,
+                resultSet -> new Enrollment(resultSet.getInt("student_id"), resultSet.getInt("course_id")));
+    }
+
+    @Override
+    public List<Student> findPage(int afterId, int limit) {
+        checkPageLimit(limit);
+        try (Connection connection = dataSource.getConnection()) {
+            return findStudentsPage(connection, SELECT_STUDENTS_PAGE_SQL, afterId, limit);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding students page after ID: %d", afterId), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Student> findPageByGroupId(int groupId, int afterId, int limit) {
+        checkPageLimit(limit);
+        try (Connection connection = dataSource.getConnection()) {
+            return findStudentsPage(connection, SELECT_STUDENTS_PAGE_BY_GROUP_ID_SQL, groupId, afterId, limit);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error finding students page by group ID: %d after ID: %d", groupId, afterId),
+                    e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Student> findPageByCourseId(int courseId, int afterId, int limit) {
+        checkPageLimit(limit);
+        try (Connection connection = dataSource.getConnection()) {
+            return findStudentsPage(connection, SELECT_STUDENTS_PAGE_BY_COURSE_ID_SQL, courseId, afterId, limit);
+        } catch (SQLException e) {
+            LOGGER.error(
+                    String.format("Error finding students page by course ID: %d after ID: %d", courseId, afterId), e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void checkPageLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+    }
+
+    private List<Student> findStudentsPage(Connection connection, String sql, int... parameters)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setInt(i + 1, parameters[i]);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            return collectToList(resultSet);
+        }
+    }
+
     @Override
     public boolean assignToCourse(int studentId, int courseId) {
         try (Connection connection = dataSource.getConnection()) {
@@ -247,15 +507,18 @@ public class StudentDaoImpl implements StudentDao {
     }
 
     private boolean assignStudentToCourse(int studentId, int courseId, Connection connection) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_STUDENTS_COURSES_SQL,
-                PreparedStatement.RETURN_GENERATED_KEYS)) {
-            fillStudentsCoursesInsertStatement(studentId, courseId, statement);
-
-            if (!executeUpdate(statement,
-                    String.format("Cannot assign student with ID: %d to course with ID: %d", studentId, courseId))) {
-                return FAILED_OPERATION;
+        if (DatabaseDialect.of(connection) == DatabaseDialect.POSTGRESQL) {
+            try (PreparedStatement statement = connection
+                    .prepareStatement(INSERT_STUDENTS_COURSES_ON_CONFLICT_DO_NOTHING_SQL)) {
+                fillStudentsCoursesInsertStatement(studentId, courseId, statement);
+                return statement.executeUpdate() > 0;
             }
-            return SUCCESSFUL_OPERATION;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_MISSING_STUDENTS_COURSES_SQL)) {
+            fillStudentsCoursesInsertStatement(studentId, courseId, statement);
+            statement.setInt(3, studentId);
+            statement.setInt(4, courseId);
+            return statement.executeUpdate() > 0;
         }
     }
 
@@ -284,10 +547,161 @@ public class StudentDaoImpl implements StudentDao {
         }
     }
 
+    @Override
+    public BulkOperationResult<Enrollment> deleteFromCourses(Collection<Enrollment> enrollments) {
+        Objects.requireNonNull(enrollments);
+        BulkOperationResult<Enrollment> result = new BulkOperationResult<>();
+        List<List<Enrollment>> chunks = bulkDeleteQuery.partition(enrollments);
+        if (chunks.isEmpty()) {
+            return result;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            for (List<Enrollment> chunk : chunks) {
+                deleteEnrollmentsChunk(chunk, result, connection);
+            }
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error deleting %d enrollments", enrollments.size()), e);
+            markUnprocessedAsFailed(chunks, result);
+        }
+        return result;
+    }
+
+    private void deleteEnrollmentsChunk(List<Enrollment> chunk, BulkOperationResult<Enrollment> result,
+            Connection connection) {
+        try {
+            Set<Enrollment> deletedEnrollments = inTransaction(connection, () -> deleteEnrollments(chunk, connection));
+            result.addSucceeded(chunk.stream().filter(deletedEnrollments::contains).toList());
+            result.addNotFound(chunk.stream().filter(enrollment -> !deletedEnrollments.contains(enrollment)).toList());
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error deleting chunk of %d enrollments starting with: %s", chunk.size(),
+                    chunk.get(0)), e);
+            result.addFailed(chunk);
+        }
+    }
+
+    private Set<Enrollment> deleteEnrollments(List<Enrollment> chunk, Connection connection) throws SQLException {
+        if (DatabaseDialect.of(connection) == DatabaseDialect.POSTGRESQL) {
+            return deleteEnrollmentsByPairs(chunk, connection);
+        }
+        Set<Enrollment> deletedEnrollments = new LinkedHashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_STUDENT_FROM_COURSE_SQL)) {
+            for (Enrollment enrollment : chunk) {
+                fillDeleteFromCourseStatement(statement, enrollment.getStudentId(), enrollment.getCourseId());
+                statement.addBatch();
+            }
+            int[] deletedCounts = statement.executeBatch();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (deletedCounts[i] != 0) {
+                    deletedEnrollments.add(chunk.get(i));
+                }
+            }
+        }
+        return deletedEnrollments;
+    }
+
+    private Set<Enrollment> deleteEnrollmentsByPairs(List<Enrollment> chunk, Connection connection)
+            throws SQLException {
+        Object[] studentIds = chunk.stream().map(Enrollment::getStudentId).toArray();
+        Object[] courseIds = chunk.stream().map(Enrollment::getCourseId).toArray();
+        Set<Enrollment> deletedEnrollments = new LinkedHashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_STUDENTS_COURSES_BY_PAIRS_SQL)) {
+            statement.setArray(1, connection.createArrayOf(INTEGER_ARRAY_TYPE, studentIds));
+            statement.setArray(2, connection.createArrayOf(INTEGER_ARRAY_TYPE, courseIds));
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                deletedEnrollments.add(new Enrollment(resultSet.getInt("student_id"), resultSet.getInt("course_id")));
+            }
+        }
+        return deletedEnrollments;
+    }
+
+    @Override
+    public BulkOperationResult<Integer> deleteAllFromCourse(int courseId) {
+        BulkOperationResult<Integer> result = new BulkOperationResult<>();
+        try (Connection connection = dataSource.getConnection()) {
+            int afterId = 0;
+            List<Integer> lockedIds = new ArrayList<>();
+            do {
+                int chunkAfterId = afterId;
+                lockedIds.clear();
+                try {
+                    inTransaction(connection,
+                            () -> deleteCourseStudentsChunk(courseId, chunkAfterId, lockedIds, connection));
+                } catch (SQLException e) {
+                    LOGGER.error(String.format("Error deleting students from course with ID: %d after student ID: %d",
+                            courseId, chunkAfterId), e);
+                    result.addFailed(lockedIds);
+                    result.abort();
+                    return result;
+                }
+                result.addSucceeded(lockedIds);
+                afterId = lockedIds.isEmpty() ? afterId : lockedIds.get(lockedIds.size() - 1);
+            } while (lockedIds.size() == bulkDeleteChunkSize);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Error deleting students from course with ID: %d", courseId), e);
+            result.abort();
+        }
+        return result;
+    }
+
+    private int deleteCourseStudentsChunk(int courseId, int afterId, List<Integer> lockedIds, Connection connection)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_COURSE_STUDENT_IDS_FOR_UPDATE_SQL)) {
+            statement.setInt(1, courseId);
+            statement.setInt(2, afterId);
+            statement.setInt(3, bulkDeleteChunkSize);
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                lockedIds.add(resultSet.getInt("student_id"));
+            }
+        }
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+        int deletedCount = bulkDeleteQuery.updateChunk(connection, DELETE_STUDENTS_FROM_COURSE_SQL_FORMAT,
+                INTEGER_ARRAY_TYPE, lockedIds, courseId);
+        checkDeletedCount(lockedIds.size(), deletedCount);
+        return deletedCount;
+    }
+
+    private void checkDeletedCount(int expectedCount, int deletedCount) throws SQLException {
+        if (deletedCount != expectedCount) {
+            throw new SQLException(
+                    String.format("Expected to delete %d locked rows, but deleted %d", expectedCount, deletedCount));
+        }
+    }
+
+    private <K> void markUnprocessedAsFailed(List<List<K>> chunks, BulkOperationResult<K> result) {
+        chunks.stream().flatMap(List::stream)
+                .filter(key -> !result.getSucceeded().contains(key) && !result.getNotFound().contains(key)
+                        && !result.getFailed().contains(key))
+                .forEach(key -> result.addFailed(List.of(key)));
+    }
+
+    private <T> T inTransaction(Connection connection, TransactionWork<T> work) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            T result = work.execute();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
     private PreparedStatement fillDeleteFromCourseStatement(PreparedStatement deleteFromCourseStatement, int studentId,
             int courseId) throws SQLException {
         deleteFromCourseStatement.setInt(1, studentId);
         deleteFromCourseStatement.setInt(2, courseId);
         return deleteFromCourseStatement;
     }
+
+    @FunctionalInterface
+    private interface TransactionWork<T> {
+        T execute() throws SQLException;
+    }
 }
@@ -0,0 +1,26 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+
+public interface BulkLoader {
+    void loadGroups(Connection connection, List<Group> groups) throws SQLException;
+
+    void loadCourses(Connection connection, List<Course> courses) throws SQLException;
+
+    void loadStudents(Connection connection, List<Student> students) throws SQLException;
+
+    int loadStudentsCourses(Connection connection, List<Enrollment> enrollments) throws SQLException;
+
+    int restoreGroups(Connection connection, List<Group> groups) throws SQLException;
+
+    int restoreCourses(Connection connection, List<Course> courses) throws SQLException;
+
+    int restoreStudents(Connection connection, List<Student> students) throws SQLException;
+}
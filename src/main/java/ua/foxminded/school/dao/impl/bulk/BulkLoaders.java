@@ -0,0 +1,31 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import ua.foxminded.school.dao.impl.DatabaseDialect;
+
+public class BulkLoaders {
+    private static final String GROUPS_TABLE = "groups";
+    private static final String COURSES_TABLE = "courses";
+    private static final String STUDENTS_TABLE = "students";
+    private static final BulkLoader COPY_BULK_LOADER = new CopyBulkLoader();
+    private static final BulkLoader MULTI_ROW_INSERT_BULK_LOADER = new MultiRowInsertBulkLoader();
+
+    private BulkLoaders() {
+    }
+
+    public static void completeRestore(Connection connection) throws SQLException {
+        SequenceIdReserver.restartAfterMaxId(connection, GROUPS_TABLE);
+        SequenceIdReserver.restartAfterMaxId(connection, COURSES_TABLE);
+        SequenceIdReserver.restartAfterMaxId(connection, STUDENTS_TABLE);
+        StudentsCountUpdater.recountAll(connection);
+    }
+
+    public static BulkLoader forConnection(Connection connection) throws SQLException {
+        if (DatabaseDialect.of(connection) == DatabaseDialect.POSTGRESQL) {
+            return COPY_BULK_LOADER;
+        }
+        return MULTI_ROW_INSERT_BULK_LOADER;
+    }
+}
@@ -0,0 +1,57 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import ua.foxminded.school.dao.impl.DaoConfig;
+import ua.foxminded.school.dao.impl.DaoConfig.CommitMode;
+
+public class ChunkedBatchExecutor {
+    private final DaoConfig daoConfig;
+
+    public ChunkedBatchExecutor(DaoConfig daoConfig) {
+        this.daoConfig = daoConfig;
+    }
+
+    public <T> int execute(Connection connection, Iterator<T> rows, ChunkLoader<T> chunkLoader) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            int rowsCount = loadChunks(connection, rows, chunkLoader);
+            connection.commit();
+            return rowsCount;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private <T> int loadChunks(Connection connection, Iterator<T> rows, ChunkLoader<T> chunkLoader)
+            throws SQLException {
+        int chunkSize = daoConfig.getBatchChunkSize();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        int rowsCount = 0;
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize || !rows.hasNext()) {
+                chunkLoader.load(connection, chunk);
+                if (daoConfig.getCommitMode() == CommitMode.PER_CHUNK) {
+                    connection.commit();
+                }
+                rowsCount += chunk.size();
+                chunk.clear();
+            }
+        }
+        return rowsCount;
+    }
+
+    @FunctionalInterface
+    public interface ChunkLoader<T> {
+        void load(Connection connection, List<T> chunk) throws SQLException;
+    }
+}
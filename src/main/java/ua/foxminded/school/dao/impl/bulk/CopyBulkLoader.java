@@ -0,0 +1,144 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+
+class CopyBulkLoader implements BulkLoader {
+    private static final String GROUPS_TABLE = "groups";
+    private static final String COURSES_TABLE = "courses";
+    private static final String STUDENTS_TABLE = "students";
+    private static final String COPY_GROUPS_SQL = "COPY groups(id, name) FROM STDIN";
+    private static final String COPY_COURSES_SQL = "COPY courses(id, name, description) FROM STDIN";
+    private static final String COPY_STUDENTS_SQL = "COPY students(id, group_id, first_name, last_name) FROM STDIN";
+    private static final String CREATE_INCOMING_STUDENTS_COURSES_SQL = "CREATE TEMPORARY TABLE IF NOT EXISTS "
+            + "students_courses_incoming (student_id INT NOT NULL, course_id INT NOT NULL) ON COMMIT DELETE ROWS;";
+    private static final String COPY_INCOMING_STUDENTS_COURSES_SQL = "COPY students_courses_incoming(student_id, course_id) FROM STDIN";
+    private static final String MOVE_INCOMING_STUDENTS_COURSES_SQL = "INSERT INTO students_courses(student_id, course_id) "
+            + "SELECT DISTINCT student_id, course_id FROM students_courses_incoming ON CONFLICT DO NOTHING;";
+    private static final String CLEAR_INCOMING_STUDENTS_COURSES_SQL = "TRUNCATE students_courses_incoming;";
+    private static final String GROUPS_COLUMNS = "id, name";
+    private static final String COURSES_COLUMNS = "id, name, description";
+    private static final String STUDENTS_COLUMNS = "id, group_id, first_name, last_name";
+    private static final String CREATE_INCOMING_TABLE_SQL_FORMAT = "CREATE TEMPORARY TABLE IF NOT EXISTS "
+            + "%1$s_incoming (LIKE %1$s INCLUDING DEFAULTS) ON COMMIT DELETE ROWS;";
+    private static final String COPY_INCOMING_SQL_FORMAT = "COPY %s_incoming(%s) FROM STDIN";
+    private static final String MOVE_INCOMING_SQL_FORMAT = "INSERT INTO %1$s(%2$s) SELECT %2$s FROM %1$s_incoming "
+            + "ON CONFLICT DO NOTHING;";
+    private static final String CLEAR_INCOMING_SQL_FORMAT = "TRUNCATE %s_incoming;";
+
+    @Override
+    public void loadGroups(Connection connection, List<Group> groups) throws SQLException {
+        SequenceIdReserver.reserveIds(connection, GROUPS_TABLE, groups, Group::setId);
+        copy(connection, COPY_GROUPS_SQL, groups, (encoder, group) -> {
+            encoder.writeInt(group.getId());
+            encoder.writeText(group.getName());
+        });
+    }
+
+    @Override
+    public void loadCourses(Connection connection, List<Course> courses) throws SQLException {
+        SequenceIdReserver.reserveIds(connection, COURSES_TABLE, courses, Course::setId);
+        copy(connection, COPY_COURSES_SQL, courses, (encoder, course) -> {
+            encoder.writeInt(course.getId());
+            encoder.writeText(course.getName());
+            encoder.writeText(course.getDescription());
+        });
+    }
+
+    @Override
+    public void loadStudents(Connection connection, List<Student> students) throws SQLException {
+        SequenceIdReserver.reserveIds(connection, STUDENTS_TABLE, students, Student::setId);
+        copy(connection, COPY_STUDENTS_SQL, students, (encoder, student) -> {
+            encoder.writeInt(student.getId());
+            encoder.writeInt(student.getGroupId());
+            encoder.writeText(student.getFirstName());
+            encoder.writeText(student.getLastName());
+        });
+        StudentsCountUpdater.addStudents(connection, students);
+    }
+
+    @Override
+    public int loadStudentsCourses(Connection connection, List<Enrollment> enrollments) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(CREATE_INCOMING_STUDENTS_COURSES_SQL);
+            copy(connection, COPY_INCOMING_STUDENTS_COURSES_SQL, enrollments, (encoder, enrollment) -> {
+                encoder.writeInt(enrollment.getStudentId());
+                encoder.writeInt(enrollment.getCourseId());
+            });
+            int insertedCount = statement.executeUpdate(MOVE_INCOMING_STUDENTS_COURSES_SQL);
+            statement.executeUpdate(CLEAR_INCOMING_STUDENTS_COURSES_SQL);
+            return insertedCount;
+        }
+    }
+
+    @Override
+    public int restoreGroups(Connection connection, List<Group> groups) throws SQLException {
+        return copyMissing(connection, GROUPS_TABLE, GROUPS_COLUMNS, groups, (encoder, group) -> {
+            encoder.writeInt(group.getId());
+            encoder.writeText(group.getName());
+        });
+    }
+
+    @Override
+    public int restoreCourses(Connection connection, List<Course> courses) throws SQLException {
+        return copyMissing(connection, COURSES_TABLE, COURSES_COLUMNS, courses, (encoder, course) -> {
+            encoder.writeInt(course.getId());
+            encoder.writeText(course.getName());
+            encoder.writeText(course.getDescription());
+        });
+    }
+
+    @Override
+    public int restoreStudents(Connection connection, List<Student> students) throws SQLException {
+        return copyMissing(connection, STUDENTS_TABLE, STUDENTS_COLUMNS, students, (encoder, student) -> {
+            encoder.writeInt(student.getId());
+            encoder.writeInt(student.getGroupId());
+            encoder.writeText(student.getFirstName());
+            encoder.writeText(student.getLastName());
+        });
+    }
+
+    private <T> int copyMissing(Connection connection, String tableName, String columns, List<T> rows,
+            RowEncoder<T> rowEncoder) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(String.format(CREATE_INCOMING_TABLE_SQL_FORMAT, tableName));
+            copy(connection, String.format(COPY_INCOMING_SQL_FORMAT, tableName, columns), rows, rowEncoder);
+            int insertedCount = statement.executeUpdate(String.format(MOVE_INCOMING_SQL_FORMAT, tableName, columns));
+            statement.executeUpdate(String.format(CLEAR_INCOMING_SQL_FORMAT, tableName));
+            return insertedCount;
+        }
+    }
+
+    private <T> long copy(Connection connection, String copySql, List<T> rows, RowEncoder<T> rowEncoder)
+            throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        CopyIn copyIn = copyManager.copyIn(copySql);
+        CopyRowEncoder encoder = new CopyRowEncoder(copyIn);
+        try {
+            for (T row : rows) {
+                rowEncoder.encode(encoder, row);
+                encoder.endRow();
+            }
+            return encoder.finish();
+        } catch (SQLException | RuntimeException e) {
+            encoder.cancel();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowEncoder<T> {
+        void encode(CopyRowEncoder encoder, T row) throws SQLException;
+    }
+}
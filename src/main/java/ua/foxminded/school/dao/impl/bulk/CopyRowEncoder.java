@@ -0,0 +1,130 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.SQLException;
+
+import org.postgresql.copy.CopyIn;
+
+class CopyRowEncoder {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BYTES_PER_CHAR = 4;
+    private static final int MAX_INT_LENGTH = 11;
+    private static final byte COLUMN_DELIMITER = '\t';
+    private static final byte ROW_DELIMITER = '\n';
+    private static final byte ESCAPE = '\\';
+
+    private final CopyIn copyIn;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private boolean rowStarted;
+
+    CopyRowEncoder(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    void writeInt(int value) throws SQLException {
+        startColumn();
+        ensureCapacity(MAX_INT_LENGTH);
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[position++] = '-';
+            remaining = -remaining;
+        }
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        reverse(start, position - 1);
+    }
+
+    void writeText(String value) throws SQLException {
+        startColumn();
+        for (int i = 0; i < value.length(); i++) {
+            ensureCapacity(MAX_BYTES_PER_CHAR);
+            char symbol = value.charAt(i);
+            if (symbol == '\\' || symbol == '\t' || symbol == '\n' || symbol == '\r') {
+                buffer[position++] = ESCAPE;
+                buffer[position++] = escapeCode(symbol);
+            } else if (symbol < 0x80) {
+                buffer[position++] = (byte) symbol;
+            } else if (symbol < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (symbol >> 6));
+                buffer[position++] = (byte) (0x80 | (symbol & 0x3F));
+            } else if (Character.isHighSurrogate(symbol) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(symbol, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buffer[position++] = (byte) (0xE0 | (symbol >> 12));
+                buffer[position++] = (byte) (0x80 | ((symbol >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (symbol & 0x3F));
+            }
+        }
+    }
+
+    void endRow() throws SQLException {
+        ensureCapacity(1);
+        buffer[position++] = ROW_DELIMITER;
+        rowStarted = false;
+    }
+
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    void cancel() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException e) {
+            // the original failure is more important than the cancellation one
+        }
+    }
+
+    private void startColumn() throws SQLException {
+        if (rowStarted) {
+            ensureCapacity(1);
+            buffer[position++] = COLUMN_DELIMITER;
+        }
+        rowStarted = true;
+    }
+
+    private byte escapeCode(char symbol) {
+        switch (symbol) {
+        case '\t':
+            return 't';
+        case '\n':
+            return 'n';
+        case '\r':
+            return 'r';
+        default:
+            return ESCAPE;
+        }
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte temp = buffer[from];
+            buffer[from++] = buffer[to];
+            buffer[to--] = temp;
+        }
+    }
+
+    private void ensureCapacity(int bytesCount) throws SQLException {
+        if (position + bytesCount > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (position > 0) {
+            copyIn.writeToCopy(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
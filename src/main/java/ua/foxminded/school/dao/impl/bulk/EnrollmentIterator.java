@@ -0,0 +1,39 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+public class EnrollmentIterator implements Iterator<Enrollment> {
+    private final Iterator<Map.Entry<Student, List<Course>>> entries;
+    private Student currentStudent;
+    private Iterator<Course> currentCourses = Collections.emptyIterator();
+
+    public EnrollmentIterator(Map<Student, List<Course>> studentsCourses) {
+        this.entries = studentsCourses.entrySet().iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentCourses.hasNext() && entries.hasNext()) {
+            Map.Entry<Student, List<Course>> entry = entries.next();
+            currentStudent = entry.getKey();
+            currentCourses = entry.getValue().iterator();
+        }
+        return currentCourses.hasNext();
+    }
+
+    @Override
+    public Enrollment next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Enrollment(currentStudent.getId(), currentCourses.next().getId());
+    }
+}
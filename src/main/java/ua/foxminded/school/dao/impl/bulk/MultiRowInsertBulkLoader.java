@@ -0,0 +1,200 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+
+class MultiRowInsertBulkLoader implements BulkLoader {
+    private static final int ROWS_PER_STATEMENT = 100;
+    private static final String INSERT_GROUPS_SQL_PREFIX = "INSERT INTO groups(name) VALUES ";
+    private static final String INSERT_COURSES_SQL_PREFIX = "INSERT INTO courses(name, description) VALUES ";
+    private static final String INSERT_STUDENTS_SQL_PREFIX = "INSERT INTO students(group_id, first_name, last_name) VALUES ";
+    private static final String INSERT_MISSING_STUDENTS_COURSES_SQL_FORMAT = "INSERT INTO students_courses(student_id, course_id) "
+            + "SELECT incoming.student_id, incoming.course_id FROM (VALUES %s) AS incoming(student_id, course_id) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM students_courses WHERE students_courses.student_id = incoming.student_id "
+            + "AND students_courses.course_id = incoming.course_id);";
+    private static final String INSERT_MISSING_GROUPS_SQL_FORMAT = "INSERT INTO groups(id, name) "
+            + "SELECT incoming.id, incoming.name FROM (VALUES %s) AS incoming(id, name) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM groups WHERE groups.id = incoming.id OR groups.name = incoming.name);";
+    private static final String INSERT_MISSING_COURSES_SQL_FORMAT = "INSERT INTO courses(id, name, description) "
+            + "SELECT incoming.id, incoming.name, incoming.description "
+            + "FROM (VALUES %s) AS incoming(id, name, description) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM courses WHERE courses.id = incoming.id OR courses.name = incoming.name);";
+    private static final String INSERT_MISSING_STUDENTS_SQL_FORMAT = "INSERT INTO students(id, group_id, first_name, last_name) "
+            + "SELECT incoming.id, incoming.group_id, incoming.first_name, incoming.last_name "
+            + "FROM (VALUES %s) AS incoming(id, group_id, first_name, last_name) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM students WHERE students.id = incoming.id);";
+
+    @Override
+    public void loadGroups(Connection connection, List<Group> groups) throws SQLException {
+        insertReturningIds(connection, INSERT_GROUPS_SQL_PREFIX, 1, groups, (statement, index, group) -> {
+            statement.setString(index, group.getName());
+        }, Group::setId);
+    }
+
+    @Override
+    public void loadCourses(Connection connection, List<Course> courses) throws SQLException {
+        insertReturningIds(connection, INSERT_COURSES_SQL_PREFIX, 2, courses, (statement, index, course) -> {
+            statement.setString(index, course.getName());
+            statement.setString(index + 1, course.getDescription());
+        }, Course::setId);
+    }
+
+    @Override
+    public void loadStudents(Connection connection, List<Student> students) throws SQLException {
+        insertReturningIds(connection, INSERT_STUDENTS_SQL_PREFIX, 3, students, (statement, index, student) -> {
+            statement.setInt(index, student.getGroupId());
+            statement.setString(index + 1, student.getFirstName());
+            statement.setString(index + 2, student.getLastName());
+        }, Student::setId);
+        StudentsCountUpdater.addStudents(connection, students);
+    }
+
+    @Override
+    public int loadStudentsCourses(Connection connection, List<Enrollment> enrollments) throws SQLException {
+        List<Enrollment> distinctEnrollments = new ArrayList<>(new LinkedHashSet<>(enrollments));
+        return insert(connection, INSERT_MISSING_STUDENTS_COURSES_SQL_FORMAT, 2, distinctEnrollments,
+                (statement, index, enrollment) -> {
+                    statement.setInt(index, enrollment.getStudentId());
+                    statement.setInt(index + 1, enrollment.getCourseId());
+                });
+    }
+
+    @Override
+    public int restoreGroups(Connection connection, List<Group> groups) throws SQLException {
+        return insert(connection, INSERT_MISSING_GROUPS_SQL_FORMAT, 2, distinctById(groups, Group::getId),
+                (statement, index, group) -> {
+                    statement.setInt(index, group.getId());
+                    statement.setString(index + 1, group.getName());
+                });
+    }
+
+    @Override
+    public int restoreCourses(Connection connection, List<Course> courses) throws SQLException {
+        return insert(connection, INSERT_MISSING_COURSES_SQL_FORMAT, 3, distinctById(courses, Course::getId),
+                (statement, index, course) -> {
+                    statement.setInt(index, course.getId());
+                    statement.setString(index + 1, course.getName());
+                    statement.setString(index + 2, course.getDescription());
+                });
+    }
+
+    @Override
+    public int restoreStudents(Connection connection, List<Student> students) throws SQLException {
+        return insert(connection, INSERT_MISSING_STUDENTS_SQL_FORMAT, 4, distinctById(students, Student::getId),
+                (statement, index, student) -> {
+                    statement.setInt(index, student.getId());
+                    statement.setInt(index + 1, student.getGroupId());
+                    statement.setString(index + 2, student.getFirstName());
+                    statement.setString(index + 3, student.getLastName());
+                });
+    }
+
+    private <T> List<T> distinctById(List<T> rows, ToIntFunction<T> idExtractor) {
+        Map<Integer, T> rowsById = new LinkedHashMap<>();
+        for (T row : rows) {
+            rowsById.putIfAbsent(idExtractor.applyAsInt(row), row);
+        }
+        return new ArrayList<>(rowsById.values());
+    }
+
+    private <T> int insert(Connection connection, String insertSqlFormat, int columnsCount, List<T> rows,
+            RowBinder<T> rowBinder) throws SQLException {
+        int insertedCount = 0;
+        int fullStatementsRowsCount = rows.size() - rows.size() % ROWS_PER_STATEMENT;
+        if (fullStatementsRowsCount > 0) {
+            String sql = String.format(insertSqlFormat, createRowsPlaceholders(columnsCount, ROWS_PER_STATEMENT));
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int from = 0; from < fullStatementsRowsCount; from += ROWS_PER_STATEMENT) {
+                    bindRows(statement, columnsCount, rows.subList(from, from + ROWS_PER_STATEMENT), rowBinder);
+                    statement.addBatch();
+                }
+                insertedCount += Arrays.stream(statement.executeBatch()).filter(count -> count > 0).sum();
+            }
+        }
+        if (fullStatementsRowsCount < rows.size()) {
+            List<T> remainingRows = rows.subList(fullStatementsRowsCount, rows.size());
+            String sql = String.format(insertSqlFormat, createRowsPlaceholders(columnsCount, remainingRows.size()));
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bindRows(statement, columnsCount, remainingRows, rowBinder);
+                insertedCount += statement.executeUpdate();
+            }
+        }
+        return insertedCount;
+    }
+
+    private <T> void insertReturningIds(Connection connection, String insertSqlPrefix, int columnsCount,
+            List<T> rows, RowBinder<T> rowBinder, ObjIntConsumer<T> idSetter) throws SQLException {
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<T> statementRows = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = createMultiRowInsertSql(insertSqlPrefix, columnsCount, statementRows.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                bindRows(statement, columnsCount, statementRows, rowBinder);
+                statement.executeUpdate();
+                fetchGeneratedIds(statement, statementRows, idSetter);
+            }
+        }
+    }
+
+    private <T> void fetchGeneratedIds(PreparedStatement statement, List<T> rows, ObjIntConsumer<T> idSetter)
+            throws SQLException {
+        ResultSet generatedKeys = statement.getGeneratedKeys();
+        for (T row : rows) {
+            if (!generatedKeys.next()) {
+                throw new SQLException(String.format("Expected %d generated IDs, but database returned fewer",
+                        rows.size()));
+            }
+            idSetter.accept(row, generatedKeys.getInt(1));
+        }
+    }
+
+    private <T> void bindRows(PreparedStatement statement, int columnsCount, List<T> rows, RowBinder<T> rowBinder)
+            throws SQLException {
+        int parameterIndex = 1;
+        for (T row : rows) {
+            rowBinder.bind(statement, parameterIndex, row);
+            parameterIndex += columnsCount;
+        }
+    }
+
+    private String createMultiRowInsertSql(String insertSqlPrefix, int columnsCount, int rowsCount) {
+        return insertSqlPrefix + createRowsPlaceholders(columnsCount, rowsCount) + ';';
+    }
+
+    private String createRowsPlaceholders(int columnsCount, int rowsCount) {
+        StringBuilder rowPlaceholders = new StringBuilder("(?");
+        for (int i = 1; i < columnsCount; i++) {
+            rowPlaceholders.append(",?");
+        }
+        rowPlaceholders.append(')');
+
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < rowsCount; i++) {
+            if (i > 0) {
+                placeholders.append(',');
+            }
+            placeholders.append(rowPlaceholders);
+        }
+        return placeholders.toString();
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, int firstParameterIndex, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,270 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.impl.DaoConfig;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.BulkInsertException;
+import ua.foxminded.school.util.pool.UncachedStatements;
+
+public class ParallelBulkInserter {
+    private static final Logger LOGGER = LogManager.getLogger(ParallelBulkInserter.class);
+    private static final String WORKER_THREAD_NAME_FORMAT = "bulk-insert-%d";
+    private static final String STUDENTS_TABLE = "students";
+    private static final String STUDENTS_COURSES_TABLE = "students_courses";
+    private static final String CREATE_STUDENTS_STAGING_SQL = "CREATE TABLE %s (id INT NOT NULL, group_id INT NOT NULL, "
+            + "first_name VARCHAR(255) NOT NULL, last_name VARCHAR(255) NOT NULL);";
+    private static final String INSERT_STUDENTS_STAGING_SQL = "INSERT INTO %s (id, group_id, first_name, last_name) "
+            + "VALUES (?, ?, ?, ?);";
+    private static final String MOVE_STUDENTS_SQL = "INSERT INTO students (id, group_id, first_name, last_name) "
+            + "SELECT id, group_id, first_name, last_name FROM %s;";
+    private static final String ADD_STAGED_STUDENTS_COUNT_SQL = "UPDATE groups SET students_count = students_count "
+            + "+ (SELECT COUNT(*) FROM %1$s WHERE %1$s.group_id = groups.id) WHERE id IN (SELECT group_id FROM %1$s);";
+    private static final String CREATE_STUDENTS_COURSES_STAGING_SQL = "CREATE TABLE %s (student_id INT NOT NULL, "
+            + "course_id INT NOT NULL);";
+    private static final String INSERT_STUDENTS_COURSES_STAGING_SQL = "INSERT INTO %s (student_id, course_id) "
+            + "VALUES (?, ?);";
+    private static final String MOVE_STUDENTS_COURSES_SQL = "INSERT INTO students_courses (student_id, course_id) "
+            + "SELECT DISTINCT student_id, course_id FROM %1$s staged WHERE NOT EXISTS (SELECT 1 FROM students_courses "
+            + "WHERE students_courses.student_id = staged.student_id AND students_courses.course_id = staged.course_id);";
+    private static final int QUEUED_CHUNKS_PER_PARTITION = 2;
+    private static final PartitionFeeder NO_FEED = partitionLoads -> {
+    };
+
+    private final DataSource dataSource;
+    private final DaoConfig daoConfig;
+    private final ChunkedBatchExecutor batchExecutor;
+
+    public ParallelBulkInserter(DataSource dataSource, DaoConfig daoConfig) {
+        this.dataSource = dataSource;
+        this.daoConfig = daoConfig;
+        this.batchExecutor = new ChunkedBatchExecutor(daoConfig);
+    }
+
+    public boolean isEnabled() {
+        return daoConfig.getParallelism() > 1;
+    }
+
+    public void insertStudents(List<Student> students) throws SQLException {
+        List<List<Student>> partitions = partitionByRange(students);
+        if (!daoConfig.isParallelAllOrNothing()) {
+            runPartitions(partitions.size(), index -> partitions.get(index).iterator(), (connection, partition) -> {
+                BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+                batchExecutor.execute(connection, partition, bulkLoader::loadStudents);
+            }, NO_FEED);
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            SequenceIdReserver.reserveIds(connection, STUDENTS_TABLE, students, Student::setId);
+        }
+        StagingTable<Student> stagingTable = new StagingTable<>(STUDENTS_TABLE, CREATE_STUDENTS_STAGING_SQL,
+                INSERT_STUDENTS_STAGING_SQL, List.of(MOVE_STUDENTS_SQL, ADD_STAGED_STUDENTS_COUNT_SQL), (statement, student) -> {
+                    statement.setInt(1, student.getId());
+                    statement.setInt(2, student.getGroupId());
+                    statement.setString(3, student.getFirstName());
+                    statement.setString(4, student.getLastName());
+                });
+        insertThroughStaging(stagingTable, partitions.size(), index -> partitions.get(index).iterator(), NO_FEED);
+    }
+
+    public void insertEnrollments(Iterator<Enrollment> enrollments) throws SQLException {
+        int partitionsCount = daoConfig.getParallelism();
+        List<PartitionQueue<Enrollment>> partitions = new ArrayList<>(partitionsCount);
+        for (int i = 0; i < partitionsCount; i++) {
+            partitions.add(new PartitionQueue<>(QUEUED_CHUNKS_PER_PARTITION, daoConfig.getBatchChunkSize()));
+        }
+        PartitionFeeder feeder = partitionLoads -> feedByStudent(enrollments, partitions, partitionLoads);
+        if (!daoConfig.isParallelAllOrNothing()) {
+            runPartitions(partitionsCount, partitions::get, (connection, partition) -> {
+                BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+                batchExecutor.execute(connection, partition, bulkLoader::loadStudentsCourses);
+            }, feeder);
+            return;
+        }
+        StagingTable<Enrollment> stagingTable = new StagingTable<>(STUDENTS_COURSES_TABLE,
+                CREATE_STUDENTS_COURSES_STAGING_SQL, INSERT_STUDENTS_COURSES_STAGING_SQL, List.of(MOVE_STUDENTS_COURSES_SQL),
+                (statement, enrollment) -> {
+                    statement.setInt(1, enrollment.getStudentId());
+                    statement.setInt(2, enrollment.getCourseId());
+                });
+        insertThroughStaging(stagingTable, partitionsCount, partitions::get, feeder);
+    }
+
+    private <T> List<List<T>> partitionByRange(List<T> rows) {
+        int partitionsCount = Math.min(daoConfig.getParallelism(), Math.max(rows.size(), 1));
+        List<List<T>> partitions = new ArrayList<>(partitionsCount);
+        int partitionSize = (rows.size() + partitionsCount - 1) / partitionsCount;
+        for (int from = 0; from < rows.size(); from += partitionSize) {
+            partitions.add(rows.subList(from, Math.min(from + partitionSize, rows.size())));
+        }
+        return partitions;
+    }
+
+    private void feedByStudent(Iterator<Enrollment> enrollments, List<PartitionQueue<Enrollment>> partitions,
+            List<Future<?>> partitionLoads) throws InterruptedException {
+        while (enrollments.hasNext()) {
+            Enrollment enrollment = enrollments.next();
+            int partitionIndex = Math.floorMod(enrollment.getStudentId(), partitions.size());
+            partitions.get(partitionIndex).add(enrollment, partitionLoads.get(partitionIndex));
+        }
+        for (int i = 0; i < partitions.size(); i++) {
+            partitions.get(i).finish(partitionLoads.get(i));
+        }
+    }
+
+    private <T> void insertThroughStaging(StagingTable<T> stagingTable, int partitionsCount,
+            IntFunction<Iterator<T>> partitionRows, PartitionFeeder feeder) throws SQLException {
+        String stagingTableName = StagingTables.newName(stagingTable.tableName());
+        executeUpdate(String.format(stagingTable.createSql(), stagingTableName));
+        try {
+            String insertSql = String.format(stagingTable.insertSql(), stagingTableName);
+            runPartitions(partitionsCount, partitionRows, (connection, partition) -> {
+                batchExecutor.execute(connection, partition, (chunkConnection, chunk) -> {
+                    insertStagingChunk(chunkConnection, insertSql, chunk, stagingTable.rowBinder());
+                });
+            }, feeder);
+            moveFromStaging(stagingTable.moveSqls(), stagingTableName);
+        } finally {
+            dropStagingTable(stagingTableName);
+        }
+    }
+
+    private <T> void insertStagingChunk(Connection connection, String insertSql, List<T> chunk,
+            RowBinder<T> rowBinder) throws SQLException {
+        try (PreparedStatement statement = UncachedStatements.prepare(connection, insertSql)) {
+            for (T row : chunk) {
+                rowBinder.bind(statement, row);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void moveFromStaging(List<String> moveSqls, String stagingTableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String moveSql : moveSqls) {
+                    statement.executeUpdate(String.format(moveSql, stagingTableName));
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void dropStagingTable(String stagingTableName) {
+        try (Connection connection = dataSource.getConnection()) {
+            StagingTables.drop(connection, stagingTableName);
+        } catch (SQLException e) {
+            LOGGER.error(String.format("Cannot drop staging table: %s", stagingTableName), e);
+        }
+    }
+
+    private void executeUpdate(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private <T> void runPartitions(int partitionsCount, IntFunction<Iterator<T>> partitionRows,
+            PartitionLoader<T> partitionLoader, PartitionFeeder feeder) throws BulkInsertException {
+        if (partitionsCount == 0) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(partitionsCount, runnable -> {
+            Thread thread = new Thread(runnable, String.format(WORKER_THREAD_NAME_FORMAT, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(partitionsCount);
+            for (int i = 0; i < partitionsCount; i++) {
+                Iterator<T> partition = partitionRows.apply(i);
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        partitionLoader.load(connection, partition);
+                    }
+                    return null;
+                }));
+            }
+            List<Throwable> errors = new ArrayList<>();
+            try {
+                feeder.feed(futures);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add(e);
+                executor.shutdownNow();
+            } catch (RuntimeException e) {
+                errors.add(e);
+                executor.shutdownNow();
+            }
+            errors.addAll(awaitPartitions(futures));
+            if (!errors.isEmpty()) {
+                throw new BulkInsertException(String.format("%d of %d partitions failed", errors.size(),
+                        partitionsCount), errors);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Throwable> awaitPartitions(List<Future<?>> futures) {
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add(e);
+                break;
+            }
+        }
+        return errors;
+    }
+
+    @FunctionalInterface
+    private interface PartitionLoader<T> {
+        void load(Connection connection, Iterator<T> partition) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface PartitionFeeder {
+        void feed(List<Future<?>> partitionLoads) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private record StagingTable<T>(String tableName, String createSql, String insertSql, List<String> moveSqls,
+            RowBinder<T> rowBinder) {
+    }
+}
@@ -0,0 +1,81 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class PartitionQueue<T> implements Iterator<T> {
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<List<T>> chunks;
+    private final List<T> endOfPartition = new ArrayList<>(0);
+    private final int chunkSize;
+    private List<T> pendingChunk;
+    private Iterator<T> currentChunk = Collections.emptyIterator();
+    private boolean finished;
+
+    PartitionQueue(int capacity, int chunkSize) {
+        this.chunks = new ArrayBlockingQueue<>(capacity);
+        this.chunkSize = chunkSize;
+        this.pendingChunk = new ArrayList<>(chunkSize);
+    }
+
+    void add(T row, Future<?> consumer) throws InterruptedException {
+        pendingChunk.add(row);
+        if (pendingChunk.size() == chunkSize) {
+            publish(pendingChunk, consumer);
+            pendingChunk = new ArrayList<>(chunkSize);
+        }
+    }
+
+    void finish(Future<?> consumer) throws InterruptedException {
+        if (!pendingChunk.isEmpty()) {
+            publish(pendingChunk, consumer);
+            pendingChunk = new ArrayList<>(0);
+        }
+        publish(endOfPartition, consumer);
+    }
+
+    private void publish(List<T> chunk, Future<?> consumer) throws InterruptedException {
+        boolean published = false;
+        while (!published && !consumer.isDone()) {
+            published = chunks.offer(chunk, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentChunk.hasNext() && !finished) {
+            List<T> chunk = takeChunk();
+            if (chunk == endOfPartition) {
+                finished = true;
+            } else {
+                currentChunk = chunk.iterator();
+            }
+        }
+        return currentChunk.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentChunk.next();
+    }
+
+    private List<T> takeChunk() {
+        try {
+            return chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for partition rows", e);
+        }
+    }
+}
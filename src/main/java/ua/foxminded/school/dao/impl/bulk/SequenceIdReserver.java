@@ -0,0 +1,90 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ObjIntConsumer;
+
+import ua.foxminded.school.dao.impl.DatabaseDialect;
+
+class SequenceIdReserver {
+    private static final String RESERVE_POSTGRES_IDS_SQL = "SELECT nextval(pg_get_serial_sequence(?, 'id')) "
+            + "FROM generate_series(1, ?);";
+    private static final String SELECT_H2_ID_SEQUENCE_SQL = "SELECT SEQUENCE_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+            + "WHERE TABLE_NAME = ? AND COLUMN_NAME = 'ID';";
+    private static final String RESERVE_H2_IDS_SQL_FORMAT = "SELECT NEXT VALUE FOR %s FROM SYSTEM_RANGE(1, ?);";
+    private static final String RESTART_POSTGRES_SEQUENCE_SQL_FORMAT = "SELECT setval(pg_get_serial_sequence('%1$s', 'id'), "
+            + "COALESCE(MAX(id), 0) + 1, false) FROM %1$s;";
+    private static final String SELECT_NEXT_ID_SQL_FORMAT = "SELECT COALESCE(MAX(id), 0) + 1 FROM %s;";
+    private static final String RESTART_H2_SEQUENCE_SQL_FORMAT = "ALTER SEQUENCE %s RESTART WITH %d;";
+
+    private SequenceIdReserver() {
+    }
+
+    static <T> void reserveIds(Connection connection, String tableName, List<T> rows, ObjIntConsumer<T> idSetter)
+            throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        DatabaseDialect dialect = DatabaseDialect.of(connection);
+        if (dialect == DatabaseDialect.POSTGRESQL) {
+            try (PreparedStatement statement = connection.prepareStatement(RESERVE_POSTGRES_IDS_SQL)) {
+                statement.setString(1, tableName);
+                statement.setInt(2, rows.size());
+                assignIds(statement.executeQuery(), tableName, rows, idSetter);
+            }
+        } else if (dialect == DatabaseDialect.H2) {
+            String reserveIdsSql = String.format(RESERVE_H2_IDS_SQL_FORMAT, findH2IdSequence(connection, tableName));
+            try (PreparedStatement statement = connection.prepareStatement(reserveIdsSql)) {
+                statement.setInt(1, rows.size());
+                assignIds(statement.executeQuery(), tableName, rows, idSetter);
+            }
+        } else {
+            throw new SQLException(String.format("ID reservation is not supported for table %s", tableName));
+        }
+    }
+
+    static void restartAfterMaxId(Connection connection, String tableName) throws SQLException {
+        DatabaseDialect dialect = DatabaseDialect.of(connection);
+        if (dialect == DatabaseDialect.POSTGRESQL) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeQuery(String.format(RESTART_POSTGRES_SEQUENCE_SQL_FORMAT, tableName)).close();
+            }
+        } else if (dialect == DatabaseDialect.H2) {
+            String sequenceName = findH2IdSequence(connection, tableName);
+            try (Statement statement = connection.createStatement()) {
+                ResultSet resultSet = statement.executeQuery(String.format(SELECT_NEXT_ID_SQL_FORMAT, tableName));
+                resultSet.next();
+                long nextId = resultSet.getLong(1);
+                statement.executeUpdate(String.format(RESTART_H2_SEQUENCE_SQL_FORMAT, sequenceName, nextId));
+            }
+        } else {
+            throw new SQLException(String.format("ID sequence restart is not supported for table %s", tableName));
+        }
+    }
+
+    private static String findH2IdSequence(Connection connection, String tableName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_H2_ID_SEQUENCE_SQL)) {
+            statement.setString(1, tableName.toUpperCase(Locale.ROOT));
+            ResultSet resultSet = statement.executeQuery();
+            if (!resultSet.next() || resultSet.getString(1) == null) {
+                throw new SQLException(String.format("Table %s has no ID sequence", tableName));
+            }
+            return resultSet.getString(1);
+        }
+    }
+
+    private static <T> void assignIds(ResultSet resultSet, String tableName, List<T> rows,
+            ObjIntConsumer<T> idSetter) throws SQLException {
+        for (T row : rows) {
+            if (!resultSet.next()) {
+                throw new SQLException(String.format("Cannot reserve %d IDs for table %s", rows.size(), tableName));
+            }
+            idSetter.accept(row, resultSet.getInt(1));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class StagingTables {
+    private static final Logger LOGGER = LogManager.getLogger(StagingTables.class);
+    private static final String STAGING_TABLE_NAME_FORMAT = "%s_staging_%s";
+    private static final Pattern STAGING_TABLE_NAME_PATTERN = Pattern
+            .compile("(students|students_courses)_staging_[0-9a-f]{32}", Pattern.CASE_INSENSITIVE);
+    private static final String[] TABLE_TYPES = { "TABLE" };
+    private static final String ANY_TABLE_NAME = "%";
+    private static final String TABLE_NAME_COLUMN = "TABLE_NAME";
+    private static final String DROP_STAGING_SQL = "DROP TABLE IF EXISTS %s;";
+
+    private StagingTables() {
+    }
+
+    static String newName(String tableName) {
+        return String.format(STAGING_TABLE_NAME_FORMAT, tableName, UUID.randomUUID().toString().replace("-", ""));
+    }
+
+    static void drop(Connection connection, String stagingTableName) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(String.format(DROP_STAGING_SQL, stagingTableName));
+        }
+    }
+
+    public static int dropLeftovers(Connection connection) throws SQLException {
+        List<String> leftoverTables = new ArrayList<>();
+        try (ResultSet tables = connection.getMetaData().getTables(null, connection.getSchema(), ANY_TABLE_NAME,
+                TABLE_TYPES)) {
+            while (tables.next()) {
+                String tableName = tables.getString(TABLE_NAME_COLUMN);
+                if (STAGING_TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+                    leftoverTables.add(tableName);
+                }
+            }
+        }
+        for (String tableName : leftoverTables) {
+            drop(connection, tableName);
+        }
+        if (!leftoverTables.isEmpty()) {
+            LOGGER.warn(String.format("Dropped %d staging tables left by interrupted bulk inserts: %s",
+                    leftoverTables.size(), leftoverTables));
+        }
+        return leftoverTables.size();
+    }
+}
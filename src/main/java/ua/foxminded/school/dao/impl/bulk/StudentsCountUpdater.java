@@ -0,0 +1,57 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import ua.foxminded.school.domain.model.Student;
+
+public class StudentsCountUpdater {
+    private static final String ADD_STUDENTS_COUNT_SQL = "UPDATE groups SET students_count = students_count + ? "
+            + "WHERE id = ?;";
+    private static final String RECOUNT_STUDENTS_SQL = "UPDATE groups SET students_count = "
+            + "(SELECT COUNT(*) FROM students WHERE students.group_id = groups.id);";
+
+    private StudentsCountUpdater() {
+    }
+
+    public static void addStudents(Connection connection, Collection<Student> students) throws SQLException {
+        Map<Integer, Integer> groupsDeltas = new TreeMap<>();
+        for (Student student : students) {
+            groupsDeltas.merge(student.getGroupId(), 1, Integer::sum);
+        }
+        addStudentsCounts(connection, groupsDeltas);
+    }
+
+    public static void subtractStudents(Connection connection, Map<Integer, Integer> groupsRemovedCounts)
+            throws SQLException {
+        Map<Integer, Integer> groupsDeltas = new TreeMap<>();
+        groupsRemovedCounts.forEach((groupId, removedCount) -> groupsDeltas.put(groupId, -removedCount));
+        addStudentsCounts(connection, groupsDeltas);
+    }
+
+    public static void recountAll(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(RECOUNT_STUDENTS_SQL);
+        }
+    }
+
+    private static void addStudentsCounts(Connection connection, Map<Integer, Integer> groupsDeltas)
+            throws SQLException {
+        if (groupsDeltas.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(ADD_STUDENTS_COUNT_SQL)) {
+            for (Map.Entry<Integer, Integer> groupDelta : groupsDeltas.entrySet()) {
+                statement.setInt(1, groupDelta.getValue());
+                statement.setInt(2, groupDelta.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+public class EnrollmentIndex {
+    private static final Logger LOGGER = LogManager.getLogger(EnrollmentIndex.class);
+    private static final String RELOAD_THREAD_NAME = "enrollment-index-reload";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntObjectMap<Student> students = new IntObjectMap<>();
+    private final IntObjectMap<int[]> coursesByStudent = new IntObjectMap<>();
+    private final IntObjectMap<int[]> studentsByCourse = new IntObjectMap<>();
+    private final AtomicReference<CompletableFuture<Void>> pendingReload = new AtomicReference<>();
+    private volatile StudentDao source;
+    private volatile boolean loaded;
+
+    public void load(StudentDao studentDao) {
+        long startMillis = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            students.clear();
+            coursesByStudent.clear();
+            studentsByCourse.clear();
+            try (Stream<Student> allStudents = studentDao.streamAll()) {
+                allStudents.forEach(this::putStudent);
+            }
+            try (Stream<Enrollment> enrollments = studentDao.streamAllEnrollments()) {
+                enrollments.forEach(enrollment -> putEnrollment(enrollment.getStudentId(), enrollment.getCourseId()));
+            }
+            loaded = true;
+            source = studentDao;
+            LOGGER.info(String.format("Enrollment index loaded: %d students, %d courses in %d ms", students.size(),
+                    studentsByCourse.size(), System.currentTimeMillis() - startMillis));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        if (!loaded) {
+            reloadInBackground();
+        }
+        return loaded;
+    }
+
+    public void invalidate() {
+        loaded = false;
+        reloadInBackground();
+    }
+
+    public CompletableFuture<Void> reloadInBackground() {
+        StudentDao studentDao = source;
+        if (studentDao == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> reload = new CompletableFuture<>();
+        CompletableFuture<Void> runningReload = pendingReload.compareAndExchange(null, reload);
+        if (runningReload != null) {
+            return runningReload;
+        }
+        Thread.ofVirtual().name(RELOAD_THREAD_NAME).start(() -> {
+            try {
+                load(studentDao);
+                pendingReload.set(null);
+                reload.complete(null);
+            } catch (RuntimeException e) {
+                LOGGER.error("Enrollment index reload failed, retrying on next read", e);
+                pendingReload.set(null);
+                reload.completeExceptionally(e);
+            }
+        });
+        return reload;
+    }
+
+    public int[] findCourseIds(int studentId) {
+        lock.readLock().lock();
+        try {
+            return IntSets.toArray(coursesByStudent.get(studentId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Student> findStudentsByCourseId(int courseId) {
+        lock.readLock().lock();
+        try {
+            int[] studentIds = IntSets.toArray(studentsByCourse.get(courseId));
+            List<Student> courseStudents = new ArrayList<>(studentIds.length);
+            for (int studentId : studentIds) {
+                Student student = students.get(studentId);
+                if (student != null) {
+                    courseStudents.add(copyOf(student));
+                }
+            }
+            return courseStudents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Student> findStudentsPageByCourseId(int courseId, int afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        lock.readLock().lock();
+        try {
+            int[] studentIds = studentsByCourse.get(courseId);
+            int end = IntSets.size(studentIds) + 1;
+            List<Student> page = new ArrayList<>(Math.min(limit, end - 1));
+            for (int i = IntSets.indexAfter(studentIds, afterId); i < end && page.size() < limit; i++) {
+                Student student = students.get(studentIds[i]);
+                if (student != null) {
+                    page.add(copyOf(student));
+                }
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addStudents(List<Student> addedStudents) {
+        lock.writeLock().lock();
+        try {
+            addedStudents.forEach(this::putStudent);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeStudent(int studentId) {
+        lock.writeLock().lock();
+        try {
+            students.remove(studentId);
+            int[] courseIds = IntSets.toArray(coursesByStudent.remove(studentId));
+            for (int courseId : courseIds) {
+                removeFromAdjacency(studentsByCourse, courseId, studentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addEnrollment(int studentId, int courseId) {
+        lock.writeLock().lock();
+        try {
+            putEnrollment(studentId, courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addEnrollments(Map<Student, List<Course>> studentsCourses) {
+        lock.writeLock().lock();
+        try {
+            studentsCourses.forEach((student, courses) -> {
+                for (Course course : courses) {
+                    putEnrollment(student.getId(), course.getId());
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addEnrollments(Collection<Enrollment> enrollments) {
+        lock.writeLock().lock();
+        try {
+            for (Enrollment enrollment : enrollments) {
+                putEnrollment(enrollment.getStudentId(), enrollment.getCourseId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeEnrollment(int studentId, int courseId) {
+        lock.writeLock().lock();
+        try {
+            removeFromAdjacency(coursesByStudent, studentId, courseId);
+            removeFromAdjacency(studentsByCourse, courseId, studentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putStudent(Student student) {
+        students.put(student.getId(), copyOf(student));
+    }
+
+    private void putEnrollment(int studentId, int courseId) {
+        coursesByStudent.put(studentId, IntSets.add(coursesByStudent.get(studentId), courseId));
+        studentsByCourse.put(courseId, IntSets.add(studentsByCourse.get(courseId), studentId));
+    }
+
+    private void removeFromAdjacency(IntObjectMap<int[]> adjacency, int key, int value) {
+        int[] values = adjacency.get(key);
+        if (IntSets.remove(values, value) && IntSets.size(values) == 0) {
+            adjacency.remove(key);
+        }
+    }
+
+    private Student copyOf(Student student) {
+        return new Student(student.getId(), student.getGroupId(), student.getFirstName(), student.getLastName());
+    }
+}
@@ -0,0 +1,88 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.domain.model.Course;
+
+public class IndexedCourseDao implements CourseDao {
+    private final CourseDao courseDao;
+    private final EnrollmentIndex enrollmentIndex;
+
+    public IndexedCourseDao(CourseDao courseDao, EnrollmentIndex enrollmentIndex) {
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.enrollmentIndex = Objects.requireNonNull(enrollmentIndex);
+    }
+
+    @Override
+    public boolean saveAllBatch(List<Course> courses) {
+        return courseDao.saveAllBatch(courses);
+    }
+
+    @Override
+    public List<Course> findAll() {
+        return courseDao.findAll();
+    }
+
+    @Override
+    public List<Course> findAllByStudentId(int studentId) {
+        if (!enrollmentIndex.isLoaded()) {
+            return courseDao.findAllByStudentId(studentId);
+        }
+        int[] courseIds = enrollmentIndex.findCourseIds(studentId);
+        List<Course> courses = new ArrayList<>(courseIds.length);
+        if (courseIds.length == 0) {
+            return courses;
+        }
+        for (Course course : courseDao.findAll()) {
+            if (Arrays.binarySearch(courseIds, course.getId()) >= 0) {
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    @Override
+    public Stream<Course> streamAll() {
+        return courseDao.streamAll();
+    }
+
+    @Override
+    public Stream<Course> streamAllByStudentId(int studentId) {
+        if (!enrollmentIndex.isLoaded()) {
+            return courseDao.streamAllByStudentId(studentId);
+        }
+        return findAllByStudentId(studentId).stream();
+    }
+
+    @Override
+    public Optional<Course> findByName(String courseName) {
+        return courseDao.findByName(courseName);
+    }
+
+    @Override
+    public Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds) {
+        Objects.requireNonNull(studentIds);
+        if (!enrollmentIndex.isLoaded()) {
+            return courseDao.findAllByStudentIds(studentIds);
+        }
+        Map<Integer, List<Course>> studentsCourses = new LinkedHashMap<>();
+        for (Integer studentId : studentIds) {
+            studentsCourses.put(studentId, findAllByStudentId(studentId));
+        }
+        return studentsCourses;
+    }
+
+    @Override
+    public Map<String, Course> findByNames(Collection<String> courseNames) {
+        return courseDao.findByNames(courseNames);
+    }
+}
@@ -0,0 +1,200 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.BulkOperationResult;
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Student;
+
+public class IndexedStudentDao implements StudentDao {
+    private static final Logger LOGGER = LogManager.getLogger(IndexedStudentDao.class);
+
+    private final StudentDao studentDao;
+    private final CourseDao courseDao;
+    private final EnrollmentIndex enrollmentIndex;
+
+    public IndexedStudentDao(StudentDao studentDao, CourseDao courseDao, EnrollmentIndex enrollmentIndex) {
+        this.studentDao = Objects.requireNonNull(studentDao);
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.enrollmentIndex = Objects.requireNonNull(enrollmentIndex);
+    }
+
+    @Override
+    public boolean saveAllBatch(List<Student> students) {
+        boolean saved = studentDao.saveAllBatch(students);
+        if (saved) {
+            enrollmentIndex.addStudents(students);
+        } else {
+            invalidateIndex("students batch save failed");
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean assignToCoursesBatch(Map<Student, List<Course>> studentsCourses) {
+        boolean assigned = studentDao.assignToCoursesBatch(studentsCourses);
+        if (assigned) {
+            enrollmentIndex.addEnrollments(studentsCourses);
+        } else {
+            invalidateIndex("courses batch assignment failed");
+        }
+        return assigned;
+    }
+
+    @Override
+    public OptionalInt assignAllToCourses(Collection<Enrollment> enrollments) {
+        OptionalInt insertedCount = studentDao.assignAllToCourses(enrollments);
+        if (insertedCount.isPresent()) {
+            enrollmentIndex.addEnrollments(enrollments);
+        } else {
+            invalidateIndex("enrollments batch assignment failed");
+        }
+        return insertedCount;
+    }
+
+    @Override
+    public List<Student> findAllByCourseName(String courseName) {
+        Objects.requireNonNull(courseName);
+        if (!enrollmentIndex.isLoaded()) {
+            return studentDao.findAllByCourseName(courseName);
+        }
+        Optional<Course> course = courseDao.findByName(courseName);
+        return course.map(value -> enrollmentIndex.findStudentsByCourseId(value.getId())).orElse(List.of());
+    }
+
+    @Override
+    public Map<String, List<Student>> findAllByCourseNames(Collection<String> courseNames) {
+        Objects.requireNonNull(courseNames);
+        if (!enrollmentIndex.isLoaded()) {
+            return studentDao.findAllByCourseNames(courseNames);
+        }
+        Map<String, Course> coursesByName = courseNames.isEmpty() ? Map.of() : courseDao.findByNames(courseNames);
+        Map<String, List<Student>> coursesStudents = new LinkedHashMap<>();
+        for (String courseName : courseNames) {
+            Course course = coursesByName.get(courseName);
+            coursesStudents.put(courseName,
+                    course == null ? new ArrayList<>() : enrollmentIndex.findStudentsByCourseId(course.getId()));
+        }
+        return coursesStudents;
+    }
+
+    @Override
+    public Stream<Student> streamAllByCourseName(String courseName) {
+        if (!enrollmentIndex.isLoaded()) {
+            return studentDao.streamAllByCourseName(courseName);
+        }
+        return findAllByCourseName(courseName).stream();
+    }
+
+    @Override
+    public boolean save(Student student) {
+        boolean saved = studentDao.save(student);
+        if (saved) {
+            enrollmentIndex.addStudents(List.of(student));
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean deleteById(int studentId) {
+        boolean deleted = studentDao.deleteById(studentId);
+        if (deleted) {
+            enrollmentIndex.removeStudent(studentId);
+        }
+        return deleted;
+    }
+
+    @Override
+    public BulkOperationResult<Integer> deleteByIds(Collection<Integer> studentIds) {
+        BulkOperationResult<Integer> result = studentDao.deleteByIds(studentIds);
+        result.getSucceeded().forEach(enrollmentIndex::removeStudent);
+        return result;
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return studentDao.findAll();
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return studentDao.streamAll();
+    }
+
+    @Override
+    public Stream<Enrollment> streamAllEnrollments() {
+        return studentDao.streamAllEnrollments();
+    }
+
+    @Override
+    public List<Student> findPage(int afterId, int limit) {
+        return studentDao.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Student> findPageByGroupId(int groupId, int afterId, int limit) {
+        return studentDao.findPageByGroupId(groupId, afterId, limit);
+    }
+
+    @Override
+    public List<Student> findPageByCourseId(int courseId, int afterId, int limit) {
+        if (!enrollmentIndex.isLoaded()) {
+            return studentDao.findPageByCourseId(courseId, afterId, limit);
+        }
+        return enrollmentIndex.findStudentsPageByCourseId(courseId, afterId, limit);
+    }
+
+    @Override
+    public boolean assignToCourse(int studentId, int courseId) {
+        boolean assigned = studentDao.assignToCourse(studentId, courseId);
+        if (assigned) {
+            enrollmentIndex.addEnrollment(studentId, courseId);
+        }
+        return assigned;
+    }
+
+    @Override
+    public boolean deleteFromCourse(int studentId, int courseId) {
+        boolean deleted = studentDao.deleteFromCourse(studentId, courseId);
+        if (deleted) {
+            enrollmentIndex.removeEnrollment(studentId, courseId);
+        }
+        return deleted;
+    }
+
+    @Override
+    public BulkOperationResult<Enrollment> deleteFromCourses(Collection<Enrollment> enrollments) {
+        BulkOperationResult<Enrollment> result = studentDao.deleteFromCourses(enrollments);
+        result.getSucceeded().forEach(
+                enrollment -> enrollmentIndex.removeEnrollment(enrollment.getStudentId(), enrollment.getCourseId()));
+        return result;
+    }
+
+    @Override
+    public BulkOperationResult<Integer> deleteAllFromCourse(int courseId) {
+        BulkOperationResult<Integer> result = studentDao.deleteAllFromCourse(courseId);
+        result.getSucceeded().forEach(studentId -> enrollmentIndex.removeEnrollment(studentId, courseId));
+        return result;
+    }
+
+    private void invalidateIndex(String reason) {
+        if (enrollmentIndex.isLoaded()) {
+            LOGGER.warn(String.format("Enrollment index invalidated, reloading in background: %s", reason));
+            enrollmentIndex.invalidate();
+        }
+    }
+}
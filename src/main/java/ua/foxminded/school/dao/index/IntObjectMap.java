@@ -0,0 +1,103 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    IntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, DEFAULT_CAPACITY / 2) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int slot = findSlot(keys, values, key);
+        return (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        Objects.requireNonNull(value);
+        int slot = findSlot(keys, values, key);
+        V previous = (V) values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+        if (previous == null && ++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        int mask = keys.length - 1;
+        int slot = findSlot(keys, values, key);
+        V previous = (V) values[slot];
+        if (previous == null) {
+            return null;
+        }
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & mask;
+        while (values[nextSlot] != null) {
+            int homeSlot = hash(keys[nextSlot]) & mask;
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - emptySlot) & mask)) {
+                keys[emptySlot] = keys[nextSlot];
+                values[emptySlot] = values[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        values[emptySlot] = null;
+        size--;
+        return previous;
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        int[] newKeys = new int[capacity];
+        Object[] newValues = new Object[capacity];
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                int slot = findSlot(newKeys, newValues, keys[i]);
+                newKeys[slot] = keys[i];
+                newValues[slot] = values[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static int findSlot(int[] keys, Object[] values, int key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(int key) {
+        int hash = key * HASH_MULTIPLIER;
+        return hash ^ (hash >>> 16);
+    }
+}
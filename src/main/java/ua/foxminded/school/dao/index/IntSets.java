@@ -0,0 +1,61 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.Arrays;
+
+class IntSets {
+    private static final int[] EMPTY = new int[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private IntSets() {
+    }
+
+    static int[] add(int[] set, int value) {
+        if (set == null) {
+            int[] newSet = new int[INITIAL_CAPACITY + 1];
+            newSet[0] = 1;
+            newSet[1] = value;
+            return newSet;
+        }
+        int size = set[0];
+        int index = Arrays.binarySearch(set, 1, size + 1, value);
+        if (index >= 0) {
+            return set;
+        }
+        int insertionIndex = -index - 1;
+        int[] target = size + 1 < set.length ? set : Arrays.copyOf(set, set.length * 2);
+        System.arraycopy(set, insertionIndex, target, insertionIndex + 1, size + 1 - insertionIndex);
+        target[insertionIndex] = value;
+        target[0] = size + 1;
+        return target;
+    }
+
+    static boolean remove(int[] set, int value) {
+        if (set == null) {
+            return false;
+        }
+        int size = set[0];
+        int index = Arrays.binarySearch(set, 1, size + 1, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(set, index + 1, set, index, size - index);
+        set[0] = size - 1;
+        return true;
+    }
+
+    static int indexAfter(int[] set, int value) {
+        if (set == null) {
+            return 1;
+        }
+        int index = Arrays.binarySearch(set, 1, set[0] + 1, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    static int size(int[] set) {
+        return set == null ? 0 : set[0];
+    }
+
+    static int[] toArray(int[] set) {
+        return set == null ? EMPTY : Arrays.copyOfRange(set, 1, set[0] + 1);
+    }
+}
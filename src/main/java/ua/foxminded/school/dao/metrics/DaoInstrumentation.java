@@ -0,0 +1,111 @@
+package ua.foxminded.school.dao.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import ua.foxminded.school.dao.BulkOperationResult;
+
+public class DaoInstrumentation {
+    private static final Set<String> FALSE_AS_NO_OP_METHODS = Set.of("assignToCourse");
+
+    private DaoInstrumentation() {
+    }
+
+    public static <T> T instrument(Class<T> daoInterface, T dao, DaoMetrics metrics) {
+        Objects.requireNonNull(dao);
+        Objects.requireNonNull(metrics);
+        if (!daoInterface.isInterface()) {
+            throw new IllegalArgumentException("DAO type must be an interface: " + daoInterface.getName());
+        }
+        InstrumentationHandler handler = new InstrumentationHandler(daoInterface.getSimpleName(), dao, metrics);
+        return daoInterface.cast(Proxy.newProxyInstance(daoInterface.getClassLoader(),
+                new Class<?>[] { daoInterface }, handler));
+    }
+
+    private static class InstrumentationHandler implements InvocationHandler {
+        private final String daoName;
+        private final Object dao;
+        private final DaoMetrics metrics;
+        private final Map<Method, OperationMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+        InstrumentationHandler(String daoName, Object dao, DaoMetrics metrics) {
+            this.daoName = daoName;
+            this.dao = dao;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            OperationMetrics operationMetrics = methodMetrics.computeIfAbsent(method,
+                    key -> metrics.getOperationMetrics(daoName + "." + key.getName()));
+            long startNanos = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(dao, args);
+            } catch (InvocationTargetException e) {
+                operationMetrics.recordCall(System.nanoTime() - startNanos, true);
+                throw e.getCause();
+            }
+            operationMetrics.recordCall(System.nanoTime() - startNanos, isFailure(method, result));
+            return countRows(result, operationMetrics);
+        }
+
+        private boolean isFailure(Method method, Object result) {
+            return Boolean.FALSE.equals(result) && !FALSE_AS_NO_OP_METHODS.contains(method.getName())
+                    || result instanceof BulkOperationResult<?> bulkResult && bulkResult.hasFailures()
+                    || result instanceof OptionalInt optionalInt && optionalInt.isEmpty();
+        }
+
+        private Object countRows(Object result, OperationMetrics operationMetrics) {
+            if (result instanceof BulkOperationResult<?> bulkResult) {
+                operationMetrics.recordRows(bulkResult.getSucceededCount());
+            } else if (result instanceof Collection<?> collection) {
+                operationMetrics.recordRows(collection.size());
+            } else if (result instanceof Map<?, ?> map) {
+                operationMetrics.recordRows(map.size());
+            } else if (result instanceof OptionalInt optionalInt && optionalInt.isPresent()) {
+                operationMetrics.recordRows(optionalInt.getAsInt());
+            } else if (result instanceof Optional<?> optional && optional.isPresent()) {
+                operationMetrics.recordRows(1);
+            } else if (result instanceof Stream<?> stream) {
+                return stream.filter(row -> countStreamedRow(operationMetrics));
+            }
+            return result;
+        }
+
+        private boolean countStreamedRow(OperationMetrics operationMetrics) {
+            operationMetrics.recordRows(1);
+            return true;
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Instrumented " + dao;
+            default:
+                try {
+                    return method.invoke(dao, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ua.foxminded.school.dao.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class DaoMetrics {
+    private static final String DUMP_HEADER_FORMAT = "%-45s %8s %7s %9s %9s %9s %9s %9s %9s";
+    private static final String DUMP_ROW_FORMAT = "%-45s %8d %7d %9d %9d %9d %9d %9d %9d";
+
+    private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    OperationMetrics getOperationMetrics(String operationName) {
+        return operations.computeIfAbsent(operationName, OperationMetrics::new);
+    }
+
+    public List<OperationStatistics> getStatistics() {
+        List<OperationStatistics> statistics = new ArrayList<>();
+        for (OperationMetrics operationMetrics : operations.values()) {
+            statistics.add(operationMetrics.snapshot());
+        }
+        statistics.sort(Comparator.comparing(OperationStatistics::getOperationName));
+        return statistics;
+    }
+
+    public void reset() {
+        for (OperationMetrics operationMetrics : operations.values()) {
+            operationMetrics.reset();
+        }
+    }
+
+    public String dump() {
+        StringBuilder dump = new StringBuilder(String.format(DUMP_HEADER_FORMAT, "Operation", "Calls", "Errors",
+                "Rows", "Mean us", "p50 us", "p95 us", "p99 us", "Max us"));
+        for (OperationStatistics statistics : getStatistics()) {
+            dump.append(System.lineSeparator());
+            dump.append(String.format(DUMP_ROW_FORMAT, statistics.getOperationName(), statistics.getCallCount(),
+                    statistics.getErrorCount(), statistics.getRowCount(), statistics.getMeanMicros(),
+                    statistics.getP50Micros(), statistics.getP95Micros(), statistics.getP99Micros(),
+                    statistics.getMaxMicros()));
+        }
+        return dump.toString();
+    }
+}
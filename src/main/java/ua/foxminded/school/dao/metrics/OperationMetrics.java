@@ -0,0 +1,51 @@
+package ua.foxminded.school.dao.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class OperationMetrics {
+    private static final double MEDIAN = 50;
+    private static final double PERCENTILE_95 = 95;
+    private static final double PERCENTILE_99 = 99;
+
+    private final String operationName;
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    OperationMetrics(String operationName) {
+        this.operationName = operationName;
+    }
+
+    void recordCall(long elapsedNanos, boolean failed) {
+        callCount.increment();
+        if (failed) {
+            errorCount.increment();
+        }
+        latencyHistogram.record(elapsedNanos);
+    }
+
+    void recordRows(long rows) {
+        rowCount.add(rows);
+    }
+
+    OperationStatistics snapshot() {
+        return new OperationStatistics(operationName, callCount.sum(), errorCount.sum(), rowCount.sum(),
+                toMicros(latencyHistogram.getMeanNanos()), toMicros(latencyHistogram.getPercentileNanos(MEDIAN)),
+                toMicros(latencyHistogram.getPercentileNanos(PERCENTILE_95)),
+                toMicros(latencyHistogram.getPercentileNanos(PERCENTILE_99)),
+                toMicros(latencyHistogram.getMaxNanos()));
+    }
+
+    void reset() {
+        callCount.reset();
+        errorCount.reset();
+        rowCount.reset();
+        latencyHistogram.reset();
+    }
+
+    private long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,69 @@
+package ua.foxminded.school.dao.metrics;
+
+public class OperationStatistics {
+    private final String operationName;
+    private final long callCount;
+    private final long errorCount;
+    private final long rowCount;
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p95Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public OperationStatistics(String operationName, long callCount, long errorCount, long rowCount,
+            long meanMicros, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+        this.operationName = operationName;
+        this.callCount = callCount;
+        this.errorCount = errorCount;
+        this.rowCount = rowCount;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p95Micros = p95Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public long getCallCount() {
+        return callCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP95Micros() {
+        return p95Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics [operation=" + operationName + ", calls=" + callCount + ", errors=" + errorCount
+                + ", rows=" + rowCount + ", meanMicros=" + meanMicros + ", p50Micros=" + p50Micros + ", p95Micros="
+                + p95Micros + ", p99Micros=" + p99Micros + ", maxMicros=" + maxMicros + "]";
+    }
+}
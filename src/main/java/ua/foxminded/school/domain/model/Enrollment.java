@@ -0,0 +1,54 @@
+package ua.foxminded.school.domain.model;
+
+import java.util.Objects;
+
+public class Enrollment {
+    private int studentId;
+    private int courseId;
+
+    public Enrollment() {
+    }
+
+    public Enrollment(int studentId, int courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(int studentId) {
+        this.studentId = studentId;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(int courseId) {
+        this.courseId = courseId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(courseId, studentId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Enrollment other = (Enrollment) obj;
+        return courseId == other.courseId && studentId == other.studentId;
+    }
+
+    @Override
+    public String toString() {
+        return "Enrollment [studentId=" + studentId + ", courseId=" + courseId + "]";
+    }
+}
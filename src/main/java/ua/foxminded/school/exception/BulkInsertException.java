@@ -0,0 +1,22 @@
+package ua.foxminded.school.exception;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public final class BulkInsertException extends SQLException {
+    private static final long serialVersionUID = 4712270384953381406L;
+
+    private final transient List<Throwable> partitionErrors;
+
+    public BulkInsertException(String message, List<Throwable> partitionErrors) {
+        super(message, partitionErrors.isEmpty() ? null : partitionErrors.get(0));
+        this.partitionErrors = List.copyOf(partitionErrors);
+        for (int i = 1; i < this.partitionErrors.size(); i++) {
+            addSuppressed(this.partitionErrors.get(i));
+        }
+    }
+
+    public List<Throwable> getPartitionErrors() {
+        return partitionErrors;
+    }
+}
@@ -0,0 +1,11 @@
+package ua.foxminded.school.exception;
+
+import java.io.IOException;
+
+public class CsvFormatException extends IOException {
+    private static final long serialVersionUID = 2840178093553917562L;
+
+    public CsvFormatException(String message) {
+        super(message);
+    }
+}
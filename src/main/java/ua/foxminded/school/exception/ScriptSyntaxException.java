@@ -0,0 +1,13 @@
+package ua.foxminded.school.exception;
+
+public class ScriptSyntaxException extends RuntimeException {
+    private static final long serialVersionUID = 4412608313925487160L;
+
+    public ScriptSyntaxException(String message) {
+        super(message);
+    }
+
+    public ScriptSyntaxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
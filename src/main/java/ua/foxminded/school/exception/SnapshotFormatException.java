@@ -0,0 +1,15 @@
+package ua.foxminded.school.exception;
+
+import java.io.IOException;
+
+public class SnapshotFormatException extends IOException {
+    private static final long serialVersionUID = -3315287102664395104L;
+
+    public SnapshotFormatException(String message) {
+        super(message);
+    }
+
+    public SnapshotFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,33 +1,130 @@
 package ua.foxminded.school.ui;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
 
 import javax.sql.DataSource;
 
+import ua.foxminded.school.dao.AsyncCourseDao;
 import ua.foxminded.school.dao.CourseDao;
 import ua.foxminded.school.dao.GroupDao;
 import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.async.AsyncCourseDaoImpl;
+import ua.foxminded.school.dao.async.AsyncDaoExecutor;
+import ua.foxminded.school.dao.async.CancellableDataSource;
+import ua.foxminded.school.dao.cache.CacheConfig;
+import ua.foxminded.school.dao.cache.CachingCourseDao;
+import ua.foxminded.school.dao.cache.CachingGroupDao;
 import ua.foxminded.school.dao.impl.CourseDaoImpl;
 import ua.foxminded.school.dao.impl.GroupDaoImpl;
 import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.dao.index.EnrollmentIndex;
+import ua.foxminded.school.dao.index.IndexedCourseDao;
+import ua.foxminded.school.dao.index.IndexedStudentDao;
+import ua.foxminded.school.dao.metrics.DaoInstrumentation;
+import ua.foxminded.school.dao.metrics.DaoMetrics;
 import ua.foxminded.school.domain.model.Course;
 import ua.foxminded.school.domain.model.Group;
 import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.ui.table.TableColumn;
+import ua.foxminded.school.ui.table.TableFormat;
+import ua.foxminded.school.ui.table.TableRenderer;
 
 public class UserInterface {
+    private static final int STUDENTS_PAGE_SIZE = 20;
+    private static final int FIRST_PAGE_ANCHOR = 0;
+    private static final String NEXT_PAGE_COMMAND = "n";
+    private static final String PREVIOUS_PAGE_COMMAND = "p";
+    private static final Duration DAO_OPERATION_TIMEOUT = Duration.ofSeconds(30);
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int LISTING_PAGE_SIZE = 50;
+    private static final String MORE_ROWS_COMMAND = "m";
+    private static final String STUDENT_WITHOUT_GROUP = "W/O";
+    private static final String DATA_COMMANDS_PATTERN = "[1-6]";
+    private static final TableRenderer<Group> GROUPS_TABLE = new TableRenderer<>(
+            List.of(TableColumn.right("Group ID", group -> String.valueOf(group.getId())),
+                    TableColumn.left("Group name", Group::getName)));
+    private static final TableRenderer<Student> STUDENTS_TABLE = new TableRenderer<>(List.of(
+            TableColumn.right("ID", student -> String.valueOf(student.getId())),
+            TableColumn.right("Group ID",
+                    student -> student.getGroupId() == 0 ? STUDENT_WITHOUT_GROUP
+                            : String.valueOf(student.getGroupId())),
+            TableColumn.left("First name", Student::getFirstName),
+            TableColumn.left("Last name", Student::getLastName)));
+    private static final TableRenderer<Course> COURSES_TABLE = new TableRenderer<>(
+            List.of(TableColumn.right("Course ID", course -> String.valueOf(course.getId())),
+                    TableColumn.left("Course name", Course::getName),
+                    TableColumn.left("Course description", Course::getDescription)));
+
     private final Scanner scanner;
     private final CourseDao courseDao;
     private final GroupDao groupDao;
     private final StudentDao studentDao;
+    private final CachingCourseDao cachingCourseDao;
+    private final CachingGroupDao cachingGroupDao;
+    private final DaoMetrics daoMetrics;
+    private final AsyncDaoExecutor asyncDaoExecutor;
+    private final AsyncCourseDao asyncCourseDao;
+    private final StudentDao studentDaoImpl;
+    private final EnrollmentIndex enrollmentIndex;
+    private final CompletableFuture<Void> dataReady;
+    private final Writer output;
+    private TableFormat tableFormat = TableFormat.ALIGNED;
 
     public UserInterface(DataSource dataSource) {
+        this(dataSource, new DaoMetrics());
+    }
+
+    public UserInterface(DataSource dataSource, DaoMetrics daoMetrics) {
+        this(dataSource, daoMetrics, CompletableFuture.completedFuture(null));
+        loadEnrollmentIndex();
+    }
+
+    public UserInterface(DataSource dataSource, DaoMetrics daoMetrics, CompletableFuture<Void> dataReady) {
+        this.dataReady = dataReady;
         scanner = new Scanner(System.in);
-        ;
-        courseDao = new CourseDaoImpl(dataSource);
-        groupDao = new GroupDaoImpl(dataSource);
-        studentDao = new StudentDaoImpl(dataSource);
+        output = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()), OUTPUT_BUFFER_SIZE);
+        this.daoMetrics = daoMetrics;
+        DataSource cancellableDataSource = new CancellableDataSource(dataSource);
+        CacheConfig cacheConfig = new CacheConfig();
+        cachingCourseDao = new CachingCourseDao(new CourseDaoImpl(cancellableDataSource), cacheConfig);
+        cachingGroupDao = new CachingGroupDao(new GroupDaoImpl(cancellableDataSource), cacheConfig);
+        studentDaoImpl = new StudentDaoImpl(cancellableDataSource);
+        enrollmentIndex = new EnrollmentIndex();
+        courseDao = DaoInstrumentation.instrument(CourseDao.class,
+                new IndexedCourseDao(cachingCourseDao, enrollmentIndex), daoMetrics);
+        groupDao = DaoInstrumentation.instrument(GroupDao.class, cachingGroupDao, daoMetrics);
+        studentDao = DaoInstrumentation.instrument(StudentDao.class,
+                new IndexedStudentDao(studentDaoImpl, cachingCourseDao, enrollmentIndex), daoMetrics);
+        asyncDaoExecutor = AsyncDaoExecutor.forDataSource(dataSource, DAO_OPERATION_TIMEOUT);
+        asyncCourseDao = new AsyncCourseDaoImpl(courseDao, asyncDaoExecutor);
+    }
+
+    public final void loadEnrollmentIndex() {
+        enrollmentIndex.load(studentDaoImpl);
+    }
+
+    public void warmUp() {
+        List<Course> courses = cachingCourseDao.findAll();
+        courses.forEach(course -> cachingCourseDao.findByName(course.getName()));
+        cachingGroupDao.findAll();
+        studentDaoImpl.findPage(FIRST_PAGE_ANCHOR, STUDENTS_PAGE_SIZE + 1);
+        if (!courses.isEmpty()) {
+            studentDaoImpl.findPageByCourseId(courses.get(0).getId(), FIRST_PAGE_ANCHOR, STUDENTS_PAGE_SIZE + 1);
+        }
     }
 
     public void run() {
@@ -36,6 +133,9 @@ public class UserInterface {
             printMainMenu();
             String input = scanner.next();
             System.out.println();
+            if (input.matches(DATA_COMMANDS_PATTERN) && !awaitDataReady()) {
+                continue;
+            }
             if (input.equals("1")) {
                 findGroupsByEqualOrLessStudentsCount();
             } else if (input.equals("2")) {
@@ -48,12 +148,32 @@ public class UserInterface {
                 addStudentToCourse();
             } else if (input.equals("6")) {
                 removeStudentCourse();
+            } else if (input.equals("7")) {
+                printStatistics();
+            } else if (input.equals("8")) {
+                resetStatistics();
+            } else if (input.equals("9")) {
+                selectOutputFormat();
             } else if (input.equals("q")) {
                 exit = true;
                 System.out.println("Exiting...");
             }
         }
         scanner.close();
+        asyncDaoExecutor.close();
+    }
+
+    private boolean awaitDataReady() {
+        if (!dataReady.isDone()) {
+            System.out.println("Database is still being prepared, please wait...");
+        }
+        try {
+            dataReady.join();
+            return true;
+        } catch (CompletionException e) {
+            System.out.println("Database is not available: " + e.getCause().getMessage());
+            return false;
+        }
     }
 
     private void printMainMenu() {
@@ -65,6 +185,9 @@ public class UserInterface {
         System.out.println("4. Delete student by ID");
         System.out.println("5. Add a student to the course (from a list)");
         System.out.println("6. Remove the student from one of his or her courses");
+        System.out.println("7. Show DAO operation statistics");
+        System.out.println("8. Reset DAO operation statistics");
+        System.out.println("9. Select output format (table, CSV, TSV)");
         System.out.println("q. Exit program");
         System.out.print("Enter menu-letter >>> ");
     }
@@ -87,8 +210,8 @@ public class UserInterface {
         Optional<Course> courseOpt = courseDao.findByName(courseName);
         courseOpt.ifPresentOrElse(course -> {
             System.out.println("Students from course \"" + course.getName() + "\":");
-            List<Student> students = studentDao.findAllByCourseName(course.getName());
-            printStudents(students);
+            pageThroughStudents((afterId, limit) -> studentDao.findPageByCourseId(course.getId(), afterId, limit),
+                    "Enter 'n' for next page, 'p' for previous page or any other key to return >>> ");
         }, () -> {
             System.out.println("Course with given name doesnt exist. Check course name and try again");
         });
@@ -106,8 +229,8 @@ public class UserInterface {
         student.setLastName(lastName);
 
         if (studentDao.save(student)) {
-            System.out.print("Successfully added a new student: ");
-            printStudent(student);
+            System.out.println("Successfully added a new student:");
+            printStudents(List.of(student));
         } else {
             System.out.println("Student was not saved. Please, try again");
         }
@@ -115,9 +238,7 @@ public class UserInterface {
 
     private void deleteStudentById() {
         System.out.println("Delete student by ID:");
-        printStudents(studentDao.findAll());
-        System.out.print("Enter student ID: ");
-        int studentId = getNumber();
+        int studentId = selectStudentId();
         if (studentDao.deleteById(studentId)) {
             System.out.println("Student was successfully deleted");
         } else {
@@ -127,13 +248,10 @@ public class UserInterface {
 
     private void addStudentToCourse() {
         System.out.println("Add student to course:");
-        List<Student> students = studentDao.findAll();
-        printStudents(students);
-        System.out.print("Enter student ID >>> ");
-        int studentId = getNumber();
+        CompletableFuture<List<Course>> coursesFuture = asyncCourseDao.findAll();
+        int studentId = selectStudentId();
 
-        List<Course> courses = courseDao.findAll();
-        printCourses(courses);
+        printCourses(coursesFuture.exceptionally(e -> courseDao.findAll()).join(), true);
         System.out.print("Enter course ID >>> ");
         int courseId = getNumber();
 
@@ -146,13 +264,10 @@ public class UserInterface {
 
     private void removeStudentCourse() {
         System.out.println("Remove student course:");
-        List<Student> students = studentDao.findAll();
-        printStudents(students);
-        System.out.print("Enter student ID >>> ");
-        int studentId = getNumber();
+        int studentId = selectStudentId();
 
         List<Course> studentCourses = courseDao.findAllByStudentId(studentId);
-        printCourses(studentCourses);
+        printCourses(studentCourses, false);
 
         System.out.print("Enter course ID >>> ");
         int courseId = getNumber();
@@ -164,6 +279,76 @@ public class UserInterface {
         }
     }
 
+    private void printStatistics() {
+        System.out.println("DAO operation statistics:");
+        System.out.println(daoMetrics.dump());
+        System.out.println();
+        System.out.println("Course cache: " + cachingCourseDao.getStatistics());
+        System.out.println("Group cache: " + cachingGroupDao.getStatistics());
+    }
+
+    private void resetStatistics() {
+        daoMetrics.reset();
+        System.out.println("DAO operation statistics were reset");
+    }
+
+    private void selectOutputFormat() {
+        System.out.println(String.format("Current output format: %s", tableFormat));
+        System.out.print("Enter output format (aligned, csv, tsv) >>> ");
+        String input = scanner.next();
+        try {
+            tableFormat = TableFormat.valueOf(input.toUpperCase());
+            System.out.println(String.format("Output format set to: %s", tableFormat));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown output format. Format was not changed");
+        }
+    }
+
+    private int selectStudentId() {
+        String input = pageThroughStudents(studentDao::findPage,
+                "Enter student ID, 'n' for next page or 'p' for previous page >>> ");
+        try {
+            int studentId = Integer.parseInt(input);
+            System.out.println("Number entered: " + studentId);
+            return studentId;
+        } catch (NumberFormatException e) {
+            System.out.print("Error! Please enter number >>> ");
+            return getNumber();
+        }
+    }
+
+    private String pageThroughStudents(BiFunction<Integer, Integer, List<Student>> pageQuery, String prompt) {
+        Deque<Integer> previousPageAnchors = new ArrayDeque<>();
+        int afterId = FIRST_PAGE_ANCHOR;
+        while (true) {
+            List<Student> students = pageQuery.apply(afterId, STUDENTS_PAGE_SIZE + 1);
+            boolean hasNextPage = students.size() > STUDENTS_PAGE_SIZE;
+            List<Student> page = hasNextPage ? students.subList(0, STUDENTS_PAGE_SIZE) : students;
+            printStudents(page);
+            System.out.println(String.format("Page %d%s%s", previousPageAnchors.size() + 1,
+                    previousPageAnchors.isEmpty() ? "" : " | p - previous page", hasNextPage ? " | n - next page" : ""));
+            System.out.print(prompt);
+            String input = scanner.next();
+            System.out.println();
+            if (input.equals(NEXT_PAGE_COMMAND)) {
+                if (hasNextPage) {
+                    previousPageAnchors.push(afterId);
+                    afterId = page.get(page.size() - 1).getId();
+                } else {
+                    System.out.println("This is the last page");
+                }
+            } else if (input.equals(PREVIOUS_PAGE_COMMAND)) {
+                if (!previousPageAnchors.isEmpty()) {
+                    afterId = previousPageAnchors.pop();
+                } else {
+                    System.out.println("This is the first page");
+                }
+            } else {
+                return input;
+            }
+        }
+    }
+
     private int getNumber() {
         boolean numberIsIncorrect = true;
         int number = 0;
@@ -180,38 +365,32 @@ public class UserInterface {
     }
 
     private void printGroups(List<Group> groups) {
-        for (Group group : groups) {
-            printGroup(group);
-        }
-    }
-
-    private void printGroup(Group group) {
-        System.out.println(String.format("Group ID: %d | Group name: %s", group.getId(), group.getName()));
+        render(GROUPS_TABLE, groups, true);
     }
 
     private void printStudents(List<Student> students) {
-        for (Student student : students) {
-            printStudent(student);
-        }
+        render(STUDENTS_TABLE, students, false);
     }
 
-    private void printStudent(Student student) {
-        String groupId = String.valueOf(student.getGroupId());
-        if (student.getGroupId() == 0) {
-            groupId = "W/O";
-        }
-        System.out.println(String.format("ID: %d | Group ID: %s | First name: %s | Last name: %s", student.getId(),
-                groupId, student.getFirstName(), student.getLastName()));
+    private void printCourses(List<Course> courses, boolean paged) {
+        render(COURSES_TABLE, courses, paged);
     }
 
-    private void printCourses(List<Course> courses) {
-        for (Course course : courses) {
-            printCourse(course);
+    private <T> void render(TableRenderer<T> tableRenderer, List<T> rows, boolean paged) {
+        try {
+            if (paged) {
+                tableRenderer.render(rows, tableFormat, output, LISTING_PAGE_SIZE, this::showMoreRows);
+            } else {
+                tableRenderer.render(rows, tableFormat, output);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private void printCourse(Course course) {
-        System.out.println(String.format("Course ID: %d | Course name: %s | Course description: %s", course.getId(),
-                course.getName(), course.getDescription()));
+    private boolean showMoreRows(int renderedRows, int totalRows) {
+        System.out.print(String.format("Shown %d of %d rows. Enter 'm' for more or any other key to stop >>> ",
+                renderedRows, totalRows));
+        return scanner.next().equals(MORE_ROWS_COMMAND);
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package ua.foxminded.school.ui.script;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.exception.ScriptSyntaxException;
+
+record ScriptCommand(int lineNumber, ScriptCommandType type, List<String> arguments) {
+    private static final String ENROLLMENT_SEPARATOR = ":";
+
+    String argument(int index) {
+        return arguments.get(index);
+    }
+
+    int intArgument(int index) {
+        try {
+            return Integer.parseInt(arguments.get(index));
+        } catch (NumberFormatException e) {
+            throw new ScriptSyntaxException(
+                    String.format("Expected number but found '%s', usage: %s", arguments.get(index), type.getUsage()),
+                    e);
+        }
+    }
+
+    List<Integer> intArguments() {
+        List<Integer> values = new ArrayList<>(arguments.size());
+        for (int i = 0; i < arguments.size(); i++) {
+            values.add(intArgument(i));
+        }
+        return values;
+    }
+
+    List<Enrollment> enrollmentArguments() {
+        if (type == ScriptCommandType.ENROLL || type == ScriptCommandType.UNENROLL) {
+            return List.of(new Enrollment(intArgument(0), intArgument(1)));
+        }
+        List<Enrollment> enrollments = new ArrayList<>(arguments.size());
+        for (String argument : arguments) {
+            String[] ids = argument.split(ENROLLMENT_SEPARATOR, -1);
+            if (ids.length != 2) {
+                throw new ScriptSyntaxException(String.format("Expected <student id>:<course id> but found '%s'",
+                        argument));
+            }
+            try {
+                enrollments.add(new Enrollment(Integer.parseInt(ids[0]), Integer.parseInt(ids[1])));
+            } catch (NumberFormatException e) {
+                throw new ScriptSyntaxException(
+                        String.format("Expected <student id>:<course id> but found '%s'", argument), e);
+            }
+        }
+        return enrollments;
+    }
+}
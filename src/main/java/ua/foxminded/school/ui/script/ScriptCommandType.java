@@ -0,0 +1,58 @@
+package ua.foxminded.school.ui.script;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+enum ScriptCommandType {
+    FIND_GROUPS("find-groups", 1, 1, null, "find-groups <max students count>"),
+    FIND_STUDENTS("find-students", 1, 1, null, "find-students <course name>"),
+    ADD_STUDENT("add-student", 2, 3, BatchKind.STUDENTS_INSERT, "add-student <first name> <last name> [group id]"),
+    DELETE_STUDENT("delete-student", 1, 1, BatchKind.STUDENTS_DELETE, "delete-student <student id>"),
+    DELETE_STUDENTS("delete-students", 1, Integer.MAX_VALUE, BatchKind.STUDENTS_DELETE,
+            "delete-students <student id>..."),
+    ENROLL("enroll", 2, 2, BatchKind.ENROLLMENTS_INSERT, "enroll <student id> <course id>"),
+    ENROLL_ALL("enroll-all", 1, Integer.MAX_VALUE, BatchKind.ENROLLMENTS_INSERT,
+            "enroll-all <student id>:<course id>..."),
+    UNENROLL("unenroll", 2, 2, BatchKind.ENROLLMENTS_DELETE, "unenroll <student id> <course id>"),
+    UNENROLL_ALL("unenroll-all", 1, Integer.MAX_VALUE, BatchKind.ENROLLMENTS_DELETE,
+            "unenroll-all <student id>:<course id>..."),
+    CLEAR_COURSE("clear-course", 1, 1, null, "clear-course <course id>");
+
+    private final String token;
+    private final int minArguments;
+    private final int maxArguments;
+    private final BatchKind batchKind;
+    private final String usage;
+
+    ScriptCommandType(String token, int minArguments, int maxArguments, BatchKind batchKind, String usage) {
+        this.token = token;
+        this.minArguments = minArguments;
+        this.maxArguments = maxArguments;
+        this.batchKind = batchKind;
+        this.usage = usage;
+    }
+
+    static Optional<ScriptCommandType> ofToken(String token) {
+        return Arrays.stream(values()).filter(type -> type.token.equals(token)).findFirst();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    boolean acceptsArgumentsCount(int argumentsCount) {
+        return argumentsCount >= minArguments && argumentsCount <= maxArguments;
+    }
+
+    Optional<BatchKind> getBatchKind() {
+        return Optional.ofNullable(batchKind);
+    }
+
+    String getUsage() {
+        return usage;
+    }
+
+    enum BatchKind {
+        STUDENTS_INSERT, STUDENTS_DELETE, ENROLLMENTS_INSERT, ENROLLMENTS_DELETE
+    }
+}
@@ -0,0 +1,322 @@
+package ua.foxminded.school.ui.script;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.BulkOperationResult;
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.ScriptSyntaxException;
+import ua.foxminded.school.ui.script.ScriptCommandType.BatchKind;
+
+public class ScriptExecutor {
+    private static final Logger LOGGER = LogManager.getLogger(ScriptExecutor.class);
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int MAX_UNITS_IN_FLIGHT = 8;
+    private static final String WORKER_THREAD_NAME = "script-executor";
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final StudentDao studentDao;
+    private final CourseDao courseDao;
+    private final GroupDao groupDao;
+    private final int batchSize;
+    private final ScriptParser parser = new ScriptParser();
+
+    public ScriptExecutor(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao) {
+        this(studentDao, courseDao, groupDao, DEFAULT_BATCH_SIZE);
+    }
+
+    public ScriptExecutor(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.studentDao = Objects.requireNonNull(studentDao);
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.groupDao = Objects.requireNonNull(groupDao);
+        this.batchSize = batchSize;
+    }
+
+    public ScriptReport execute(BufferedReader script, Writer output) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ScriptRun run = new ScriptRun(worker, output);
+            int lineNumber = 0;
+            String line;
+            while ((line = script.readLine()) != null) {
+                run.accept(++lineNumber, line);
+            }
+            run.finish();
+            return new ScriptReport(run.commandsCount, run.batchesCount, run.errorsCount,
+                    System.currentTimeMillis() - startMillis);
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    private List<ScriptResult> executeBatch(BatchKind batchKind, List<ScriptCommand> commands) {
+        List<ScriptResult> results = executeSafely(commands, () -> switch (batchKind) {
+        case STUDENTS_INSERT -> addStudents(commands);
+        case STUDENTS_DELETE -> deleteStudents(commands);
+        case ENROLLMENTS_INSERT -> enroll(commands);
+        case ENROLLMENTS_DELETE -> unenroll(commands);
+        });
+        boolean insertBatch = batchKind == BatchKind.STUDENTS_INSERT || batchKind == BatchKind.ENROLLMENTS_INSERT;
+        if (insertBatch && commands.size() > 1 && results.stream().allMatch(ScriptResult::isError)) {
+            results = new ArrayList<>();
+            for (ScriptCommand command : commands) {
+                results.addAll(executeBatch(batchKind, List.of(command)));
+            }
+        }
+        return results;
+    }
+
+    private List<ScriptResult> executeCommand(ScriptCommand command) {
+        return executeSafely(List.of(command), () -> switch (command.type()) {
+        case FIND_GROUPS -> findGroups(command);
+        case FIND_STUDENTS -> findStudents(command);
+        case CLEAR_COURSE -> clearCourse(command);
+        default -> throw new IllegalStateException(String.format("Command is batched: %s", command.type()));
+        });
+    }
+
+    private List<ScriptResult> executeSafely(List<ScriptCommand> commands, Supplier<List<ScriptResult>> execution) {
+        try {
+            return execution.get();
+        } catch (RuntimeException e) {
+            LOGGER.error(String.format("Error executing %d script commands starting at line %d", commands.size(),
+                    commands.get(0).lineNumber()), e);
+            return errors(commands, e.getMessage());
+        }
+    }
+
+    private List<ScriptResult> addStudents(List<ScriptCommand> commands) {
+        List<Student> students = new ArrayList<>(commands.size());
+        for (ScriptCommand command : commands) {
+            Student student = new Student();
+            student.setFirstName(command.argument(0));
+            student.setLastName(command.argument(1));
+            if (command.arguments().size() == 3) {
+                student.setGroupId(command.intArgument(2));
+            }
+            students.add(student);
+        }
+        if (!studentDao.saveAllBatch(students)) {
+            return errors(commands, "Students were not saved");
+        }
+        List<ScriptResult> results = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            results.add(ScriptResult.ok(commands.get(i), students.get(i).getId()));
+        }
+        return results;
+    }
+
+    private List<ScriptResult> deleteStudents(List<ScriptCommand> commands) {
+        List<Integer> studentIds = new ArrayList<>();
+        commands.forEach(command -> studentIds.addAll(command.intArguments()));
+        return attributeOutcomes(commands, ScriptCommand::intArguments, studentDao.deleteByIds(studentIds));
+    }
+
+    private List<ScriptResult> enroll(List<ScriptCommand> commands) {
+        List<Enrollment> enrollments = new ArrayList<>();
+        commands.forEach(command -> enrollments.addAll(command.enrollmentArguments()));
+        OptionalInt insertedCount = studentDao.assignAllToCourses(enrollments);
+        if (insertedCount.isEmpty()) {
+            return errors(commands, "Students were not enrolled");
+        }
+        return commands.stream().map(command -> ScriptResult.ok(command)).toList();
+    }
+
+    private List<ScriptResult> unenroll(List<ScriptCommand> commands) {
+        List<Enrollment> enrollments = new ArrayList<>();
+        commands.forEach(command -> enrollments.addAll(command.enrollmentArguments()));
+        return attributeOutcomes(commands, ScriptCommand::enrollmentArguments,
+                studentDao.deleteFromCourses(enrollments));
+    }
+
+    private <K> List<ScriptResult> attributeOutcomes(List<ScriptCommand> commands,
+            Function<ScriptCommand, List<K>> keysExtractor, BulkOperationResult<K> result) {
+        Set<K> claimedKeys = new HashSet<>();
+        List<ScriptResult> results = new ArrayList<>(commands.size());
+        for (ScriptCommand command : commands) {
+            int succeededCount = 0;
+            int notFoundCount = 0;
+            int failedCount = 0;
+            for (K key : keysExtractor.apply(command)) {
+                if (result.getFailed().contains(key)) {
+                    failedCount++;
+                } else if (result.getSucceeded().contains(key) && claimedKeys.add(key)) {
+                    succeededCount++;
+                } else {
+                    notFoundCount++;
+                }
+            }
+            results.add(ScriptResult.ofCounts(command, succeededCount, notFoundCount, failedCount));
+        }
+        return results;
+    }
+
+    private List<ScriptResult> findGroups(ScriptCommand command) {
+        List<Group> groups = groupDao.findAllByEqualOrLessStudentsCount(command.intArgument(0));
+        List<ScriptResult> results = new ArrayList<>(groups.size() + 1);
+        for (Group group : groups) {
+            results.add(ScriptResult.row(command, group.getId(), group.getName()));
+        }
+        results.add(ScriptResult.ok(command, groups.size()));
+        return results;
+    }
+
+    private List<ScriptResult> findStudents(ScriptCommand command) {
+        Optional<Course> course = courseDao.findByName(command.argument(0));
+        if (course.isEmpty()) {
+            return List.of(ScriptResult.notFound(command));
+        }
+        List<Student> students = studentDao.findAllByCourseName(course.get().getName());
+        List<ScriptResult> results = new ArrayList<>(students.size() + 1);
+        for (Student student : students) {
+            results.add(ScriptResult.row(command, student.getId(), student.getGroupId(), student.getFirstName(),
+                    student.getLastName()));
+        }
+        results.add(ScriptResult.ok(command, students.size()));
+        return results;
+    }
+
+    private List<ScriptResult> clearCourse(ScriptCommand command) {
+        BulkOperationResult<Integer> result = studentDao.deleteAllFromCourse(command.intArgument(0));
+        if (result.hasFailures()) {
+            return List.of(ScriptResult.error(command,
+                    String.format("Course was cleared partially: %d students removed", result.getSucceededCount())));
+        }
+        return List.of(ScriptResult.ok(command, result.getSucceededCount()));
+    }
+
+    private List<ScriptResult> errors(List<ScriptCommand> commands, String message) {
+        return commands.stream().map(command -> ScriptResult.error(command, message)).toList();
+    }
+
+    private class ScriptRun {
+        private final ExecutorService worker;
+        private final Writer output;
+        private final Deque<Future<List<ScriptResult>>> unitsInFlight = new ArrayDeque<>();
+        private final List<ScriptCommand> pendingBatch = new ArrayList<>();
+        private BatchKind pendingBatchKind;
+        private int commandsCount;
+        private int batchesCount;
+        private int errorsCount;
+
+        private ScriptRun(ExecutorService worker, Writer output) {
+            this.worker = worker;
+            this.output = output;
+        }
+
+        private void accept(int lineNumber, String line) throws IOException {
+            ScriptCommand command;
+            try {
+                command = parser.parse(lineNumber, line);
+            } catch (ScriptSyntaxException e) {
+                flushBatch();
+                commandsCount++;
+                String commandToken = line.strip().split("\\s+", 2)[0];
+                submit(() -> List.of(ScriptResult.error(lineNumber, commandToken, e.getMessage())));
+                return;
+            }
+            if (command == null) {
+                return;
+            }
+            commandsCount++;
+            Optional<BatchKind> batchKind = command.type().getBatchKind();
+            if (batchKind.isPresent()) {
+                if (batchKind.get() != pendingBatchKind) {
+                    flushBatch();
+                }
+                pendingBatchKind = batchKind.get();
+                pendingBatch.add(command);
+                if (pendingBatch.size() >= batchSize) {
+                    flushBatch();
+                }
+            } else {
+                flushBatch();
+                submit(() -> executeCommand(command));
+            }
+        }
+
+        private void finish() throws IOException {
+            flushBatch();
+            while (!unitsInFlight.isEmpty()) {
+                writeResults(unitsInFlight.poll());
+            }
+            output.flush();
+        }
+
+        private void flushBatch() throws IOException {
+            if (pendingBatch.isEmpty()) {
+                return;
+            }
+            BatchKind batchKind = pendingBatchKind;
+            List<ScriptCommand> batch = List.copyOf(pendingBatch);
+            pendingBatch.clear();
+            pendingBatchKind = null;
+            batchesCount++;
+            submit(() -> executeBatch(batchKind, batch));
+        }
+
+        private void submit(Supplier<List<ScriptResult>> unit) throws IOException {
+            unitsInFlight.add(worker.submit(unit::get));
+            while (unitsInFlight.size() > MAX_UNITS_IN_FLIGHT || unitsInFlight.peek().isDone()) {
+                writeResults(unitsInFlight.poll());
+                if (unitsInFlight.isEmpty()) {
+                    break;
+                }
+            }
+        }
+
+        private void writeResults(Future<List<ScriptResult>> unit) throws IOException {
+            List<ScriptResult> results;
+            try {
+                results = unit.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Script execution was interrupted");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Script unit failed unexpectedly", e.getCause());
+            }
+            for (ScriptResult result : results) {
+                if (result.isError()) {
+                    errorsCount++;
+                }
+                output.write(result.toLine());
+                output.write(LINE_SEPARATOR);
+            }
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ua.foxminded.school.ui.script;
+
+import java.util.Arrays;
+import java.util.List;
+
+import ua.foxminded.school.exception.ScriptSyntaxException;
+
+class ScriptParser {
+    private static final String COMMENT_PREFIX = "#";
+    private static final String ARGUMENTS_DELIMITER_REGEX = "\\s+";
+
+    ScriptCommand parse(int lineNumber, String line) {
+        String trimmedLine = line.strip();
+        if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+            return null;
+        }
+        String[] tokens = trimmedLine.split(ARGUMENTS_DELIMITER_REGEX);
+        ScriptCommandType type = ScriptCommandType.ofToken(tokens[0])
+                .orElseThrow(() -> new ScriptSyntaxException(String.format("Unknown command '%s'", tokens[0])));
+        List<String> arguments = List.of(Arrays.copyOfRange(tokens, 1, tokens.length));
+        if (!type.acceptsArgumentsCount(arguments.size())) {
+            throw new ScriptSyntaxException(String.format("Wrong arguments count, usage: %s", type.getUsage()));
+        }
+        ScriptCommand command = new ScriptCommand(lineNumber, type, arguments);
+        validateArguments(command);
+        return command;
+    }
+
+    private void validateArguments(ScriptCommand command) {
+        switch (command.type()) {
+        case FIND_GROUPS, DELETE_STUDENT, DELETE_STUDENTS, CLEAR_COURSE -> command.intArguments();
+        case ENROLL, ENROLL_ALL, UNENROLL, UNENROLL_ALL -> command.enrollmentArguments();
+        case ADD_STUDENT -> {
+            if (command.arguments().size() == 3) {
+                command.intArgument(2);
+            }
+        }
+        case FIND_STUDENTS -> {
+        }
+        }
+    }
+}
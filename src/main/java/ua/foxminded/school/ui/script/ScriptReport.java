@@ -0,0 +1,41 @@
+package ua.foxminded.school.ui.script;
+
+public class ScriptReport {
+    private final int commandsCount;
+    private final int batchesCount;
+    private final int errorsCount;
+    private final long elapsedMillis;
+
+    public ScriptReport(int commandsCount, int batchesCount, int errorsCount, long elapsedMillis) {
+        this.commandsCount = commandsCount;
+        this.batchesCount = batchesCount;
+        this.errorsCount = errorsCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getCommandsCount() {
+        return commandsCount;
+    }
+
+    public int getBatchesCount() {
+        return batchesCount;
+    }
+
+    public int getErrorsCount() {
+        return errorsCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isSuccessful() {
+        return errorsCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Executed %d commands in %d batches with %d errors in %d ms", commandsCount,
+                batchesCount, errorsCount, elapsedMillis);
+    }
+}
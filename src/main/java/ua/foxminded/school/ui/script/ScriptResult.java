@@ -0,0 +1,80 @@
+package ua.foxminded.school.ui.script;
+
+import java.util.ArrayList;
+import java.util.List;
+
+record ScriptResult(int lineNumber, String command, String status, List<String> values) {
+    static final String OK = "ok";
+    static final String ROW = "row";
+    static final String NOT_FOUND = "not_found";
+    static final String ERROR = "error";
+
+    private static final char FIELDS_SEPARATOR = '\t';
+
+    static ScriptResult ok(ScriptCommand command, Object... values) {
+        return of(command, OK, values);
+    }
+
+    static ScriptResult row(ScriptCommand command, Object... values) {
+        return of(command, ROW, values);
+    }
+
+    static ScriptResult notFound(ScriptCommand command) {
+        return of(command, NOT_FOUND);
+    }
+
+    static ScriptResult error(ScriptCommand command, String message) {
+        return of(command, ERROR, message);
+    }
+
+    static ScriptResult error(int lineNumber, String command, String message) {
+        return new ScriptResult(lineNumber, command, ERROR, List.of(String.valueOf(message)));
+    }
+
+    static ScriptResult ofCounts(ScriptCommand command, int succeededCount, int notFoundCount, int failedCount) {
+        String status = OK;
+        if (failedCount > 0) {
+            status = ERROR;
+        } else if (notFoundCount > 0) {
+            status = NOT_FOUND;
+        }
+        return of(command, status, succeededCount, notFoundCount, failedCount);
+    }
+
+    private static ScriptResult of(ScriptCommand command, String status, Object... values) {
+        List<String> textValues = new ArrayList<>(values.length);
+        for (Object value : values) {
+            textValues.add(String.valueOf(value));
+        }
+        return new ScriptResult(command.lineNumber(), command.type().getToken(), status, textValues);
+    }
+
+    boolean isError() {
+        return ERROR.equals(status);
+    }
+
+    String toLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(lineNumber).append(FIELDS_SEPARATOR).append(escape(command)).append(FIELDS_SEPARATOR)
+                .append(status);
+        for (String value : values) {
+            line.append(FIELDS_SEPARATOR).append(escape(value));
+        }
+        return line.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+            case '\\' -> escaped.append("\\\\");
+            case '\t' -> escaped.append("\\t");
+            case '\n' -> escaped.append("\\n");
+            case '\r' -> escaped.append("\\r");
+            default -> escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+}
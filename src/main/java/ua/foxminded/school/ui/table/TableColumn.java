@@ -0,0 +1,23 @@
+package ua.foxminded.school.ui.table;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+public record TableColumn<T>(String header, Function<T, String> valueExtractor, boolean rightAligned) {
+    public TableColumn {
+        Objects.requireNonNull(header);
+        Objects.requireNonNull(valueExtractor);
+    }
+
+    public static <T> TableColumn<T> left(String header, Function<T, String> valueExtractor) {
+        return new TableColumn<>(header, valueExtractor, false);
+    }
+
+    public static <T> TableColumn<T> right(String header, Function<T, String> valueExtractor) {
+        return new TableColumn<>(header, valueExtractor, true);
+    }
+
+    String valueOf(T row) {
+        return String.valueOf(valueExtractor.apply(row));
+    }
+}
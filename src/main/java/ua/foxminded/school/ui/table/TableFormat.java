@@ -0,0 +1,5 @@
+package ua.foxminded.school.ui.table;
+
+public enum TableFormat {
+    ALIGNED, CSV, TSV
+}
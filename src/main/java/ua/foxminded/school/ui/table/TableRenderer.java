@@ -0,0 +1,208 @@
+package ua.foxminded.school.ui.table;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class TableRenderer<T> {
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String ALIGNED_COLUMNS_SEPARATOR = " | ";
+    private static final char HEADER_UNDERLINE = '-';
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final char TSV_SEPARATOR = '\t';
+    private static final int PADDING_CHUNK_SIZE = 64;
+    private static final char[] SPACES = filledChars(' ');
+    private static final char[] UNDERLINES = filledChars(HEADER_UNDERLINE);
+    private static final MorePrompt NO_PAGING = (renderedRows, totalRows) -> true;
+
+    private final List<TableColumn<T>> columns;
+
+    public TableRenderer(List<TableColumn<T>> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Table must have at least one column");
+        }
+        this.columns = List.copyOf(columns);
+    }
+
+    public int render(List<T> rows, TableFormat format, Writer output) throws IOException {
+        return render(rows, format, output, Integer.MAX_VALUE, NO_PAGING);
+    }
+
+    public int render(List<T> rows, TableFormat format, Writer output, int pageSize, MorePrompt morePrompt)
+            throws IOException {
+        Objects.requireNonNull(rows);
+        Objects.requireNonNull(format);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        String[][] cells = extractCells(rows);
+        int[] widths = format == TableFormat.ALIGNED ? measureWidths(cells) : null;
+        writeHeader(format, widths, output);
+        int renderedRows = 0;
+        while (renderedRows < cells.length) {
+            int pageEnd = (int) Math.min((long) renderedRows + pageSize, cells.length);
+            for (int i = renderedRows; i < pageEnd; i++) {
+                writeRow(cells[i], format, widths, output);
+            }
+            renderedRows = pageEnd;
+            output.flush();
+            if (renderedRows < cells.length && !morePrompt.showMore(renderedRows, cells.length)) {
+                break;
+            }
+        }
+        output.flush();
+        return renderedRows;
+    }
+
+    private String[][] extractCells(List<T> rows) {
+        String[][] cells = new String[rows.size()][];
+        int rowIndex = 0;
+        for (T row : rows) {
+            String[] rowCells = new String[columns.size()];
+            for (int i = 0; i < rowCells.length; i++) {
+                rowCells[i] = columns.get(i).valueOf(row);
+            }
+            cells[rowIndex++] = rowCells;
+        }
+        return cells;
+    }
+
+    private int[] measureWidths(String[][] cells) {
+        int[] widths = new int[columns.size()];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = columns.get(i).header().length();
+        }
+        for (String[] rowCells : cells) {
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], rowCells[i].length());
+            }
+        }
+        return widths;
+    }
+
+    private void writeHeader(TableFormat format, int[] widths, Writer output) throws IOException {
+        String[] headers = new String[columns.size()];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = columns.get(i).header();
+        }
+        writeRow(headers, format, widths, output);
+        if (format == TableFormat.ALIGNED) {
+            for (int i = 0; i < widths.length; i++) {
+                if (i > 0) {
+                    output.write(ALIGNED_COLUMNS_SEPARATOR);
+                }
+                writeRepeated(UNDERLINES, widths[i], output);
+            }
+            output.write(LINE_SEPARATOR);
+        }
+    }
+
+    private void writeRow(String[] rowCells, TableFormat format, int[] widths, Writer output) throws IOException {
+        switch (format) {
+        case ALIGNED -> writeAlignedRow(rowCells, widths, output);
+        case CSV -> writeCsvRow(rowCells, output);
+        case TSV -> writeTsvRow(rowCells, output);
+        }
+        output.write(LINE_SEPARATOR);
+    }
+
+    private void writeAlignedRow(String[] rowCells, int[] widths, Writer output) throws IOException {
+        for (int i = 0; i < rowCells.length; i++) {
+            if (i > 0) {
+                output.write(ALIGNED_COLUMNS_SEPARATOR);
+            }
+            int padding = widths[i] - rowCells[i].length();
+            if (columns.get(i).rightAligned()) {
+                writeRepeated(SPACES, padding, output);
+                output.write(rowCells[i]);
+            } else {
+                output.write(rowCells[i]);
+                if (i < rowCells.length - 1) {
+                    writeRepeated(SPACES, padding, output);
+                }
+            }
+        }
+    }
+
+    private void writeCsvRow(String[] rowCells, Writer output) throws IOException {
+        for (int i = 0; i < rowCells.length; i++) {
+            if (i > 0) {
+                output.write(CSV_SEPARATOR);
+            }
+            String cell = rowCells[i];
+            if (requiresCsvQuoting(cell)) {
+                output.write(CSV_QUOTE);
+                output.write(cell.replace("\"", "\"\""));
+                output.write(CSV_QUOTE);
+            } else {
+                output.write(cell);
+            }
+        }
+    }
+
+    private boolean requiresCsvQuoting(String cell) {
+        for (int i = 0; i < cell.length(); i++) {
+            char character = cell.charAt(i);
+            if (character == CSV_SEPARATOR || character == CSV_QUOTE || character == '\n' || character == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeTsvRow(String[] rowCells, Writer output) throws IOException {
+        for (int i = 0; i < rowCells.length; i++) {
+            if (i > 0) {
+                output.write(TSV_SEPARATOR);
+            }
+            writeTsvCell(rowCells[i], output);
+        }
+    }
+
+    private void writeTsvCell(String cell, Writer output) throws IOException {
+        if (!requiresTsvEscaping(cell)) {
+            output.write(cell);
+            return;
+        }
+        for (int i = 0; i < cell.length(); i++) {
+            char character = cell.charAt(i);
+            switch (character) {
+            case '\\' -> output.write("\\\\");
+            case '\t' -> output.write("\\t");
+            case '\n' -> output.write("\\n");
+            case '\r' -> output.write("\\r");
+            default -> output.write(character);
+            }
+        }
+    }
+
+    private boolean requiresTsvEscaping(String cell) {
+        for (int i = 0; i < cell.length(); i++) {
+            char character = cell.charAt(i);
+            if (character == '\\' || character == '\t' || character == '\n' || character == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeRepeated(char[] chars, int count, Writer output) throws IOException {
+        for (int remaining = count; remaining > 0; remaining -= PADDING_CHUNK_SIZE) {
+            output.write(chars, 0, Math.min(remaining, PADDING_CHUNK_SIZE));
+        }
+    }
+
+    private static char[] filledChars(char character) {
+        char[] chars = new char[PADDING_CHUNK_SIZE];
+        Arrays.fill(chars, character);
+        return chars;
+    }
+
+    @FunctionalInterface
+    public interface MorePrompt {
+        boolean showMore(int renderedRows, int totalRows) throws IOException;
+    }
+}
@@ -1,24 +1,16 @@
 package ua.foxminded.school.util;
 
-import java.util.List;
-import java.util.Map;
-
 import javax.sql.DataSource;
 
 import org.h2.jdbcx.JdbcDataSource;
 import org.postgresql.ds.PGSimpleDataSource;
 
-import ua.foxminded.school.dao.CourseDao;
-import ua.foxminded.school.dao.GroupDao;
-import ua.foxminded.school.dao.StudentDao;
-import ua.foxminded.school.dao.impl.CourseDaoImpl;
-import ua.foxminded.school.dao.impl.GroupDaoImpl;
-import ua.foxminded.school.dao.impl.StudentDaoImpl;
-import ua.foxminded.school.domain.model.Course;
-import ua.foxminded.school.domain.model.Group;
-import ua.foxminded.school.domain.model.Student;
-import ua.foxminded.school.exception.DaoOperationException;
 import ua.foxminded.school.util.data.Data;
+import ua.foxminded.school.util.data.SchoolDataSeeder;
+import ua.foxminded.school.util.data.SeederConfig;
+import ua.foxminded.school.util.data.SeedingReport;
+import ua.foxminded.school.util.pool.PoolConfig;
+import ua.foxminded.school.util.pool.PooledDataSource;
 
 public class JdbcUtil {
     private static String DEFAULT_DATABASE_NAME = "school_db";
@@ -42,6 +34,18 @@ public class JdbcUtil {
         return dataSource;
     }
 
+    public static PooledDataSource createDefaultPooledPostgresDataSource() {
+        return createPooledDataSource(createDefaultPostgresDataSource(), new PoolConfig());
+    }
+
+    public static PooledDataSource createDefaultPooledInMemoryH2DataSource() {
+        return createPooledDataSource(createDefaultInMemoryH2DataSource(), new PoolConfig());
+    }
+
+    public static PooledDataSource createPooledDataSource(DataSource targetDataSource, PoolConfig poolConfig) {
+        return new PooledDataSource(targetDataSource, poolConfig);
+    }
+
     public static DataSource createDefaultInMemoryH2DataSource() {
         String url = formatH2InMemoryDbUrl(DEFAULT_DATABASE_NAME);
         return createInMemoryH2DataSource(url, DEFAULT_USERNAME, DEFAULT_PASSWORD);
@@ -60,23 +64,12 @@ public class JdbcUtil {
         return h2DataSource;
     }
 
-    public static void insertTestDataInDatabase(Data data, DataSource dataSource) {
-        try {
-            List<Group> groups = data.getGroups();
-            GroupDao groupDao = new GroupDaoImpl(dataSource);
-            groupDao.saveAllBatch(groups);
-
-            List<Course> courses = data.getCourses();
-            CourseDao courseDao = new CourseDaoImpl(dataSource);
-            courseDao.saveAllBatch(courses);
-
-            List<Student> students = data.getStudents(groups);
-            Map<Student, List<Course>> studentsCourses = data.getStudentsCourses(students, courses);
-            StudentDao studentDao = new StudentDaoImpl(dataSource);
-            studentDao.saveAllBatch(students);
-            studentDao.assignToCoursesBatch(studentsCourses);
-        } catch (Exception e) {
-            throw new DaoOperationException("Error inserting test data in database", e);
-        }
+    public static SeedingReport insertTestDataInDatabase(Data data, DataSource dataSource) {
+        return insertTestDataInDatabase(data, dataSource, new SeederConfig());
+    }
+
+    public static SeedingReport insertTestDataInDatabase(Data data, DataSource dataSource, SeederConfig seederConfig) {
+        SchoolDataSeeder schoolDataSeeder = new SchoolDataSeeder(dataSource, seederConfig);
+        return schoolDataSeeder.seed(data);
     }
 }
@@ -1,16 +1,21 @@
 package ua.foxminded.school.util;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
 import javax.sql.DataSource;
 
+import ua.foxminded.school.dao.impl.bulk.StagingTables;
 import ua.foxminded.school.exception.FileReaderException;
 import ua.foxminded.school.exception.SchoolDbInitializerException;
+import ua.foxminded.school.util.migration.SchemaMigrator;
+import ua.foxminded.school.util.sql.SqlScriptExecutor;
 
 public class SchoolDbInitializer {
-    private static final String TABLE_INITIALIZATION_SQL_FILE = "tables_initialization.sql";
+    private static final String DROP_TABLES_SQL_FILE = "db/drop_tables.sql";
+    private static final String SELECT_ANY_STUDENT_SQL = "SELECT 1 FROM students LIMIT 1;";
 
     private DataSource dataSource;
 
@@ -19,14 +24,36 @@ public class SchoolDbInitializer {
     }
 
     public void init() throws SchoolDbInitializerException {
-        try (Connection connection = dataSource.getConnection();
-             Statement statement = connection.createStatement()) {
-            String createTablesSql = FileReader.readWholeFileFromResources(TABLE_INITIALIZATION_SQL_FILE);
-            statement.execute(createTablesSql);
+        new SchemaMigrator(dataSource).migrate();
+        dropLeftoverStagingTables();
+    }
+
+    private void dropLeftoverStagingTables() throws SchoolDbInitializerException {
+        try (Connection connection = dataSource.getConnection()) {
+            StagingTables.dropLeftovers(connection);
+        } catch (SQLException e) {
+            throw new SchoolDbInitializerException("Cannot drop leftover staging tables", e);
+        }
+    }
+
+    public void reset() throws SchoolDbInitializerException {
+        try (Connection connection = dataSource.getConnection()) {
+            new SqlScriptExecutor().executeResource(connection, DROP_TABLES_SQL_FILE);
         } catch (FileReaderException e) {
-            throw new SchoolDbInitializerException("Cannot read initialization file", e);
+            throw new SchoolDbInitializerException("Cannot read drop tables file", e);
+        } catch (SQLException e) {
+            throw new SchoolDbInitializerException("Database reset error", e);
+        }
+        init();
+    }
+
+    public boolean isEmpty() throws SchoolDbInitializerException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_ANY_STUDENT_SQL)) {
+            return !resultSet.next();
         } catch (SQLException e) {
-            throw new SchoolDbInitializerException("Database initialization error", e);
+            throw new SchoolDbInitializerException("Cannot check whether database is empty", e);
         }
     }
 }
@@ -0,0 +1,78 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.StudentDao;
+
+public class CsvExporter {
+    private static final Logger LOGGER = LogManager.getLogger(CsvExporter.class);
+
+    private final StudentDao studentDao;
+    private final CourseDao courseDao;
+    private final GroupDao groupDao;
+
+    public CsvExporter(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao) {
+        this.studentDao = Objects.requireNonNull(studentDao);
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.groupDao = Objects.requireNonNull(groupDao);
+    }
+
+    public CsvTransferReport exportTable(CsvTable table, Writer output) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        CsvWriter csv = new CsvWriter(output);
+        csv.writeRecord(table.getColumns());
+        long rowsCount = switch (table) {
+        case GROUPS -> writeRows(groupDao.streamAll(), csv, group -> {
+            csv.writeField(group.getId());
+            csv.writeField(group.getName());
+        });
+        case COURSES -> writeRows(courseDao.streamAll(), csv, course -> {
+            csv.writeField(course.getId());
+            csv.writeField(course.getName());
+            csv.writeField(course.getDescription());
+        });
+        case STUDENTS -> writeRows(studentDao.streamAll(), csv, student -> {
+            csv.writeField(student.getId());
+            csv.writeField(student.getGroupId());
+            csv.writeField(student.getFirstName());
+            csv.writeField(student.getLastName());
+        });
+        case ENROLLMENTS -> writeRows(studentDao.streamAllEnrollments(), csv, enrollment -> {
+            csv.writeField(enrollment.getStudentId());
+            csv.writeField(enrollment.getCourseId());
+        });
+        };
+        csv.flush();
+        CsvTransferReport report = new CsvTransferReport(table, rowsCount, 0,
+                System.currentTimeMillis() - startMillis);
+        LOGGER.info(String.format("Export finished: %s", report));
+        return report;
+    }
+
+    private <T> long writeRows(Stream<T> rows, CsvWriter csv, RowWriter<T> rowWriter) throws IOException {
+        long rowsCount = 0;
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.write(iterator.next());
+                csv.endRecord();
+                rowsCount++;
+            }
+        }
+        return rowsCount;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+}
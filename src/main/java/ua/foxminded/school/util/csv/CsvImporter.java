@@ -0,0 +1,167 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.CsvFormatException;
+import ua.foxminded.school.exception.DaoOperationException;
+
+public class CsvImporter {
+    private static final Logger LOGGER = LogManager.getLogger(CsvImporter.class);
+    private static final int DEFAULT_CHUNK_SIZE = 5_000;
+    private static final long PROGRESS_INTERVAL_MILLIS = 5_000;
+
+    private final DataSource dataSource;
+    private final int chunkSize;
+
+    public CsvImporter(DataSource dataSource) {
+        this(dataSource, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvImporter(DataSource dataSource, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize;
+    }
+
+    public CsvTransferReport importTable(CsvTable table, Reader input) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        CsvReader csv = new CsvReader(input);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                CsvTransferReport report = importRows(connection, table, csv, startMillis);
+                connection.commit();
+                LOGGER.info(String.format("Import finished: %s", report));
+                return report;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DaoOperationException(String.format("Error importing table %s", table.getToken()), e);
+        }
+    }
+
+    private CsvTransferReport importRows(Connection connection, CsvTable table, CsvReader csv, long startMillis)
+            throws SQLException, IOException {
+        checkHeader(table, csv);
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        ChunkedImport<?> chunkedImport = switch (table) {
+        case GROUPS -> new ChunkedImport<>(table, startMillis,
+                row -> new Group(row.getInt(0), row.getString(1)), bulkLoader::restoreGroups);
+        case COURSES -> new ChunkedImport<>(table, startMillis,
+                row -> new Course(row.getInt(0), row.getString(1), row.getString(2)), bulkLoader::restoreCourses);
+        case STUDENTS -> new ChunkedImport<>(table, startMillis,
+                row -> new Student(row.getInt(0), row.getInt(1), row.getString(2), row.getString(3)),
+                bulkLoader::restoreStudents);
+        case ENROLLMENTS -> new ChunkedImport<>(table, startMillis,
+                row -> new Enrollment(row.getInt(0), row.getInt(1)), bulkLoader::loadStudentsCourses);
+        };
+        while (csv.nextRecord()) {
+            checkFieldsCount(table, csv);
+            chunkedImport.accept(connection, csv);
+        }
+        chunkedImport.flush(connection);
+        if (table != CsvTable.ENROLLMENTS) {
+            BulkLoaders.completeRestore(connection);
+        }
+        return chunkedImport.createReport(System.currentTimeMillis() - startMillis);
+    }
+
+    private void checkHeader(CsvTable table, CsvReader csv) throws IOException {
+        List<String> columns = table.getColumns();
+        if (!csv.nextRecord() || csv.getFieldsCount() != columns.size()) {
+            throw new CsvFormatException(String.format("Expected header %s for table %s",
+                    String.join(",", columns), table.getToken()));
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (!csv.fieldEquals(i, columns.get(i))) {
+                throw new CsvFormatException(String.format("Expected column %s but found %s in header of table %s",
+                        columns.get(i), csv.getString(i), table.getToken()));
+            }
+        }
+    }
+
+    private void checkFieldsCount(CsvTable table, CsvReader csv) throws CsvFormatException {
+        if (csv.getFieldsCount() != table.getColumns().size()) {
+            throw new CsvFormatException(String.format("Expected %d fields but found %d at line %d",
+                    table.getColumns().size(), csv.getFieldsCount(), csv.getLineNumber()));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParser<T> {
+        T parse(CsvReader row) throws CsvFormatException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkLoader<T> {
+        int load(Connection connection, List<T> rows) throws SQLException;
+    }
+
+    private class ChunkedImport<T> {
+        private final CsvTable table;
+        private final RowParser<T> rowParser;
+        private final ChunkLoader<T> chunkLoader;
+        private final List<T> chunk = new ArrayList<>(chunkSize);
+        private final long startMillis;
+        private long lastProgressMillis;
+        private long rowsCount;
+        private long insertedCount;
+
+        private ChunkedImport(CsvTable table, long startMillis, RowParser<T> rowParser, ChunkLoader<T> chunkLoader) {
+            this.table = table;
+            this.rowParser = rowParser;
+            this.chunkLoader = chunkLoader;
+            this.startMillis = startMillis;
+            this.lastProgressMillis = startMillis;
+        }
+
+        private void accept(Connection connection, CsvReader row) throws SQLException, CsvFormatException {
+            chunk.add(rowParser.parse(row));
+            rowsCount++;
+            if (chunk.size() >= chunkSize) {
+                flush(connection);
+            }
+        }
+
+        private void flush(Connection connection) throws SQLException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            insertedCount += chunkLoader.load(connection, chunk);
+            chunk.clear();
+            long nowMillis = System.currentTimeMillis();
+            if (nowMillis - lastProgressMillis >= PROGRESS_INTERVAL_MILLIS) {
+                lastProgressMillis = nowMillis;
+                LOGGER.info(String.format("Import progress: %s",
+                        createReport(nowMillis - startMillis)));
+            }
+        }
+
+        private CsvTransferReport createReport(long elapsedMillis) {
+            return new CsvTransferReport(table, rowsCount, rowsCount - insertedCount, elapsedMillis);
+        }
+    }
+}
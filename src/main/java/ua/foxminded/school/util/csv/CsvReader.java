@@ -0,0 +1,203 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import ua.foxminded.school.exception.CsvFormatException;
+
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_RECORD_CAPACITY = 256;
+    private static final int INITIAL_FIELDS_CAPACITY = 8;
+    private static final int END_OF_INPUT = -1;
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private char[] record = new char[INITIAL_RECORD_CAPACITY];
+    private int recordLength;
+    private int[] fieldBounds = new int[INITIAL_FIELDS_CAPACITY * 2];
+    private int fieldsCount;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public boolean nextRecord() throws IOException {
+        recordLength = 0;
+        fieldsCount = 0;
+        int current = read();
+        while (current == CARRIAGE_RETURN || current == LINE_FEED) {
+            finishLine(current);
+            current = read();
+        }
+        if (current == END_OF_INPUT) {
+            return false;
+        }
+        recordLineNumber = lineNumber;
+        while (true) {
+            int fieldStart = recordLength;
+            current = current == QUOTE ? readQuotedField() : readPlainField(current);
+            addField(fieldStart);
+            if (current == DELIMITER) {
+                current = read();
+            } else if (current == CARRIAGE_RETURN || current == LINE_FEED) {
+                finishLine(current);
+                return true;
+            } else if (current == END_OF_INPUT) {
+                return true;
+            } else {
+                throw new CsvFormatException(
+                        String.format("Unexpected character after quoted field at line %d", lineNumber));
+            }
+        }
+    }
+
+    public int getFieldsCount() {
+        return fieldsCount;
+    }
+
+    public long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    public String getString(int index) {
+        checkFieldIndex(index);
+        int start = fieldBounds[index * 2];
+        return new String(record, start, fieldBounds[index * 2 + 1] - start);
+    }
+
+    public int getInt(int index) throws CsvFormatException {
+        checkFieldIndex(index);
+        int position = fieldBounds[index * 2];
+        int end = fieldBounds[index * 2 + 1];
+        boolean negative = position < end && record[position] == '-';
+        if (negative) {
+            position++;
+        }
+        if (position == end) {
+            throw invalidInt(index);
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            char symbol = record[position];
+            if (symbol < '0' || symbol > '9') {
+                throw invalidInt(index);
+            }
+            value = value * 10 + (symbol - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw invalidInt(index);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw invalidInt(index);
+        }
+        return (int) value;
+    }
+
+    public boolean fieldEquals(int index, String value) {
+        checkFieldIndex(index);
+        int start = fieldBounds[index * 2];
+        int length = fieldBounds[index * 2 + 1] - start;
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (record[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int readPlainField(int current) throws IOException {
+        while (current != DELIMITER && current != CARRIAGE_RETURN && current != LINE_FEED
+                && current != END_OF_INPUT) {
+            append((char) current);
+            current = read();
+        }
+        return current;
+    }
+
+    private int readQuotedField() throws IOException {
+        long startLineNumber = lineNumber;
+        while (true) {
+            int current = read();
+            if (current == END_OF_INPUT) {
+                throw new CsvFormatException(
+                        String.format("Unterminated quoted field starting at line %d", startLineNumber));
+            }
+            if (current == QUOTE) {
+                current = read();
+                if (current != QUOTE) {
+                    return current;
+                }
+            } else if (current == LINE_FEED) {
+                lineNumber++;
+            }
+            append((char) current);
+        }
+    }
+
+    private void finishLine(int current) throws IOException {
+        lineNumber++;
+        if (current == CARRIAGE_RETURN && read() != LINE_FEED && limit > 0) {
+            position--;
+        }
+    }
+
+    private void addField(int fieldStart) {
+        if (fieldsCount * 2 == fieldBounds.length) {
+            fieldBounds = Arrays.copyOf(fieldBounds, fieldBounds.length * 2);
+        }
+        fieldBounds[fieldsCount * 2] = fieldStart;
+        fieldBounds[fieldsCount * 2 + 1] = recordLength;
+        fieldsCount++;
+    }
+
+    private void append(char symbol) {
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, record.length * 2);
+        }
+        record[recordLength++] = symbol;
+    }
+
+    private void checkFieldIndex(int index) {
+        if (index < 0 || index >= fieldsCount) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Field %d is out of bounds for record with %d fields", index, fieldsCount));
+        }
+    }
+
+    private CsvFormatException invalidInt(int index) {
+        return new CsvFormatException(String.format("Field %d at line %d is not an integer: '%s'", index + 1,
+                recordLineNumber, getString(index)));
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+        return buffer[position++];
+    }
+}
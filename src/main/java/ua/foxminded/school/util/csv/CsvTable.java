@@ -0,0 +1,43 @@
+package ua.foxminded.school.util.csv;
+
+import java.util.List;
+import java.util.Locale;
+
+public enum CsvTable {
+    GROUPS("groups", List.of("id", "name")),
+    COURSES("courses", List.of("id", "name", "description")),
+    STUDENTS("students", List.of("id", "group_id", "first_name", "last_name")),
+    ENROLLMENTS("enrollments", List.of("student_id", "course_id"));
+
+    private static final String FILE_EXTENSION = ".csv";
+
+    private final String token;
+    private final List<String> columns;
+
+    CsvTable(String token, List<String> columns) {
+        this.token = token;
+        this.columns = columns;
+    }
+
+    public static CsvTable fromToken(String token) {
+        String normalizedToken = token.toLowerCase(Locale.ROOT);
+        for (CsvTable table : values()) {
+            if (table.token.equals(normalizedToken)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown table: %s", token));
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String getFileName() {
+        return token + FILE_EXTENSION;
+    }
+}
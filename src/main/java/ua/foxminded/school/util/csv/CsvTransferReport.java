@@ -0,0 +1,43 @@
+package ua.foxminded.school.util.csv;
+
+public class CsvTransferReport {
+    private static final double MILLIS_IN_SECOND = 1000.0;
+
+    private final CsvTable table;
+    private final long rowsCount;
+    private final long skippedRowsCount;
+    private final long elapsedMillis;
+
+    public CsvTransferReport(CsvTable table, long rowsCount, long skippedRowsCount, long elapsedMillis) {
+        this.table = table;
+        this.rowsCount = rowsCount;
+        this.skippedRowsCount = skippedRowsCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public CsvTable getTable() {
+        return table;
+    }
+
+    public long getRowsCount() {
+        return rowsCount;
+    }
+
+    public long getSkippedRowsCount() {
+        return skippedRowsCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsCount : rowsCount * MILLIS_IN_SECOND / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CsvTransferReport [table=%s, rows=%d, skipped=%d, elapsed=%d ms, rows/s=%.0f]",
+                table.getToken(), rowsCount, skippedRowsCount, elapsedMillis, getRowsPerSecond());
+    }
+}
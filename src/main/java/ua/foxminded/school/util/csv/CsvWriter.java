@@ -0,0 +1,95 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class CsvWriter implements Flushable {
+    private static final int MAX_INT_LENGTH = 11;
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final char RECORD_SEPARATOR = '\n';
+
+    private final Writer writer;
+    private final char[] intBuffer = new char[MAX_INT_LENGTH];
+    private boolean recordStarted;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeField(int value) throws IOException {
+        startField();
+        long remaining = value;
+        boolean negative = remaining < 0;
+        if (negative) {
+            remaining = -remaining;
+        }
+        int start = intBuffer.length;
+        do {
+            intBuffer[--start] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (negative) {
+            intBuffer[--start] = '-';
+        }
+        writer.write(intBuffer, start, intBuffer.length - start);
+    }
+
+    public void writeField(String value) throws IOException {
+        startField();
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        int chunkStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == QUOTE) {
+                writer.write(value, chunkStart, i + 1 - chunkStart);
+                writer.write(QUOTE);
+                chunkStart = i + 1;
+            }
+        }
+        writer.write(value, chunkStart, value.length() - chunkStart);
+        writer.write(QUOTE);
+    }
+
+    public void writeRecord(List<String> values) throws IOException {
+        for (String value : values) {
+            writeField(value);
+        }
+        endRecord();
+    }
+
+    public void endRecord() throws IOException {
+        writer.write(RECORD_SEPARATOR);
+        recordStarted = false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void startField() throws IOException {
+        if (recordStarted) {
+            writer.write(DELIMITER);
+        }
+        recordStarted = true;
+    }
+
+    private boolean needsQuoting(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            if (symbol == DELIMITER || symbol == QUOTE || symbol == '\r' || symbol == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
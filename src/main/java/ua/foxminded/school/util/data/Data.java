@@ -12,11 +12,11 @@ import ua.foxminded.school.domain.model.Group;
 import ua.foxminded.school.domain.model.Student;
 
 public class Data {
+    public static final int STUDENTS_AMOUNT = 200;
     private static final int NUMBER_OF_GROUPS = 10;
     private static final int UPPER_LETTER_A_CHARCODE = 65;
     private static final int UPPER_LETTER_Z_CHARCODE = 90;
     private static final int STREAM_SIZE = 2;
-    private static final int STUDENTS_AMOUNT = 200;
     private static final int MAX_AMOUNT_COURSES_FOR_STUDENT = 3;
     private static final int MIN_AMOUNT_COURSES_FOR_STUDENT = 1;
 
@@ -32,7 +32,6 @@ public class Data {
         List<Group> groups = new ArrayList<>();
         for (int i = 0; i < NUMBER_OF_GROUPS; i++) {
             Group group = new Group();
-            group.setId(i + 1);
             StringBuilder stringBuilder = new StringBuilder();
             String letters = random.ints(STREAM_SIZE, UPPER_LETTER_A_CHARCODE, UPPER_LETTER_Z_CHARCODE)
                     .mapToObj(letter -> String.valueOf((char) letter)).collect(Collectors.joining());
@@ -48,10 +47,13 @@ public class Data {
     }
 
     public List<Student> getStudents(List<Group> groups) {
+        return getStudents(groups, STUDENTS_AMOUNT);
+    }
+
+    public List<Student> getStudents(List<Group> groups, int studentsAmount) {
         List<Student> students = new ArrayList<>();
-        for (int i = 0; i < STUDENTS_AMOUNT; i++) {
+        for (int i = 0; i < studentsAmount; i++) {
             Student student = new Student();
-            student.setId(i + 1);
             student.setFirstName(getRandomFirstName());
             student.setLastName(getRandomLastName());
             students.add(student);
@@ -97,13 +99,16 @@ public class Data {
     public Map<Student, List<Course>> getStudentsCourses(List<Student> students, List<Course> courses) {
         Map<Student, List<Course>> result = new HashMap<>();
         for (Student student : students) {
-            int coursesAmount = getRandomCoursesAmount();
-            List<Course> studentCourses = getRandomCourses(coursesAmount, courses);
-            result.put(student, studentCourses);
+            result.put(student, getRandomStudentCourses(courses));
         }
         return result;
     }
 
+    public List<Course> getRandomStudentCourses(List<Course> courses) {
+        int coursesAmount = getRandomCoursesAmount();
+        return getRandomCourses(coursesAmount, courses);
+    }
+
     private int getRandomCoursesAmount() {
         return random.nextInt(MAX_AMOUNT_COURSES_FOR_STUDENT) + MIN_AMOUNT_COURSES_FOR_STUDENT;
     }
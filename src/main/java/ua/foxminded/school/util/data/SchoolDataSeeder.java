@@ -0,0 +1,217 @@
+package ua.foxminded.school.util.data;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.DaoOperationException;
+
+public class SchoolDataSeeder {
+    private static final Logger LOGGER = LogManager.getLogger(SchoolDataSeeder.class);
+    private static final String PRODUCER_THREAD_NAME_FORMAT = "seed-producer-%d";
+    private static final SeedChunk END_OF_DATA = new SeedChunk(List.of(), List.of(), null);
+
+    private final DataSource dataSource;
+    private final SeederConfig config;
+
+    public SchoolDataSeeder(DataSource dataSource, SeederConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+    }
+
+    public SeedingReport seed(Data data) {
+        long startMillis = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            SeedingReport report = seedInTransaction(data, connection, startMillis);
+            LOGGER.info(String.format("Seeding finished: %s", report));
+            return report;
+        } catch (SQLException e) {
+            throw new DaoOperationException("Error seeding database", e);
+        }
+    }
+
+    private SeedingReport seedInTransaction(Data data, Connection connection, long startMillis)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            SeedingReport report = writeData(data, connection, startMillis);
+            connection.commit();
+            return report;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private SeedingReport writeData(Data data, Connection connection, long startMillis) throws SQLException {
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        List<Group> groups = data.getGroups();
+        bulkLoader.loadGroups(connection, groups);
+        List<Course> courses = data.getCourses();
+        bulkLoader.loadCourses(connection, courses);
+
+        BlockingQueue<SeedChunk> queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        ExecutorService producers = startProducers(groups, courses, queue);
+        try {
+            return writeChunks(connection, bulkLoader, queue, groups.size(), courses.size(), startMillis);
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    private ExecutorService startProducers(List<Group> groups, List<Course> courses, BlockingQueue<SeedChunk> queue) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService producers = Executors.newFixedThreadPool(config.getProducersCount(), runnable -> {
+            Thread thread = new Thread(runnable,
+                    String.format(PRODUCER_THREAD_NAME_FORMAT, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger remainingStudents = new AtomicInteger(config.getStudentsAmount());
+        for (int i = 0; i < config.getProducersCount(); i++) {
+            producers.execute(() -> produceChunks(groups, courses, remainingStudents, queue));
+        }
+        return producers;
+    }
+
+    private void produceChunks(List<Group> groups, List<Course> courses, AtomicInteger remainingStudents,
+            BlockingQueue<SeedChunk> queue) {
+        Data producerData = new Data();
+        try {
+            int studentsAmount;
+            while ((studentsAmount = claimStudents(remainingStudents)) > 0) {
+                List<Student> students = producerData.getStudents(groups, studentsAmount);
+                List<List<Course>> studentsCourses = new ArrayList<>(students.size());
+                for (int i = 0; i < students.size(); i++) {
+                    studentsCourses.add(producerData.getRandomStudentCourses(courses));
+                }
+                queue.put(new SeedChunk(students, studentsCourses, null));
+            }
+            queue.put(END_OF_DATA);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            reportFailure(queue, e);
+        }
+    }
+
+    private void reportFailure(BlockingQueue<SeedChunk> queue, RuntimeException failure) {
+        try {
+            queue.put(new SeedChunk(List.of(), List.of(), failure));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int claimStudents(AtomicInteger remainingStudents) {
+        while (true) {
+            int remaining = remainingStudents.get();
+            int claimed = Math.min(remaining, config.getChunkSize());
+            if (claimed == 0 || remainingStudents.compareAndSet(remaining, remaining - claimed)) {
+                return claimed;
+            }
+        }
+    }
+
+    private SeedingReport writeChunks(Connection connection, BulkLoader bulkLoader, BlockingQueue<SeedChunk> queue,
+            int groupsCount, int coursesCount, long startMillis) throws SQLException {
+        int finishedProducers = 0;
+        long studentsCount = 0;
+        long enrollmentsCount = 0;
+        int failedChunksCount = 0;
+        long lastProgressMillis = startMillis;
+        while (finishedProducers < config.getProducersCount()) {
+            SeedChunk chunk = takeChunk(queue);
+            if (chunk.failure() != null) {
+                throw new DaoOperationException("Error generating test data", chunk.failure());
+            }
+            if (chunk == END_OF_DATA) {
+                finishedProducers++;
+                continue;
+            }
+
+            int chunkEnrollmentsCount = writeChunk(connection, bulkLoader, chunk);
+            if (chunkEnrollmentsCount < 0) {
+                failedChunksCount++;
+            } else {
+                studentsCount += chunk.students().size();
+                enrollmentsCount += chunkEnrollmentsCount;
+            }
+
+            long nowMillis = System.currentTimeMillis();
+            if (nowMillis - lastProgressMillis >= config.getProgressIntervalMillis()) {
+                lastProgressMillis = nowMillis;
+                SeedingReport progress = new SeedingReport(groupsCount, coursesCount, studentsCount,
+                        enrollmentsCount, failedChunksCount, nowMillis - startMillis);
+                LOGGER.info(String.format("Seeding progress: %d/%d students, %.0f rows/s", studentsCount,
+                        config.getStudentsAmount(), progress.getRowsPerSecond()));
+            }
+        }
+        return new SeedingReport(groupsCount, coursesCount, studentsCount, enrollmentsCount, failedChunksCount,
+                System.currentTimeMillis() - startMillis);
+    }
+
+    private SeedChunk takeChunk(BlockingQueue<SeedChunk> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoOperationException("Interrupted while waiting for test data", e);
+        }
+    }
+
+    private int writeChunk(Connection connection, BulkLoader bulkLoader, SeedChunk chunk) throws SQLException {
+        Savepoint savepoint = config.isSavepointPerChunk() ? connection.setSavepoint() : null;
+        try {
+            bulkLoader.loadStudents(connection, chunk.students());
+            List<Enrollment> enrollments = chunk.toEnrollments();
+            bulkLoader.loadStudentsCourses(connection, enrollments);
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return enrollments.size();
+        } catch (SQLException e) {
+            if (savepoint == null) {
+                throw e;
+            }
+            connection.rollback(savepoint);
+            LOGGER.error(String.format("Error writing chunk of %d students, chunk skipped", chunk.students().size()),
+                    e);
+            return -1;
+        }
+    }
+
+    private record SeedChunk(List<Student> students, List<List<Course>> studentsCourses, Throwable failure) {
+        List<Enrollment> toEnrollments() {
+            List<Enrollment> enrollments = new ArrayList<>();
+            for (int i = 0; i < students.size(); i++) {
+                int studentId = students.get(i).getId();
+                for (Course course : studentsCourses.get(i)) {
+                    enrollments.add(new Enrollment(studentId, course.getId()));
+                }
+            }
+            return enrollments;
+        }
+    }
+}
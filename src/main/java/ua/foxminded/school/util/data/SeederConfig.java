@@ -0,0 +1,82 @@
+package ua.foxminded.school.util.data;
+
+public class SeederConfig {
+    private static final int DEFAULT_CHUNK_SIZE = 1_000;
+    private static final int DEFAULT_PRODUCERS_COUNT = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 4;
+    private static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 1_000;
+
+    private int studentsAmount = Data.STUDENTS_AMOUNT;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int producersCount = DEFAULT_PRODUCERS_COUNT;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private boolean savepointPerChunk;
+    private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+
+    public int getStudentsAmount() {
+        return studentsAmount;
+    }
+
+    public void setStudentsAmount(int studentsAmount) {
+        if (studentsAmount < 0) {
+            throw new IllegalArgumentException("Students amount must not be negative");
+        }
+        this.studentsAmount = studentsAmount;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int getProducersCount() {
+        return producersCount;
+    }
+
+    public void setProducersCount(int producersCount) {
+        if (producersCount <= 0) {
+            throw new IllegalArgumentException("Producers count must be positive");
+        }
+        this.producersCount = producersCount;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    public boolean isSavepointPerChunk() {
+        return savepointPerChunk;
+    }
+
+    public void setSavepointPerChunk(boolean savepointPerChunk) {
+        this.savepointPerChunk = savepointPerChunk;
+    }
+
+    public long getProgressIntervalMillis() {
+        return progressIntervalMillis;
+    }
+
+    public void setProgressIntervalMillis(long progressIntervalMillis) {
+        this.progressIntervalMillis = progressIntervalMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SeederConfig [studentsAmount=" + studentsAmount + ", chunkSize=" + chunkSize + ", producersCount="
+                + producersCount + ", queueCapacity=" + queueCapacity + ", savepointPerChunk=" + savepointPerChunk
+                + ", progressIntervalMillis=" + progressIntervalMillis + "]";
+    }
+}
@@ -0,0 +1,61 @@
+package ua.foxminded.school.util.data;
+
+public class SeedingReport {
+    private static final double MILLIS_IN_SECOND = 1000.0;
+
+    private final int groupsCount;
+    private final int coursesCount;
+    private final long studentsCount;
+    private final long enrollmentsCount;
+    private final int failedChunksCount;
+    private final long elapsedMillis;
+
+    public SeedingReport(int groupsCount, int coursesCount, long studentsCount, long enrollmentsCount,
+            int failedChunksCount, long elapsedMillis) {
+        this.groupsCount = groupsCount;
+        this.coursesCount = coursesCount;
+        this.studentsCount = studentsCount;
+        this.enrollmentsCount = enrollmentsCount;
+        this.failedChunksCount = failedChunksCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getGroupsCount() {
+        return groupsCount;
+    }
+
+    public int getCoursesCount() {
+        return coursesCount;
+    }
+
+    public long getStudentsCount() {
+        return studentsCount;
+    }
+
+    public long getEnrollmentsCount() {
+        return enrollmentsCount;
+    }
+
+    public int getFailedChunksCount() {
+        return failedChunksCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsCount() {
+        return groupsCount + coursesCount + studentsCount + enrollmentsCount;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? getRowsCount() : getRowsCount() * MILLIS_IN_SECOND / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SeedingReport [groups=%d, courses=%d, students=%d, enrollments=%d, "
+                + "failedChunks=%d, elapsed=%d ms, rows/s=%.0f]", groupsCount, coursesCount, studentsCount, enrollmentsCount, failedChunksCount, elapsedMillis,
+                getRowsPerSecond());
+    }
+}
@@ -0,0 +1,4 @@
+package ua.foxminded.school.util.migration;
+
+record Migration(int version, String description, String scriptFile) {
+}
@@ -0,0 +1,172 @@
+package ua.foxminded.school.util.migration;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.impl.DatabaseDialect;
+import ua.foxminded.school.exception.FileReaderException;
+import ua.foxminded.school.exception.SchoolDbInitializerException;
+import ua.foxminded.school.util.FileReader;
+import ua.foxminded.school.util.sql.SqlScriptExecutor;
+
+public class SchemaMigrator {
+    private static final Logger LOGGER = LogManager.getLogger(SchemaMigrator.class);
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "create tables", "db/migration/V1__create_tables.sql"),
+            new Migration(2, "add groups students count", "db/migration/V2__add_groups_students_count.sql"));
+    private static final String CREATE_SCHEMA_VERSION_TABLE_SQL = "CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INT NOT NULL, description VARCHAR(255) NOT NULL, checksum VARCHAR(64) NOT NULL, "
+            + "execution_millis BIGINT NOT NULL, installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+            + "CONSTRAINT schema_version_pkey PRIMARY KEY (version));";
+    private static final String LOCK_SCHEMA_VERSION_SQL = "LOCK TABLE schema_version IN EXCLUSIVE MODE;";
+    private static final String SELECT_APPLIED_MIGRATIONS_SQL = "SELECT version, checksum FROM schema_version;";
+    private static final String SELECT_APPLIED_MIGRATIONS_FOR_UPDATE_SQL = "SELECT version, checksum "
+            + "FROM schema_version FOR UPDATE;";
+    private static final String INSERT_APPLIED_MIGRATION_SQL = "INSERT INTO schema_version"
+            + "(version, description, checksum, execution_millis) VALUES (?, ?, ?, ?);";
+
+    private static final byte[] LINE_SEPARATOR_BYTES = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final DataSource dataSource;
+    private final List<Migration> migrations;
+    private final SqlScriptExecutor scriptExecutor = new SqlScriptExecutor();
+
+    public SchemaMigrator(DataSource dataSource) {
+        this(dataSource, MIGRATIONS);
+    }
+
+    SchemaMigrator(DataSource dataSource, List<Migration> migrations) {
+        this.dataSource = dataSource;
+        this.migrations = migrations;
+    }
+
+    public int migrate() throws SchoolDbInitializerException {
+        try (Connection connection = dataSource.getConnection()) {
+            createSchemaVersionTable(connection);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int appliedCount = applyPendingMigrations(connection);
+                connection.commit();
+                LOGGER.info(String.format("Schema is up to date at version %d, %d migration(s) applied",
+                        getLatestVersion(), appliedCount));
+                return appliedCount;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new SchoolDbInitializerException("Database migration error", e);
+        }
+    }
+
+    private int applyPendingMigrations(Connection connection) throws SQLException {
+        Map<Integer, String> appliedChecksums = lockAndFindAppliedChecksums(connection);
+        int appliedCount = 0;
+        for (Migration migration : migrations) {
+            String checksum = calculateChecksum(migration);
+            String appliedChecksum = appliedChecksums.get(migration.version());
+            if (appliedChecksum == null) {
+                applyMigration(connection, migration, checksum);
+                appliedCount++;
+            } else if (!appliedChecksum.equals(checksum)) {
+                throw new SchoolDbInitializerException(String.format(
+                        "Checksum mismatch for migration V%d (%s): applied %s, current %s", migration.version(),
+                        migration.description(), appliedChecksum, checksum));
+            }
+        }
+        warnAboutUnknownVersions(appliedChecksums);
+        return appliedCount;
+    }
+
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version();
+    }
+
+    private void warnAboutUnknownVersions(Map<Integer, String> appliedChecksums) {
+        int latestVersion = getLatestVersion();
+        appliedChecksums.keySet().stream().filter(version -> version > latestVersion).sorted()
+                .forEach(version -> LOGGER.warn(String.format(
+                        "Database contains migration V%d unknown to this application", version)));
+    }
+
+    private void createSchemaVersionTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_SCHEMA_VERSION_TABLE_SQL);
+        }
+    }
+
+    private Map<Integer, String> lockAndFindAppliedChecksums(Connection connection) throws SQLException {
+        String selectSql = SELECT_APPLIED_MIGRATIONS_FOR_UPDATE_SQL;
+        if (DatabaseDialect.of(connection) == DatabaseDialect.POSTGRESQL) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(LOCK_SCHEMA_VERSION_SQL);
+            }
+            selectSql = SELECT_APPLIED_MIGRATIONS_SQL;
+        }
+        Map<Integer, String> appliedChecksums = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(selectSql)) {
+            while (resultSet.next()) {
+                appliedChecksums.put(resultSet.getInt("version"), resultSet.getString("checksum"));
+            }
+        }
+        return appliedChecksums;
+    }
+
+    private void applyMigration(Connection connection, Migration migration, String checksum) throws SQLException {
+        long startMillis = System.currentTimeMillis();
+        try (PreparedStatement insertStatement = connection.prepareStatement(INSERT_APPLIED_MIGRATION_SQL)) {
+            scriptExecutor.executeResource(connection, migration.scriptFile());
+            insertStatement.setInt(1, migration.version());
+            insertStatement.setString(2, migration.description());
+            insertStatement.setString(3, checksum);
+            insertStatement.setLong(4, System.currentTimeMillis() - startMillis);
+            insertStatement.executeUpdate();
+            LOGGER.info(String.format("Applied migration V%d (%s)", migration.version(), migration.description()));
+        } catch (FileReaderException e) {
+            throw new SchoolDbInitializerException(
+                    String.format("Cannot read migration script %s", migration.scriptFile()), e);
+        }
+    }
+
+    private String calculateChecksum(Migration migration) {
+        try (BufferedReader script = FileReader.openResource(migration.scriptFile())) {
+            MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            String line = script.readLine();
+            while (line != null) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                line = script.readLine();
+                if (line != null) {
+                    digest.update(LINE_SEPARATOR_BYTES);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new SchoolDbInitializerException(
+                    String.format("Cannot read migration script %s", migration.scriptFile()), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
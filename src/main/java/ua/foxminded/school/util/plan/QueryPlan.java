@@ -0,0 +1,58 @@
+package ua.foxminded.school.util.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class QueryPlan {
+    private final String name;
+    private final String sql;
+    private final List<String> lines;
+    private final List<String> fullScanTables;
+    private final List<String> nestedLoopWarnings;
+
+    public QueryPlan(String name, String sql, List<String> lines, List<String> fullScanTables,
+            List<String> nestedLoopWarnings) {
+        this.name = name;
+        this.sql = sql;
+        this.lines = List.copyOf(lines);
+        this.fullScanTables = List.copyOf(fullScanTables);
+        this.nestedLoopWarnings = List.copyOf(nestedLoopWarnings);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public List<String> getFullScanTables() {
+        return fullScanTables;
+    }
+
+    public List<String> getNestedLoopWarnings() {
+        return nestedLoopWarnings;
+    }
+
+    public List<String> getProblems(Set<String> allowedFullScanTables) {
+        List<String> problems = new ArrayList<>();
+        for (String table : fullScanTables) {
+            if (!allowedFullScanTables.contains(table)) {
+                problems.add(String.format("Sequential scan on %s", table));
+            }
+        }
+        problems.addAll(nestedLoopWarnings);
+        return problems;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + sql + System.lineSeparator() + String.join(System.lineSeparator(), lines);
+    }
+}
@@ -0,0 +1,202 @@
+package ua.foxminded.school.util.plan;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import ua.foxminded.school.dao.impl.DatabaseDialect;
+import ua.foxminded.school.exception.DaoOperationException;
+
+public class QueryPlanInspector {
+    private static final String SQL_CONSTANT_SUFFIX = "_SQL";
+    private static final String SELECT_KEYWORD = "SELECT";
+    private static final String ANALYZE_SQL = "ANALYZE;";
+    private static final String H2_EXPLAIN_PREFIX = "EXPLAIN ";
+    private static final String POSTGRES_EXPLAIN_PREFIX = "EXPLAIN (FORMAT TEXT) ";
+    private static final String POSTGRES_EXPLAIN_ANALYZE_PREFIX = "EXPLAIN (ANALYZE, FORMAT TEXT) ";
+    private static final long DEFAULT_MAX_NESTED_LOOP_ROWS = 100_000;
+    private static final int SAMPLE_PARAMETER_VALUE = 1;
+    private static final Pattern H2_TABLE_PATTERN = Pattern.compile("(?:FROM|JOIN|UPDATE) PUBLIC\\.(\\w+)");
+    private static final Pattern H2_FULL_SCAN_PATTERN = Pattern.compile("^\\s*/\\* PUBLIC\\.[\\w.]+ \\*/\\s*$");
+    private static final Pattern POSTGRES_SEQ_SCAN_PATTERN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern POSTGRES_ESTIMATED_ROWS_PATTERN = Pattern.compile("cost=\\S+ rows=(\\d+)");
+    private static final Pattern POSTGRES_ACTUAL_ROWS_PATTERN = Pattern.compile(
+            "actual time=\\S+ rows=(\\d+) loops=(\\d+)");
+
+    private final DataSource dataSource;
+    private final boolean analyze;
+    private final long maxNestedLoopRows;
+
+    public QueryPlanInspector(DataSource dataSource) {
+        this(dataSource, false, DEFAULT_MAX_NESTED_LOOP_ROWS);
+    }
+
+    public QueryPlanInspector(DataSource dataSource, boolean analyze, long maxNestedLoopRows) {
+        this.dataSource = dataSource;
+        this.analyze = analyze;
+        this.maxNestedLoopRows = maxNestedLoopRows;
+    }
+
+    public static Map<String, String> collectSqlConstants(Class<?>... daoClasses) {
+        Map<String, String> statements = new LinkedHashMap<>();
+        for (Class<?> daoClass : daoClasses) {
+            for (Field field : daoClass.getDeclaredFields()) {
+                if (isSqlConstant(field)) {
+                    statements.put(daoClass.getSimpleName() + "." + field.getName(), readConstant(field));
+                }
+            }
+        }
+        return statements;
+    }
+
+    private static boolean isSqlConstant(Field field) {
+        int modifiers = field.getModifiers();
+        return Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class
+                && field.getName().endsWith(SQL_CONSTANT_SUFFIX);
+    }
+
+    private static String readConstant(Field field) {
+        try {
+            field.setAccessible(true);
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Cannot read SQL constant %s", field.getName()), e);
+        }
+    }
+
+    public void updateStatistics() {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(ANALYZE_SQL);
+        } catch (SQLException e) {
+            throw new DaoOperationException("Error updating planner statistics", e);
+        }
+    }
+
+    public List<QueryPlan> explainAll(Map<String, String> statements) {
+        List<QueryPlan> plans = new ArrayList<>(statements.size());
+        statements.forEach((name, sql) -> plans.add(explain(name, sql)));
+        return plans;
+    }
+
+    public QueryPlan explain(String name, String sql) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseDialect dialect = DatabaseDialect.of(connection);
+            boolean analyzeStatement = analyze && dialect == DatabaseDialect.POSTGRESQL && isQuery(sql);
+            List<String> lines = readPlan(connection, explainPrefix(dialect, analyzeStatement) + sql);
+            if (dialect == DatabaseDialect.POSTGRESQL) {
+                return parsePostgresPlan(name, sql, lines, analyzeStatement);
+            }
+            return parseH2Plan(name, sql, lines);
+        } catch (SQLException e) {
+            throw new DaoOperationException(String.format("Error explaining %s", name), e);
+        }
+    }
+
+    private boolean isQuery(String sql) {
+        return sql.trim().toUpperCase(Locale.ROOT).startsWith(SELECT_KEYWORD);
+    }
+
+    private String explainPrefix(DatabaseDialect dialect, boolean analyzeStatement) {
+        if (dialect == DatabaseDialect.POSTGRESQL) {
+            return analyzeStatement ? POSTGRES_EXPLAIN_ANALYZE_PREFIX : POSTGRES_EXPLAIN_PREFIX;
+        }
+        return H2_EXPLAIN_PREFIX;
+    }
+
+    private List<String> readPlan(Connection connection, String explainSql) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+            bindSampleParameters(statement);
+            List<String> lines = new ArrayList<>();
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                lines.addAll(List.of(resultSet.getString(1).split("\\R")));
+            }
+            return lines;
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void bindSampleParameters(PreparedStatement statement) throws SQLException {
+        ParameterMetaData metaData = statement.getParameterMetaData();
+        for (int i = 1; i <= metaData.getParameterCount(); i++) {
+            int parameterType = metaData.getParameterType(i);
+            if (parameterType == Types.VARCHAR || parameterType == Types.CHAR) {
+                statement.setString(i, String.valueOf(SAMPLE_PARAMETER_VALUE));
+            } else {
+                statement.setInt(i, SAMPLE_PARAMETER_VALUE);
+            }
+        }
+    }
+
+    private QueryPlan parseH2Plan(String name, String sql, List<String> lines) {
+        List<String> fullScanTables = new ArrayList<>();
+        List<String> nestedLoopWarnings = new ArrayList<>();
+        String currentTable = null;
+        boolean joinedTable = false;
+        for (String line : lines) {
+            Matcher tableMatcher = H2_TABLE_PATTERN.matcher(line);
+            if (tableMatcher.find()) {
+                currentTable = tableMatcher.group(1).toLowerCase(Locale.ROOT);
+                joinedTable = line.contains("JOIN");
+            } else if (currentTable != null && H2_FULL_SCAN_PATTERN.matcher(line).matches()) {
+                fullScanTables.add(currentTable);
+                if (joinedTable) {
+                    nestedLoopWarnings.add(String.format("Nested loop rescans %s for every outer row", currentTable));
+                }
+                currentTable = null;
+            }
+        }
+        return new QueryPlan(name, sql, lines, fullScanTables, nestedLoopWarnings);
+    }
+
+    private QueryPlan parsePostgresPlan(String name, String sql, List<String> lines, boolean analyzed) {
+        List<String> fullScanTables = new ArrayList<>();
+        List<String> nestedLoopWarnings = new ArrayList<>();
+        for (String line : lines) {
+            Matcher seqScanMatcher = POSTGRES_SEQ_SCAN_PATTERN.matcher(line);
+            if (seqScanMatcher.find()) {
+                fullScanTables.add(seqScanMatcher.group(1).toLowerCase(Locale.ROOT));
+            }
+            if (line.contains("Nested Loop")) {
+                long rows = analyzed ? readActualRows(line) : readEstimatedRows(line);
+                if (rows > maxNestedLoopRows) {
+                    nestedLoopWarnings.add(String.format("Nested loop produces %d rows (limit %d)", rows,
+                            maxNestedLoopRows));
+                }
+            }
+        }
+        return new QueryPlan(name, sql, lines, fullScanTables, nestedLoopWarnings);
+    }
+
+    private long readEstimatedRows(String line) {
+        Matcher matcher = POSTGRES_ESTIMATED_ROWS_PATTERN.matcher(line);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private long readActualRows(String line) {
+        Matcher matcher = POSTGRES_ACTUAL_ROWS_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return readEstimatedRows(line);
+        }
+        return Long.parseLong(matcher.group(1)) * Long.parseLong(matcher.group(2));
+    }
+}
@@ -0,0 +1,128 @@
+package ua.foxminded.school.util.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ConnectionHandler implements InvocationHandler {
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    private static final String PREPARE_STATEMENT_METHOD = "prepareStatement";
+    private static final String PREPARE_UNCACHED_STATEMENT_METHOD = "prepareUncachedStatement";
+    private static final Set<String> STATE_CHANGING_METHODS = Set.of("setAutoCommit", "setReadOnly",
+            "setTransactionIsolation");
+
+    private final PooledDataSource pool;
+    private final PooledConnection pooledConnection;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private ConnectionHandler(PooledDataSource pool, PooledConnection pooledConnection) {
+        this.pool = pool;
+        this.pooledConnection = pooledConnection;
+    }
+
+    static Connection createProxy(PooledDataSource pool, PooledConnection pooledConnection) {
+        ConnectionHandler handler = new ConnectionHandler(pool, pooledConnection);
+        return (Connection) Proxy.newProxyInstance(ConnectionHandler.class.getClassLoader(),
+                new Class<?>[] { Connection.class, UncachedStatements.class }, handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+        case "close":
+            if (closed.compareAndSet(false, true)) {
+                pool.release(pooledConnection);
+            }
+            return null;
+        case "isClosed":
+            return closed.get();
+        case "equals":
+            return proxy == args[0];
+        case "hashCode":
+            return System.identityHashCode(proxy);
+        case "toString":
+            return "Pooled " + pooledConnection.getPhysicalConnection();
+        case "isWrapperFor":
+            return ((Class<?>) args[0]).isInstance(proxy)
+                    || pooledConnection.getPhysicalConnection().isWrapperFor((Class<?>) args[0]);
+        case "unwrap":
+            if (((Class<?>) args[0]).isInstance(proxy)) {
+                return proxy;
+            }
+            return pooledConnection.getPhysicalConnection().unwrap((Class<?>) args[0]);
+        case PREPARE_STATEMENT_METHOD:
+            return prepareStatement(proxy, method, args);
+        case PREPARE_UNCACHED_STATEMENT_METHOD:
+            return invokePhysical(Connection.class.getMethod(PREPARE_STATEMENT_METHOD, String.class), args);
+        default:
+            return invokePhysical(method, args);
+        }
+    }
+
+    private Object prepareStatement(Object proxy, Method method, Object[] args) throws Throwable {
+        ensureOpen();
+        StatementCache statementCache = pooledConnection.getStatementCache();
+        StatementKey key = createStatementKey(method, args);
+        if (statementCache == null || key == null) {
+            return invokePhysical(method, args);
+        }
+        PreparedStatement physicalStatement = statementCache.take(key);
+        if (physicalStatement != null && !physicalStatement.isClosed()) {
+            pool.recordStatementCacheHit();
+        } else {
+            pool.recordStatementCacheMiss();
+            physicalStatement = (PreparedStatement) invokePhysical(method, args);
+        }
+        return StatementHandler.createProxy((Connection) proxy, physicalStatement, key, statementCache);
+    }
+
+    private StatementKey createStatementKey(Method method, Object[] args) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        String sql = (String) args[0];
+        switch (parameterTypes.length) {
+        case 1:
+            return StatementKey.of(sql);
+        case 2:
+            return parameterTypes[1] == int.class ? StatementKey.of(sql, (int) args[1]) : null;
+        case 3:
+            return StatementKey.of(sql, (int) args[1], (int) args[2]);
+        case 4:
+            return StatementKey.of(sql, (int) args[1], (int) args[2], (int) args[3]);
+        default:
+            return null;
+        }
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Connection is closed");
+        }
+    }
+
+    private Object invokePhysical(Method method, Object[] args) throws Throwable {
+        ensureOpen();
+        if (STATE_CHANGING_METHODS.contains(method.getName())) {
+            pooledConnection.markStateChanged();
+        }
+        try {
+            return method.invoke(pooledConnection.getPhysicalConnection(), args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException && isConnectionException(sqlException)) {
+                pooledConnection.markBroken();
+            }
+            throw cause;
+        }
+    }
+
+    private boolean isConnectionException(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS);
+    }
+}
@@ -0,0 +1,134 @@
+package ua.foxminded.school.util.pool;
+
+public class PoolConfig {
+    private static final int DEFAULT_MIN_IDLE = 2;
+    private static final int DEFAULT_MAX_SIZE = 10;
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 30_000;
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600_000;
+    private static final long DEFAULT_MAX_LIFETIME_MILLIS = 1_800_000;
+    private static final long DEFAULT_VALIDATION_INTERVAL_MILLIS = 5_000;
+    private static final int DEFAULT_VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_LEAK_DETECTION_THRESHOLD_MILLIS = 0;
+    private static final long DEFAULT_HOUSEKEEPING_PERIOD_MILLIS = 30_000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+
+    private int minIdle = DEFAULT_MIN_IDLE;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private long acquireTimeoutMillis = DEFAULT_ACQUIRE_TIMEOUT_MILLIS;
+    private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private long maxLifetimeMillis = DEFAULT_MAX_LIFETIME_MILLIS;
+    private long validationIntervalMillis = DEFAULT_VALIDATION_INTERVAL_MILLIS;
+    private int validationTimeoutSeconds = DEFAULT_VALIDATION_TIMEOUT_SECONDS;
+    private long leakDetectionThresholdMillis = DEFAULT_LEAK_DETECTION_THRESHOLD_MILLIS;
+    private long housekeepingPeriodMillis = DEFAULT_HOUSEKEEPING_PERIOD_MILLIS;
+    private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public void setMaxLifetimeMillis(long maxLifetimeMillis) {
+        this.maxLifetimeMillis = maxLifetimeMillis;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public void setValidationIntervalMillis(long validationIntervalMillis) {
+        this.validationIntervalMillis = validationIntervalMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public void setLeakDetectionThresholdMillis(long leakDetectionThresholdMillis) {
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
+    public long getHousekeepingPeriodMillis() {
+        return housekeepingPeriodMillis;
+    }
+
+    public void setHousekeepingPeriodMillis(long housekeepingPeriodMillis) {
+        this.housekeepingPeriodMillis = housekeepingPeriodMillis;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    void validate() {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool max size must be positive");
+        }
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("Pool min idle must be between 0 and max size");
+        }
+        if (acquireTimeoutMillis < 0 || idleTimeoutMillis < 0 || maxLifetimeMillis < 0
+                || validationIntervalMillis < 0 || leakDetectionThresholdMillis < 0) {
+            throw new IllegalArgumentException("Pool timeouts must not be negative");
+        }
+        if (housekeepingPeriodMillis <= 0) {
+            throw new IllegalArgumentException("Pool housekeeping period must be positive");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size must not be negative");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfig [minIdle=" + minIdle + ", maxSize=" + maxSize + ", acquireTimeoutMillis="
+                + acquireTimeoutMillis + ", idleTimeoutMillis=" + idleTimeoutMillis + ", maxLifetimeMillis="
+                + maxLifetimeMillis + ", validationIntervalMillis=" + validationIntervalMillis
+                + ", validationTimeoutSeconds=" + validationTimeoutSeconds + ", leakDetectionThresholdMillis="
+                + leakDetectionThresholdMillis + ", housekeepingPeriodMillis=" + housekeepingPeriodMillis
+                + ", statementCacheSize=" + statementCacheSize + "]";
+    }
+}
@@ -0,0 +1,98 @@
+package ua.foxminded.school.util.pool;
+
+public class PoolStatistics {
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int waitingThreads;
+    private final long acquiredCount;
+    private final long acquireTimeoutCount;
+    private final long averageAcquireMicros;
+    private final long maxAcquireMicros;
+    private final long createdCount;
+    private final long destroyedCount;
+    private final long leakCount;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+
+    public PoolStatistics(int activeConnections, int idleConnections, int totalConnections, int waitingThreads,
+            long acquiredCount, long acquireTimeoutCount, long averageAcquireMicros, long maxAcquireMicros,
+            long createdCount, long destroyedCount, long leakCount, long statementCacheHits,
+            long statementCacheMisses) {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.waitingThreads = waitingThreads;
+        this.acquiredCount = acquiredCount;
+        this.acquireTimeoutCount = acquireTimeoutCount;
+        this.averageAcquireMicros = averageAcquireMicros;
+        this.maxAcquireMicros = maxAcquireMicros;
+        this.createdCount = createdCount;
+        this.destroyedCount = destroyedCount;
+        this.leakCount = leakCount;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads;
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount;
+    }
+
+    public long getAverageAcquireMicros() {
+        return averageAcquireMicros;
+    }
+
+    public long getMaxAcquireMicros() {
+        return maxAcquireMicros;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount;
+    }
+
+    public long getLeakCount() {
+        return leakCount;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStatistics [active=" + activeConnections + ", idle=" + idleConnections + ", total="
+                + totalConnections + ", waiting=" + waitingThreads + ", acquired=" + acquiredCount + ", timeouts="
+                + acquireTimeoutCount + ", avgAcquireMicros=" + averageAcquireMicros + ", maxAcquireMicros="
+                + maxAcquireMicros + ", created=" + createdCount + ", destroyed=" + destroyedCount + ", leaks="
+                + leakCount + ", statementCacheHits=" + statementCacheHits + ", statementCacheMisses="
+                + statementCacheMisses + "]";
+    }
+}
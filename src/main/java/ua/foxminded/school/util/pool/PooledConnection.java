@@ -0,0 +1,105 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+class PooledConnection {
+    private final Connection physicalConnection;
+    private final long createdAtMillis;
+    private final boolean defaultAutoCommit;
+    private final boolean defaultReadOnly;
+    private final int defaultTransactionIsolation;
+    private final StatementCache statementCache;
+
+    private volatile long lastUsedAtMillis;
+    private volatile long borrowedAtMillis;
+    private volatile Exception borrowStackTrace;
+    private volatile boolean leakReported;
+    private volatile boolean broken;
+    private volatile boolean stateChanged;
+
+    PooledConnection(Connection physicalConnection, int statementCacheSize) throws SQLException {
+        this.physicalConnection = physicalConnection;
+        this.statementCache = statementCacheSize > 0 ? new StatementCache(statementCacheSize) : null;
+        this.createdAtMillis = System.currentTimeMillis();
+        this.lastUsedAtMillis = createdAtMillis;
+        this.defaultAutoCommit = physicalConnection.getAutoCommit();
+        this.defaultReadOnly = physicalConnection.isReadOnly();
+        this.defaultTransactionIsolation = physicalConnection.getTransactionIsolation();
+    }
+
+    Connection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    void closePhysicalConnection() throws SQLException {
+        if (statementCache != null) {
+            statementCache.closeAll();
+        }
+        physicalConnection.close();
+    }
+
+    void markBorrowed(Exception borrowStackTrace) {
+        this.borrowedAtMillis = System.currentTimeMillis();
+        this.borrowStackTrace = borrowStackTrace;
+        this.leakReported = false;
+    }
+
+    void markReturned() {
+        this.lastUsedAtMillis = System.currentTimeMillis();
+        this.borrowStackTrace = null;
+    }
+
+    void markBroken() {
+        this.broken = true;
+    }
+
+    boolean isBroken() {
+        return broken;
+    }
+
+    void markStateChanged() {
+        this.stateChanged = true;
+    }
+
+    void resetState() throws SQLException {
+        if (!stateChanged) {
+            return;
+        }
+        if (!physicalConnection.getAutoCommit()) {
+            physicalConnection.rollback();
+        }
+        physicalConnection.setAutoCommit(defaultAutoCommit);
+        physicalConnection.setReadOnly(defaultReadOnly);
+        physicalConnection.setTransactionIsolation(defaultTransactionIsolation);
+        stateChanged = false;
+    }
+
+    boolean isExpired(long nowMillis, long maxLifetimeMillis) {
+        return maxLifetimeMillis > 0 && nowMillis - createdAtMillis >= maxLifetimeMillis;
+    }
+
+    long getIdleMillis(long nowMillis) {
+        return nowMillis - lastUsedAtMillis;
+    }
+
+    long getBorrowedMillis(long nowMillis) {
+        return nowMillis - borrowedAtMillis;
+    }
+
+    Exception getBorrowStackTrace() {
+        return borrowStackTrace;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void markLeakReported() {
+        this.leakReported = true;
+    }
+}
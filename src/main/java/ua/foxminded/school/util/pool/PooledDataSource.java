@@ -0,0 +1,350 @@
+package ua.foxminded.school.util.pool;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class PooledDataSource implements DataSource, AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(PooledDataSource.class);
+    private static final String HOUSEKEEPER_THREAD_NAME = "connection-pool-housekeeper";
+
+    private final DataSource targetDataSource;
+    private final PoolConfig config;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder acquireNanosTotal = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder acquireTimeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final ScheduledExecutorService housekeeper;
+
+    private volatile boolean closed;
+
+    public PooledDataSource(DataSource targetDataSource, PoolConfig config) {
+        this.targetDataSource = Objects.requireNonNull(targetDataSource);
+        this.config = Objects.requireNonNull(config);
+        config.validate();
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, HOUSEKEEPER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, 0, config.getHousekeepingPeriodMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ensureOpen();
+        long startNanos = System.nanoTime();
+        acquirePermit();
+        try {
+            PooledConnection pooledConnection = takeConnection();
+            pooledConnection.markBorrowed(createBorrowStackTrace());
+            activeConnections.add(pooledConnection);
+            recordAcquireTime(System.nanoTime() - startNanos);
+            return ConnectionHandler.createProxy(this, pooledConnection);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled data source does not support per-call credentials");
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        waitingThreads.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(config.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                acquireTimeoutCount.increment();
+                throw new SQLTimeoutException(
+                        String.format("Cannot acquire connection within %d ms (active: %d, max size: %d)",
+                                config.getAcquireTimeoutMillis(), activeConnections.size(), config.getMaxSize()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while acquiring connection", e);
+        } finally {
+            waitingThreads.decrementAndGet();
+        }
+    }
+
+    private PooledConnection takeConnection() throws SQLException {
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            if (isUsable(pooledConnection)) {
+                return pooledConnection;
+            }
+            destroy(pooledConnection);
+        }
+        if (totalConnections.get() >= config.getMaxSize()) {
+            PooledConnection oldestIdleConnection = idleConnections.pollLast();
+            if (oldestIdleConnection != null) {
+                destroy(oldestIdleConnection);
+            }
+        }
+        return createConnection();
+    }
+
+    private boolean isUsable(PooledConnection pooledConnection) {
+        long nowMillis = System.currentTimeMillis();
+        if (pooledConnection.isBroken() || pooledConnection.isExpired(nowMillis, config.getMaxLifetimeMillis())) {
+            return false;
+        }
+        if (pooledConnection.getIdleMillis(nowMillis) < config.getValidationIntervalMillis()) {
+            return true;
+        }
+        try {
+            return pooledConnection.getPhysicalConnection().isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            LOGGER.warn("Error validating pooled connection", e);
+            return false;
+        }
+    }
+
+    private PooledConnection createConnection() throws SQLException {
+        Connection physicalConnection = targetDataSource.getConnection();
+        try {
+            PooledConnection pooledConnection = new PooledConnection(physicalConnection, config.getStatementCacheSize());
+            totalConnections.incrementAndGet();
+            createdCount.increment();
+            return pooledConnection;
+        } catch (SQLException e) {
+            physicalConnection.close();
+            throw e;
+        }
+    }
+
+    private Exception createBorrowStackTrace() {
+        if (config.getLeakDetectionThresholdMillis() == 0) {
+            return null;
+        }
+        return new Exception("Connection acquisition stack trace");
+    }
+
+    private void recordAcquireTime(long acquireNanos) {
+        acquiredCount.increment();
+        acquireNanosTotal.add(acquireNanos);
+        maxAcquireNanos.accumulateAndGet(acquireNanos, Math::max);
+    }
+
+    void release(PooledConnection pooledConnection) {
+        activeConnections.remove(pooledConnection);
+        try {
+            if (closed || pooledConnection.isBroken()
+                    || pooledConnection.isExpired(System.currentTimeMillis(), config.getMaxLifetimeMillis())) {
+                destroy(pooledConnection);
+                return;
+            }
+            try {
+                pooledConnection.resetState();
+                pooledConnection.getPhysicalConnection().clearWarnings();
+            } catch (SQLException e) {
+                LOGGER.warn("Error resetting pooled connection state, connection will be closed", e);
+                destroy(pooledConnection);
+                return;
+            }
+            pooledConnection.markReturned();
+            idleConnections.offerFirst(pooledConnection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroy(PooledConnection pooledConnection) {
+        totalConnections.decrementAndGet();
+        destroyedCount.increment();
+        try {
+            pooledConnection.closePhysicalConnection();
+        } catch (SQLException e) {
+            LOGGER.warn("Error closing physical connection", e);
+        }
+    }
+
+    void recordStatementCacheHit() {
+        statementCacheHits.increment();
+    }
+
+    void recordStatementCacheMiss() {
+        statementCacheMisses.increment();
+    }
+
+    private void houseKeep() {
+        try {
+            long nowMillis = System.currentTimeMillis();
+            evictIdleConnections(nowMillis);
+            detectLeaks(nowMillis);
+            fillIdleConnections();
+        } catch (RuntimeException e) {
+            LOGGER.error("Error during connection pool housekeeping", e);
+        }
+    }
+
+    private void evictIdleConnections(long nowMillis) {
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledConnection pooledConnection = iterator.next();
+            boolean idleTooLong = config.getIdleTimeoutMillis() > 0
+                    && pooledConnection.getIdleMillis(nowMillis) >= config.getIdleTimeoutMillis()
+                    && idleConnections.size() > config.getMinIdle();
+            if ((idleTooLong || pooledConnection.isExpired(nowMillis, config.getMaxLifetimeMillis()))
+                    && idleConnections.remove(pooledConnection)) {
+                destroy(pooledConnection);
+            }
+        }
+    }
+
+    private void detectLeaks(long nowMillis) {
+        long threshold = config.getLeakDetectionThresholdMillis();
+        if (threshold == 0) {
+            return;
+        }
+        for (PooledConnection pooledConnection : activeConnections) {
+            if (!pooledConnection.isLeakReported() && pooledConnection.getBorrowedMillis(nowMillis) >= threshold) {
+                pooledConnection.markLeakReported();
+                leakCount.increment();
+                LOGGER.warn(String.format("Connection leak detected: connection was not returned to the pool for %d ms",
+                        pooledConnection.getBorrowedMillis(nowMillis)), pooledConnection.getBorrowStackTrace());
+            }
+        }
+    }
+
+    private void fillIdleConnections() {
+        fillIdleConnections(config.getMinIdle());
+    }
+
+    public int prewarm(int idleConnectionsCount) {
+        return fillIdleConnections(Math.min(idleConnectionsCount, config.getMaxSize()));
+    }
+
+    private int fillIdleConnections(int targetIdleCount) {
+        int createdCount = 0;
+        while (!closed && idleConnections.size() < targetIdleCount
+                && totalConnections.get() < config.getMaxSize() && permits.tryAcquire()) {
+            try {
+                PooledConnection pooledConnection = createConnection();
+                idleConnections.offerLast(pooledConnection);
+                createdCount++;
+            } catch (SQLException e) {
+                LOGGER.warn("Cannot create idle connection for the pool", e);
+                return createdCount;
+            } finally {
+                permits.release();
+            }
+        }
+        return createdCount;
+    }
+
+    public PoolStatistics getStatistics() {
+        long acquired = acquiredCount.sum();
+        long averageAcquireMicros = acquired == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(acquireNanosTotal.sum() / acquired);
+        return new PoolStatistics(activeConnections.size(), idleConnections.size(), totalConnections.get(),
+                waitingThreads.get(), acquired, acquireTimeoutCount.sum(), averageAcquireMicros,
+                TimeUnit.NANOSECONDS.toMicros(maxAcquireNanos.get()), createdCount.sum(), destroyedCount.sum(),
+                leakCount.sum(), statementCacheHits.sum(), statementCacheMisses.sum());
+    }
+
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            destroy(pooledConnection);
+        }
+        if (!activeConnections.isEmpty()) {
+            LOGGER.warn(String.format("Connection pool closed with %d active connections, they will be closed on return",
+                    activeConnections.size()));
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return targetDataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        targetDataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        targetDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return targetDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return targetDataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return targetDataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || targetDataSource.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,61 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+class StatementCache {
+    private static final Logger LOGGER = LogManager.getLogger(StatementCache.class);
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+    private final Map<StatementKey, PreparedStatement> statements;
+
+    StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(maxSize, LOAD_FACTOR, true);
+    }
+
+    synchronized PreparedStatement take(StatementKey key) {
+        return statements.remove(key);
+    }
+
+    synchronized void put(StatementKey key, PreparedStatement statement) {
+        PreparedStatement previous = statements.put(key, statement);
+        if (previous != null && previous != statement) {
+            closeQuietly(previous);
+        }
+        if (statements.size() > maxSize) {
+            Map.Entry<StatementKey, PreparedStatement> eldest = statements.entrySet().iterator().next();
+            statements.remove(eldest.getKey());
+            closeQuietly(eldest.getValue());
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    void closeAll() {
+        List<PreparedStatement> cachedStatements;
+        synchronized (this) {
+            cachedStatements = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        cachedStatements.forEach(this::closeQuietly);
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Error closing cached prepared statement", e);
+        }
+    }
+}
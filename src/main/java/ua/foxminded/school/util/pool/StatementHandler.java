@@ -0,0 +1,111 @@
+package ua.foxminded.school.util.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+class StatementHandler implements InvocationHandler {
+    private static final Logger LOGGER = LogManager.getLogger(StatementHandler.class);
+    private static final Set<String> SETTINGS_METHODS = Set.of("setFetchSize", "setFetchDirection", "setMaxRows",
+            "setLargeMaxRows", "setMaxFieldSize", "setQueryTimeout");
+
+    private final Connection connectionProxy;
+    private final PreparedStatement physicalStatement;
+    private final StatementKey key;
+    private final StatementCache statementCache;
+    private final List<ResultSet> openResultSets = new ArrayList<>();
+    private StatementSettings initialSettings;
+    private boolean closed;
+
+    private StatementHandler(Connection connectionProxy, PreparedStatement physicalStatement, StatementKey key,
+            StatementCache statementCache) {
+        this.connectionProxy = connectionProxy;
+        this.physicalStatement = physicalStatement;
+        this.key = key;
+        this.statementCache = statementCache;
+    }
+
+    static PreparedStatement createProxy(Connection connectionProxy, PreparedStatement physicalStatement,
+            StatementKey key, StatementCache statementCache) {
+        StatementHandler handler = new StatementHandler(connectionProxy, physicalStatement, key, statementCache);
+        return (PreparedStatement) Proxy.newProxyInstance(StatementHandler.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+        case "close":
+            returnToCache();
+            return null;
+        case "isClosed":
+            return closed;
+        case "getConnection":
+            return connectionProxy;
+        case "equals":
+            return proxy == args[0];
+        case "hashCode":
+            return System.identityHashCode(proxy);
+        case "toString":
+            return "Cached " + physicalStatement;
+        default:
+            return invokePhysical(method, args);
+        }
+    }
+
+    private Object invokePhysical(Method method, Object[] args) throws Throwable {
+        if (closed) {
+            throw new SQLException("Statement is closed");
+        }
+        if (initialSettings == null && SETTINGS_METHODS.contains(method.getName())) {
+            initialSettings = StatementSettings.capture(physicalStatement);
+        }
+        try {
+            Object result = method.invoke(physicalStatement, args);
+            if (result instanceof ResultSet resultSet) {
+                openResultSets.add(resultSet);
+            }
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void returnToCache() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (ResultSet resultSet : openResultSets) {
+                resultSet.close();
+            }
+            openResultSets.clear();
+            physicalStatement.clearParameters();
+            physicalStatement.clearBatch();
+            physicalStatement.clearWarnings();
+            if (initialSettings != null) {
+                initialSettings.restore(physicalStatement);
+            }
+            statementCache.put(key, physicalStatement);
+        } catch (SQLException e) {
+            LOGGER.warn("Error resetting prepared statement, statement will not be cached", e);
+            try {
+                physicalStatement.close();
+            } catch (SQLException closeException) {
+                LOGGER.warn("Error closing prepared statement", closeException);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+record StatementKey(String sql, int autoGeneratedKeys, int resultSetType, int resultSetConcurrency,
+        int resultSetHoldability) {
+    private static final int UNSPECIFIED_HOLDABILITY = 0;
+
+    static StatementKey of(String sql) {
+        return new StatementKey(sql, Statement.NO_GENERATED_KEYS, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY, UNSPECIFIED_HOLDABILITY);
+    }
+
+    static StatementKey of(String sql, int autoGeneratedKeys) {
+        return new StatementKey(sql, autoGeneratedKeys, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+                UNSPECIFIED_HOLDABILITY);
+    }
+
+    static StatementKey of(String sql, int resultSetType, int resultSetConcurrency) {
+        return new StatementKey(sql, Statement.NO_GENERATED_KEYS, resultSetType, resultSetConcurrency,
+                UNSPECIFIED_HOLDABILITY);
+    }
+
+    static StatementKey of(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) {
+        return new StatementKey(sql, Statement.NO_GENERATED_KEYS, resultSetType, resultSetConcurrency,
+                resultSetHoldability);
+    }
+}
@@ -0,0 +1,20 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+record StatementSettings(int fetchSize, int fetchDirection, int maxRows, int maxFieldSize, int queryTimeout) {
+
+    static StatementSettings capture(PreparedStatement statement) throws SQLException {
+        return new StatementSettings(statement.getFetchSize(), statement.getFetchDirection(), statement.getMaxRows(),
+                statement.getMaxFieldSize(), statement.getQueryTimeout());
+    }
+
+    void restore(PreparedStatement statement) throws SQLException {
+        statement.setMaxRows(maxRows);
+        statement.setFetchSize(fetchSize);
+        statement.setFetchDirection(fetchDirection);
+        statement.setMaxFieldSize(maxFieldSize);
+        statement.setQueryTimeout(queryTimeout);
+    }
+}
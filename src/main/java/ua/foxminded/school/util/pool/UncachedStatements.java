@@ -0,0 +1,17 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public interface UncachedStatements {
+
+    PreparedStatement prepareUncachedStatement(String sql) throws SQLException;
+
+    static PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        if (connection.isWrapperFor(UncachedStatements.class)) {
+            return connection.unwrap(UncachedStatements.class).prepareUncachedStatement(sql);
+        }
+        return connection.prepareStatement(sql);
+    }
+}
@@ -0,0 +1,79 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+class BlockBuffer {
+    private static final int DEFLATE_STEP = 8 * 1024;
+
+    private byte[] bytes;
+    private int length;
+
+    BlockBuffer(int initialCapacity) {
+        bytes = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        bytes[length++] = (byte) (value >>> 24);
+        bytes[length++] = (byte) (value >>> 16);
+        bytes[length++] = (byte) (value >>> 8);
+        bytes[length++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    void writeZigZag(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeString(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(encoded.length);
+        writeBytes(encoded, 0, encoded.length);
+    }
+
+    void writeBytes(byte[] source, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+    }
+
+    void writeDeflated(Deflater deflater) {
+        while (!deflater.finished()) {
+            ensureCapacity(DEFLATE_STEP);
+            length += deflater.deflate(bytes, length, bytes.length - length);
+        }
+    }
+
+    byte[] array() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void clear() {
+        length = 0;
+    }
+
+    private void ensureCapacity(int count) {
+        if (length + count > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+        }
+    }
+}
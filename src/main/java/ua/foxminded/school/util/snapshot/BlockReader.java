@@ -0,0 +1,57 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.nio.charset.StandardCharsets;
+
+import ua.foxminded.school.exception.SnapshotFormatException;
+
+class BlockReader {
+    private final byte[] bytes;
+    private final int length;
+    private int position;
+
+    BlockReader(byte[] bytes, int length) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    int readVarInt() throws SnapshotFormatException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int current = readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SnapshotFormatException("Variable-length integer is too long");
+    }
+
+    int readZigZag() throws SnapshotFormatException {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    String readString() throws SnapshotFormatException {
+        int byteLength = readVarInt();
+        if (byteLength < 0 || byteLength > length - position) {
+            throw new SnapshotFormatException("String length exceeds block size");
+        }
+        String value = new String(bytes, position, byteLength, StandardCharsets.UTF_8);
+        position += byteLength;
+        return value;
+    }
+
+    void checkFullyRead() throws SnapshotFormatException {
+        if (position != length) {
+            throw new SnapshotFormatException(
+                    String.format("Block has %d unread bytes", length - position));
+        }
+    }
+
+    private int readByte() throws SnapshotFormatException {
+        if (position >= length) {
+            throw new SnapshotFormatException("Unexpected end of block");
+        }
+        return bytes[position++] & 0xFF;
+    }
+}
@@ -0,0 +1,72 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import ua.foxminded.school.exception.SnapshotFormatException;
+
+class SnapshotChannelInput {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long bytesCount;
+
+    SnapshotChannelInput(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        buffer.flip();
+    }
+
+    int readByte() throws IOException {
+        ensureAvailable();
+        bytesCount++;
+        return buffer.get() & 0xFF;
+    }
+
+    int readInt() throws IOException {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int current = readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SnapshotFormatException("Variable-length integer is too long");
+    }
+
+    void readFully(byte[] target, int count) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            ensureAvailable();
+            int chunkLength = Math.min(count - offset, buffer.remaining());
+            buffer.get(target, offset, chunkLength);
+            offset += chunkLength;
+        }
+        bytesCount += count;
+    }
+
+    long getBytesCount() {
+        return bytesCount;
+    }
+
+    private void ensureAvailable() throws IOException {
+        if (buffer.hasRemaining()) {
+            return;
+        }
+        buffer.clear();
+        int readCount = channel.read(buffer);
+        buffer.flip();
+        if (readCount <= 0) {
+            throw new SnapshotFormatException("Unexpected end of snapshot");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+class SnapshotChannelOutput {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long bytesCount;
+
+    SnapshotChannelOutput(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void write(BlockBuffer block) throws IOException {
+        write(block.array(), 0, block.length());
+    }
+
+    void write(byte[] source, int offset, int count) throws IOException {
+        while (count > 0) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunkLength = Math.min(count, buffer.remaining());
+            buffer.put(source, offset, chunkLength);
+            offset += chunkLength;
+            count -= chunkLength;
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesCount += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    long getBytesCount() {
+        return bytesCount + buffer.position();
+    }
+}
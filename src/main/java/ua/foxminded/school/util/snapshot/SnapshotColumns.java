@@ -0,0 +1,86 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import ua.foxminded.school.exception.SnapshotFormatException;
+
+class SnapshotColumns {
+
+    private SnapshotColumns() {
+    }
+
+    static <T> void writeDeltas(BlockBuffer block, List<T> rows, ToIntFunction<T> valueExtractor) {
+        int previous = 0;
+        for (T row : rows) {
+            int value = valueExtractor.applyAsInt(row);
+            block.writeZigZag(value - previous);
+            previous = value;
+        }
+    }
+
+    static int[] readDeltas(BlockReader block, int rowsCount) throws SnapshotFormatException {
+        int[] values = new int[rowsCount];
+        int previous = 0;
+        for (int i = 0; i < rowsCount; i++) {
+            previous += block.readZigZag();
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    static <T> void writeInts(BlockBuffer block, List<T> rows, ToIntFunction<T> valueExtractor) {
+        for (T row : rows) {
+            block.writeZigZag(valueExtractor.applyAsInt(row));
+        }
+    }
+
+    static int[] readInts(BlockReader block, int rowsCount) throws SnapshotFormatException {
+        int[] values = new int[rowsCount];
+        for (int i = 0; i < rowsCount; i++) {
+            values[i] = block.readZigZag();
+        }
+        return values;
+    }
+
+    static <T> void writeDictionary(BlockBuffer block, List<T> rows, Function<T, String> valueExtractor) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] indexes = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            indexes[i] = dictionary.computeIfAbsent(valueExtractor.apply(rows.get(i)), value -> dictionary.size());
+        }
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+        block.writeVarInt(entries.length);
+        for (String entry : entries) {
+            block.writeString(entry);
+        }
+        for (int index : indexes) {
+            block.writeVarInt(index);
+        }
+    }
+
+    static String[] readDictionary(BlockReader block, int rowsCount) throws SnapshotFormatException {
+        int entriesCount = block.readVarInt();
+        if (entriesCount < 0 || entriesCount > rowsCount) {
+            throw new SnapshotFormatException(
+                    String.format("Dictionary of %d entries is invalid for %d rows", entriesCount, rowsCount));
+        }
+        String[] entries = new String[entriesCount];
+        for (int i = 0; i < entriesCount; i++) {
+            entries[i] = block.readString();
+        }
+        String[] values = new String[rowsCount];
+        for (int i = 0; i < rowsCount; i++) {
+            int index = block.readVarInt();
+            if (index < 0 || index >= entriesCount) {
+                throw new SnapshotFormatException(String.format("Dictionary index %d is out of range", index));
+            }
+            values[i] = entries[index];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,13 @@
+package ua.foxminded.school.util.snapshot;
+
+class SnapshotFormat {
+    static final byte[] MAGIC = { 'S', 'C', 'H', 'S' };
+    static final int VERSION = 1;
+    static final int COMPRESSED_FLAG = 1;
+    static final int END_OF_SECTION = 0;
+    static final int END_OF_SNAPSHOT = 0;
+    static final int MAX_BLOCK_LENGTH = 32 * 1024 * 1024;
+
+    private SnapshotFormat() {
+    }
+}
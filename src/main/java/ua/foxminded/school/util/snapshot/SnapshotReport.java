@@ -0,0 +1,61 @@
+package ua.foxminded.school.util.snapshot;
+
+public class SnapshotReport {
+    private static final double MILLIS_IN_SECOND = 1000.0;
+
+    private final long groupsCount;
+    private final long coursesCount;
+    private final long studentsCount;
+    private final long enrollmentsCount;
+    private final long bytesCount;
+    private final long elapsedMillis;
+
+    public SnapshotReport(long groupsCount, long coursesCount, long studentsCount, long enrollmentsCount,
+            long bytesCount, long elapsedMillis) {
+        this.groupsCount = groupsCount;
+        this.coursesCount = coursesCount;
+        this.studentsCount = studentsCount;
+        this.enrollmentsCount = enrollmentsCount;
+        this.bytesCount = bytesCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getGroupsCount() {
+        return groupsCount;
+    }
+
+    public long getCoursesCount() {
+        return coursesCount;
+    }
+
+    public long getStudentsCount() {
+        return studentsCount;
+    }
+
+    public long getEnrollmentsCount() {
+        return enrollmentsCount;
+    }
+
+    public long getBytesCount() {
+        return bytesCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsCount() {
+        return groupsCount + coursesCount + studentsCount + enrollmentsCount;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? getRowsCount() : getRowsCount() * MILLIS_IN_SECOND / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SnapshotReport [groups=%d, courses=%d, students=%d, enrollments=%d, bytes=%d, "
+                + "elapsed=%d ms, rows/s=%.0f]", groupsCount, coursesCount, studentsCount, enrollmentsCount,
+                bytesCount, elapsedMillis, getRowsPerSecond());
+    }
+}
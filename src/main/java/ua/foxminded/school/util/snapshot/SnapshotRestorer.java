@@ -0,0 +1,192 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.impl.bulk.BulkLoader;
+import ua.foxminded.school.dao.impl.bulk.BulkLoaders;
+import ua.foxminded.school.exception.DaoOperationException;
+import ua.foxminded.school.exception.SnapshotFormatException;
+
+public class SnapshotRestorer {
+    private static final Logger LOGGER = LogManager.getLogger(SnapshotRestorer.class);
+    private static final int CHANNEL_BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_BLOCK_CAPACITY = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public SnapshotRestorer(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public SnapshotReport restore(Path file) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        Inflater inflater = new Inflater();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                SectionsReader reader = new SectionsReader(new SnapshotChannelInput(channel, CHANNEL_BUFFER_SIZE),
+                        inflater);
+                SnapshotReport report = restoreSections(connection, reader, startMillis);
+                connection.commit();
+                LOGGER.info(String.format("Snapshot restored from %s: %s", file, report));
+                return report;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DaoOperationException(String.format("Error restoring snapshot %s", file), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private SnapshotReport restoreSections(Connection connection, SectionsReader reader, long startMillis)
+            throws SQLException, IOException {
+        reader.readHeader();
+        BulkLoader bulkLoader = BulkLoaders.forConnection(connection);
+        long groupsCount = reader.readSection(SnapshotSection.GROUPS,
+                groups -> bulkLoader.restoreGroups(connection, groups));
+        long coursesCount = reader.readSection(SnapshotSection.COURSES,
+                courses -> bulkLoader.restoreCourses(connection, courses));
+        long studentsCount = reader.readSection(SnapshotSection.STUDENTS,
+                students -> bulkLoader.restoreStudents(connection, students));
+        long enrollmentsCount = reader.readSection(SnapshotSection.ENROLLMENTS,
+                enrollments -> bulkLoader.loadStudentsCourses(connection, enrollments));
+        reader.readEnd();
+        BulkLoaders.completeRestore(connection);
+        return new SnapshotReport(groupsCount, coursesCount, studentsCount, enrollmentsCount,
+                reader.getBytesCount(), System.currentTimeMillis() - startMillis);
+    }
+
+    @FunctionalInterface
+    private interface BlockLoader<T> {
+        void load(List<T> rows) throws SQLException;
+    }
+
+    private static class SectionsReader {
+        private final SnapshotChannelInput input;
+        private final Inflater inflater;
+        private final CRC32 checksum = new CRC32();
+        private byte[] payload = new byte[INITIAL_BLOCK_CAPACITY];
+        private byte[] compressedPayload = new byte[INITIAL_BLOCK_CAPACITY];
+        private boolean compressed;
+
+        private SectionsReader(SnapshotChannelInput input, Inflater inflater) {
+            this.input = input;
+            this.inflater = inflater;
+        }
+
+        private void readHeader() throws IOException {
+            for (byte magicByte : SnapshotFormat.MAGIC) {
+                if (input.readByte() != magicByte) {
+                    throw new SnapshotFormatException("File is not a school database snapshot");
+                }
+            }
+            int version = input.readByte();
+            if (version != SnapshotFormat.VERSION) {
+                throw new SnapshotFormatException(String.format("Unsupported snapshot version %d", version));
+            }
+            compressed = (input.readByte() & SnapshotFormat.COMPRESSED_FLAG) != 0;
+        }
+
+        private <T> long readSection(SnapshotSection<T> section, BlockLoader<T> blockLoader)
+                throws IOException, SQLException {
+            int tag = input.readByte();
+            if (tag != section.tag()) {
+                throw new SnapshotFormatException(
+                        String.format("Expected section %s but found section tag %d", section.name(), tag));
+            }
+            long rowsCount = 0;
+            int blockRowsCount;
+            while ((blockRowsCount = input.readVarInt()) != SnapshotFormat.END_OF_SECTION) {
+                BlockReader block = readBlock(section);
+                List<T> rows = section.decoder().decode(block, blockRowsCount);
+                block.checkFullyRead();
+                blockLoader.load(rows);
+                rowsCount += blockRowsCount;
+            }
+            return rowsCount;
+        }
+
+        private BlockReader readBlock(SnapshotSection<?> section) throws IOException {
+            int storedLength = compressed ? input.readVarInt() : 0;
+            int payloadLength = input.readVarInt();
+            int expectedChecksum = input.readInt();
+            if (payloadLength < 0 || storedLength < 0 || payloadLength > SnapshotFormat.MAX_BLOCK_LENGTH
+                    || storedLength > SnapshotFormat.MAX_BLOCK_LENGTH) {
+                throw new SnapshotFormatException(String.format("Invalid block length in section %s", section.name()));
+            }
+            if (payload.length < payloadLength) {
+                payload = new byte[payloadLength];
+            }
+            if (compressed) {
+                if (compressedPayload.length < storedLength) {
+                    compressedPayload = new byte[storedLength];
+                }
+                input.readFully(compressedPayload, storedLength);
+                inflate(section, storedLength, payloadLength);
+            } else {
+                input.readFully(payload, payloadLength);
+            }
+            checksum.reset();
+            checksum.update(payload, 0, payloadLength);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                throw new SnapshotFormatException(String.format("Checksum mismatch in section %s", section.name()));
+            }
+            return new BlockReader(payload, payloadLength);
+        }
+
+        private void inflate(SnapshotSection<?> section, int storedLength, int payloadLength)
+                throws SnapshotFormatException {
+            inflater.reset();
+            inflater.setInput(compressedPayload, 0, storedLength);
+            try {
+                int inflatedLength = 0;
+                while (inflatedLength < payloadLength && !inflater.finished()) {
+                    int count = inflater.inflate(payload, inflatedLength, payloadLength - inflatedLength);
+                    if (count == 0) {
+                        throw new SnapshotFormatException(String.format(
+                                "Compressed block is truncated or corrupted in section %s", section.name()));
+                    }
+                    inflatedLength += count;
+                }
+                if (inflatedLength != payloadLength) {
+                    throw new SnapshotFormatException(
+                            String.format("Compressed block is truncated in section %s", section.name()));
+                }
+            } catch (DataFormatException e) {
+                throw new SnapshotFormatException(
+                        String.format("Compressed block is corrupted in section %s", section.name()), e);
+            }
+        }
+
+        private void readEnd() throws IOException {
+            if (input.readByte() != SnapshotFormat.END_OF_SNAPSHOT) {
+                throw new SnapshotFormatException("Snapshot has unexpected data after the last section");
+            }
+        }
+
+        private long getBytesCount() {
+            return input.getBytesCount();
+        }
+    }
+}
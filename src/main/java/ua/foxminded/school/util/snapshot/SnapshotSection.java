@@ -0,0 +1,78 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.SnapshotFormatException;
+
+record SnapshotSection<T>(int tag, String name, RowsEncoder<T> encoder, RowsDecoder<T> decoder) {
+    static final SnapshotSection<Group> GROUPS = new SnapshotSection<>(1, "groups", (block, groups) -> {
+        SnapshotColumns.writeDeltas(block, groups, Group::getId);
+        SnapshotColumns.writeDictionary(block, groups, Group::getName);
+    }, (block, rowsCount) -> {
+        int[] ids = SnapshotColumns.readDeltas(block, rowsCount);
+        String[] names = SnapshotColumns.readDictionary(block, rowsCount);
+        List<Group> groups = new ArrayList<>(rowsCount);
+        for (int i = 0; i < rowsCount; i++) {
+            groups.add(new Group(ids[i], names[i]));
+        }
+        return groups;
+    });
+    static final SnapshotSection<Course> COURSES = new SnapshotSection<>(2, "courses", (block, courses) -> {
+        SnapshotColumns.writeDeltas(block, courses, Course::getId);
+        SnapshotColumns.writeDictionary(block, courses, Course::getName);
+        SnapshotColumns.writeDictionary(block, courses, Course::getDescription);
+    }, (block, rowsCount) -> {
+        int[] ids = SnapshotColumns.readDeltas(block, rowsCount);
+        String[] names = SnapshotColumns.readDictionary(block, rowsCount);
+        String[] descriptions = SnapshotColumns.readDictionary(block, rowsCount);
+        List<Course> courses = new ArrayList<>(rowsCount);
+        for (int i = 0; i < rowsCount; i++) {
+            courses.add(new Course(ids[i], names[i], descriptions[i]));
+        }
+        return courses;
+    });
+    static final SnapshotSection<Student> STUDENTS = new SnapshotSection<>(3, "students", (block, students) -> {
+        SnapshotColumns.writeDeltas(block, students, Student::getId);
+        SnapshotColumns.writeInts(block, students, Student::getGroupId);
+        SnapshotColumns.writeDictionary(block, students, Student::getFirstName);
+        SnapshotColumns.writeDictionary(block, students, Student::getLastName);
+    }, (block, rowsCount) -> {
+        int[] ids = SnapshotColumns.readDeltas(block, rowsCount);
+        int[] groupIds = SnapshotColumns.readInts(block, rowsCount);
+        String[] firstNames = SnapshotColumns.readDictionary(block, rowsCount);
+        String[] lastNames = SnapshotColumns.readDictionary(block, rowsCount);
+        List<Student> students = new ArrayList<>(rowsCount);
+        for (int i = 0; i < rowsCount; i++) {
+            students.add(new Student(ids[i], groupIds[i], firstNames[i], lastNames[i]));
+        }
+        return students;
+    });
+    static final SnapshotSection<Enrollment> ENROLLMENTS = new SnapshotSection<>(4, "enrollments",
+            (block, enrollments) -> {
+                SnapshotColumns.writeDeltas(block, enrollments, Enrollment::getStudentId);
+                SnapshotColumns.writeInts(block, enrollments, Enrollment::getCourseId);
+            }, (block, rowsCount) -> {
+                int[] studentIds = SnapshotColumns.readDeltas(block, rowsCount);
+                int[] courseIds = SnapshotColumns.readInts(block, rowsCount);
+                List<Enrollment> enrollments = new ArrayList<>(rowsCount);
+                for (int i = 0; i < rowsCount; i++) {
+                    enrollments.add(new Enrollment(studentIds[i], courseIds[i]));
+                }
+                return enrollments;
+            });
+
+    @FunctionalInterface
+    interface RowsEncoder<T> {
+        void encode(BlockBuffer block, List<T> rows);
+    }
+
+    @FunctionalInterface
+    interface RowsDecoder<T> {
+        List<T> decode(BlockReader block, int rowsCount) throws SnapshotFormatException;
+    }
+}
@@ -0,0 +1,181 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.StudentDao;
+
+public class SnapshotWriter {
+    private static final Logger LOGGER = LogManager.getLogger(SnapshotWriter.class);
+    private static final int DEFAULT_BLOCK_ROWS_COUNT = 16_384;
+    private static final int CHANNEL_BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_BLOCK_CAPACITY = 64 * 1024;
+    private static final int HEADER_CAPACITY = 32;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final StudentDao studentDao;
+    private final CourseDao courseDao;
+    private final GroupDao groupDao;
+    private final boolean compressed;
+    private final int blockRowsCount;
+
+    public SnapshotWriter(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, boolean compressed) {
+        this(studentDao, courseDao, groupDao, compressed, DEFAULT_BLOCK_ROWS_COUNT);
+    }
+
+    public SnapshotWriter(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, boolean compressed,
+            int blockRowsCount) {
+        if (blockRowsCount <= 0) {
+            throw new IllegalArgumentException("Block rows count must be positive");
+        }
+        this.studentDao = Objects.requireNonNull(studentDao);
+        this.courseDao = Objects.requireNonNull(courseDao);
+        this.groupDao = Objects.requireNonNull(groupDao);
+        this.compressed = compressed;
+        this.blockRowsCount = blockRowsCount;
+    }
+
+    public SnapshotReport write(Path file) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        SnapshotReport report;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SectionsWriter writer = new SectionsWriter(new SnapshotChannelOutput(channel, CHANNEL_BUFFER_SIZE),
+                    deflater);
+            writer.writeHeader();
+            long groupsCount = writer.writeSection(SnapshotSection.GROUPS, groupDao.streamAll());
+            long coursesCount = writer.writeSection(SnapshotSection.COURSES, courseDao.streamAll());
+            long studentsCount = writer.writeSection(SnapshotSection.STUDENTS, studentDao.streamAll());
+            long enrollmentsCount = writer.writeSection(SnapshotSection.ENROLLMENTS,
+                    studentDao.streamAllEnrollments());
+            long bytesCount = writer.finish();
+            channel.force(false);
+            report = new SnapshotReport(groupsCount, coursesCount, studentsCount, enrollmentsCount, bytesCount,
+                    System.currentTimeMillis() - startMillis);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        } finally {
+            deflater.end();
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.info(String.format("Snapshot written to %s: %s", file, report));
+        return report;
+    }
+
+    private class SectionsWriter {
+        private final SnapshotChannelOutput output;
+        private final Deflater deflater;
+        private final BlockBuffer header = new BlockBuffer(HEADER_CAPACITY);
+        private final BlockBuffer payload = new BlockBuffer(INITIAL_BLOCK_CAPACITY);
+        private final BlockBuffer compressedPayload = new BlockBuffer(INITIAL_BLOCK_CAPACITY);
+        private final CRC32 checksum = new CRC32();
+
+        private SectionsWriter(SnapshotChannelOutput output, Deflater deflater) {
+            this.output = output;
+            this.deflater = deflater;
+        }
+
+        private void writeHeader() throws IOException {
+            header.clear();
+            header.writeBytes(SnapshotFormat.MAGIC, 0, SnapshotFormat.MAGIC.length);
+            header.writeByte(SnapshotFormat.VERSION);
+            header.writeByte(compressed ? SnapshotFormat.COMPRESSED_FLAG : 0);
+            output.write(header);
+        }
+
+        private <T> long writeSection(SnapshotSection<T> section, Stream<T> rows) throws IOException {
+            header.clear();
+            header.writeByte(section.tag());
+            output.write(header);
+            long rowsCount = 0;
+            List<T> block = new ArrayList<>(blockRowsCount);
+            try (rows) {
+                Iterator<T> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    block.add(iterator.next());
+                    if (block.size() == blockRowsCount) {
+                        rowsCount += writeBlock(section, block);
+                    }
+                }
+            }
+            rowsCount += writeBlock(section, block);
+            header.clear();
+            header.writeVarInt(SnapshotFormat.END_OF_SECTION);
+            output.write(header);
+            return rowsCount;
+        }
+
+        private <T> int writeBlock(SnapshotSection<T> section, List<T> rows) throws IOException {
+            int rowsCount = rows.size();
+            if (rowsCount == 0) {
+                return 0;
+            }
+            writeRows(section, rows);
+            rows.clear();
+            return rowsCount;
+        }
+
+        private <T> void writeRows(SnapshotSection<T> section, List<T> rows) throws IOException {
+            payload.clear();
+            section.encoder().encode(payload, rows);
+            BlockBuffer storedPayload = payload;
+            if (compressed) {
+                deflater.reset();
+                deflater.setInput(payload.array(), 0, payload.length());
+                deflater.finish();
+                compressedPayload.clear();
+                compressedPayload.writeDeflated(deflater);
+                storedPayload = compressedPayload;
+            }
+            if (payload.length() > SnapshotFormat.MAX_BLOCK_LENGTH
+                    || storedPayload.length() > SnapshotFormat.MAX_BLOCK_LENGTH) {
+                if (rows.size() == 1) {
+                    throw new IOException(
+                            String.format("Row in section %s exceeds the maximum block length", section.name()));
+                }
+                int middle = rows.size() / 2;
+                writeRows(section, rows.subList(0, middle));
+                writeRows(section, rows.subList(middle, rows.size()));
+                return;
+            }
+            checksum.reset();
+            checksum.update(payload.array(), 0, payload.length());
+            header.clear();
+            header.writeVarInt(rows.size());
+            if (compressed) {
+                header.writeVarInt(compressedPayload.length());
+            }
+            header.writeVarInt(payload.length());
+            header.writeInt((int) checksum.getValue());
+            output.write(header);
+            output.write(storedPayload);
+        }
+
+        private long finish() throws IOException {
+            header.clear();
+            header.writeByte(SnapshotFormat.END_OF_SNAPSHOT);
+            output.write(header);
+            output.flush();
+            return output.getBytesCount();
+        }
+    }
+}
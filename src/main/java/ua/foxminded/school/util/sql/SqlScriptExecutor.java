@@ -0,0 +1,111 @@
+package ua.foxminded.school.util.sql;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import ua.foxminded.school.exception.FileReaderException;
+import ua.foxminded.school.util.FileReader;
+
+public class SqlScriptExecutor {
+    private static final Logger LOGGER = LogManager.getLogger(SqlScriptExecutor.class);
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    private final int batchSize;
+
+    public SqlScriptExecutor() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public SqlScriptExecutor(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int executeResource(Connection connection, String resourceName) throws SQLException, FileReaderException {
+        try (BufferedReader script = FileReader.openResource(resourceName)) {
+            return execute(connection, script);
+        } catch (FileReaderException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new FileReaderException(String.format("Cannot read SQL script %s", resourceName), e);
+        }
+    }
+
+    public int executeFile(Connection connection, Path scriptFile) throws SQLException, FileReaderException {
+        try (BufferedReader script = Files.newBufferedReader(scriptFile, StandardCharsets.UTF_8)) {
+            return execute(connection, script);
+        } catch (IOException e) {
+            throw new FileReaderException(String.format("Cannot read SQL script %s", scriptFile), e);
+        }
+    }
+
+    public int execute(Connection connection, Reader script) throws SQLException, IOException {
+        long startMillis = System.currentTimeMillis();
+        SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(script);
+        List<SqlStatement> batch = new ArrayList<>(batchSize);
+        int statementsCount = 0;
+        try (Statement statement = connection.createStatement()) {
+            SqlStatement sqlStatement;
+            while ((sqlStatement = tokenizer.next()) != null) {
+                statement.addBatch(sqlStatement.sql());
+                batch.add(sqlStatement);
+                statementsCount++;
+                if (batch.size() >= batchSize) {
+                    executeBatch(statement, batch);
+                }
+            }
+            executeBatch(statement, batch);
+        }
+        LOGGER.debug(String.format("Executed %d SQL script statements in %d ms", statementsCount,
+                System.currentTimeMillis() - startMillis));
+        return statementsCount;
+    }
+
+    private void executeBatch(Statement statement, List<SqlStatement> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            statement.executeBatch();
+        } catch (BatchUpdateException e) {
+            SqlStatement failedStatement = batch.get(findFailedIndex(e.getUpdateCounts(), batch.size()));
+            throw new SQLException(String.format("Cannot execute SQL script statement at line %d: %s",
+                    failedStatement.lineNumber(), abbreviate(failedStatement.sql())), e.getSQLState(),
+                    e.getErrorCode(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private int findFailedIndex(int[] updateCounts, int batchSize) {
+        if (updateCounts == null) {
+            return 0;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.length, batchSize - 1);
+    }
+
+    private String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,201 @@
+package ua.foxminded.school.util.sql;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+
+public class SqlScriptTokenizer {
+    private static final int END_OF_SCRIPT = -1;
+    private static final char STATEMENT_TERMINATOR = ';';
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char SINGLE_QUOTE = '\'';
+    private static final char DOUBLE_QUOTE = '"';
+    private static final char DOLLAR = '$';
+    private static final char BACKSLASH = '\\';
+
+    private final PushbackReader reader;
+    private final StringBuilder statement = new StringBuilder();
+    private int lineNumber = 1;
+    private int statementLineNumber;
+
+    public SqlScriptTokenizer(Reader reader) {
+        this.reader = new PushbackReader(reader);
+    }
+
+    public SqlStatement next() throws IOException {
+        statement.setLength(0);
+        statementLineNumber = 0;
+        int current;
+        while ((current = read()) != END_OF_SCRIPT) {
+            char character = (char) current;
+            if (character == STATEMENT_TERMINATOR) {
+                if (statementLineNumber > 0) {
+                    return createStatement();
+                }
+            } else if (character == '-' && peek() == '-') {
+                skipLineComment();
+            } else if (character == '/' && peek() == '*') {
+                skipBlockComment();
+            } else if (Character.isWhitespace(character)) {
+                if (statementLineNumber > 0) {
+                    statement.append(character);
+                }
+            } else {
+                if (statementLineNumber == 0) {
+                    statementLineNumber = lineNumber;
+                }
+                if (character == SINGLE_QUOTE) {
+                    readQuoted(SINGLE_QUOTE, isEscapeStringPrefix());
+                } else if (character == DOUBLE_QUOTE) {
+                    readQuoted(DOUBLE_QUOTE, false);
+                } else if (character == DOLLAR && !isIdentifierPart()) {
+                    readDollarQuoted();
+                } else {
+                    statement.append(character);
+                }
+            }
+        }
+        return statementLineNumber > 0 ? createStatement() : null;
+    }
+
+    private SqlStatement createStatement() {
+        return new SqlStatement(statementLineNumber, statement.toString().strip());
+    }
+
+    private void readQuoted(char quote, boolean backslashEscapes) throws IOException {
+        int startLineNumber = lineNumber;
+        statement.append(quote);
+        while (true) {
+            int current = read();
+            if (current == END_OF_SCRIPT) {
+                throw unterminated("quoted literal", startLineNumber);
+            }
+            char character = (char) current;
+            statement.append(character);
+            if (backslashEscapes && character == BACKSLASH) {
+                int escaped = read();
+                if (escaped == END_OF_SCRIPT) {
+                    throw unterminated("quoted literal", startLineNumber);
+                }
+                statement.append((char) escaped);
+            } else if (character == quote) {
+                if (peek() != quote) {
+                    return;
+                }
+                statement.append((char) read());
+            }
+        }
+    }
+
+    private void readDollarQuoted() throws IOException {
+        int startLineNumber = lineNumber;
+        statement.append(DOLLAR);
+        int tagStart = statement.length();
+        int current = read();
+        if (current != END_OF_SCRIPT && Character.isDigit(current)) {
+            unread(current);
+            return;
+        }
+        while (current != END_OF_SCRIPT && (Character.isLetterOrDigit(current) || current == '_')) {
+            statement.append((char) current);
+            current = read();
+        }
+        if (current != DOLLAR) {
+            unread(current);
+            return;
+        }
+        statement.append(DOLLAR);
+        String delimiter = statement.substring(tagStart - 1);
+        int bodyStart = statement.length();
+        while (true) {
+            current = read();
+            if (current == END_OF_SCRIPT) {
+                throw unterminated("dollar-quoted literal", startLineNumber);
+            }
+            statement.append((char) current);
+            if (current == DOLLAR && statement.length() - delimiter.length() >= bodyStart
+                    && statement.lastIndexOf(delimiter) == statement.length() - delimiter.length()) {
+                return;
+            }
+        }
+    }
+
+    private void skipLineComment() throws IOException {
+        int current = read();
+        while (current != END_OF_SCRIPT && current != LINE_SEPARATOR) {
+            current = read();
+        }
+        if (statementLineNumber > 0) {
+            statement.append(LINE_SEPARATOR);
+        }
+    }
+
+    private void skipBlockComment() throws IOException {
+        int startLineNumber = lineNumber;
+        read();
+        int depth = 1;
+        while (depth > 0) {
+            int current = read();
+            if (current == END_OF_SCRIPT) {
+                throw unterminated("block comment", startLineNumber);
+            }
+            if (current == '*' && peek() == '/') {
+                read();
+                depth--;
+            } else if (current == '/' && peek() == '*') {
+                read();
+                depth++;
+            }
+        }
+        if (statementLineNumber > 0) {
+            statement.append(' ');
+        }
+    }
+
+    private boolean isEscapeStringPrefix() {
+        int length = statement.length();
+        if (length == 0 || Character.toUpperCase(statement.charAt(length - 1)) != 'E') {
+            return false;
+        }
+        return length == 1 || !isIdentifierPart(statement.charAt(length - 2));
+    }
+
+    private boolean isIdentifierPart() {
+        return statement.length() > 0 && isIdentifierPart(statement.charAt(statement.length() - 1));
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == DOLLAR;
+    }
+
+    private EOFException unterminated(String element, int startLineNumber) {
+        return new EOFException(String.format("Unterminated %s starting at line %d", element, startLineNumber));
+    }
+
+    private int read() throws IOException {
+        int current = reader.read();
+        if (current == LINE_SEPARATOR) {
+            lineNumber++;
+        }
+        return current;
+    }
+
+    private int peek() throws IOException {
+        int current = reader.read();
+        if (current != END_OF_SCRIPT) {
+            reader.unread(current);
+        }
+        return current;
+    }
+
+    private void unread(int current) throws IOException {
+        if (current == END_OF_SCRIPT) {
+            return;
+        }
+        if (current == LINE_SEPARATOR) {
+            lineNumber--;
+        }
+        reader.unread(current);
+    }
+}
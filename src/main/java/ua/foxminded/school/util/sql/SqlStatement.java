@@ -0,0 +1,4 @@
+package ua.foxminded.school.util.sql;
+
+public record SqlStatement(int lineNumber, String sql) {
+}
@@ -0,0 +1,94 @@
+package ua.foxminded.school.util.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class BackgroundStartup {
+    private static final Logger LOGGER = LogManager.getLogger(BackgroundStartup.class);
+    private static final String STARTUP_THREAD_NAME = "background-startup";
+    private static final String DATA_READY_MILESTONE = "data ready";
+    private static final String WARMED_UP_MILESTONE = "warmed up";
+    private static final String FAILED_MILESTONE = "startup failed";
+
+    private final StartupTimeline timeline;
+    private final List<StartupStep> readinessSteps = new ArrayList<>();
+    private final List<StartupStep> warmUpSteps = new ArrayList<>();
+    private final CompletableFuture<Void> dataReady = new CompletableFuture<>();
+    private final CompletableFuture<Void> warmedUp = new CompletableFuture<>();
+    private boolean started;
+
+    public BackgroundStartup(StartupTimeline timeline) {
+        this.timeline = Objects.requireNonNull(timeline);
+    }
+
+    public synchronized BackgroundStartup readinessStep(String milestone, Runnable step) {
+        checkNotStarted();
+        readinessSteps.add(new StartupStep(Objects.requireNonNull(milestone), Objects.requireNonNull(step)));
+        return this;
+    }
+
+    public synchronized BackgroundStartup warmUpStep(String milestone, Runnable step) {
+        checkNotStarted();
+        warmUpSteps.add(new StartupStep(Objects.requireNonNull(milestone), Objects.requireNonNull(step)));
+        return this;
+    }
+
+    public synchronized CompletableFuture<Void> start() {
+        checkNotStarted();
+        started = true;
+        Thread thread = new Thread(this::runSteps, STARTUP_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        return dataReady;
+    }
+
+    public CompletableFuture<Void> dataReady() {
+        return dataReady;
+    }
+
+    public CompletableFuture<Void> warmedUp() {
+        return warmedUp;
+    }
+
+    private void checkNotStarted() {
+        if (started) {
+            throw new IllegalStateException("Background startup was already started");
+        }
+    }
+
+    private void runSteps() {
+        try {
+            for (StartupStep step : readinessSteps) {
+                step.action().run();
+                timeline.mark(step.milestone());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Background startup failed", e);
+            timeline.mark(FAILED_MILESTONE);
+            dataReady.completeExceptionally(e);
+            warmedUp.completeExceptionally(e);
+            return;
+        }
+        timeline.mark(DATA_READY_MILESTONE);
+        dataReady.complete(null);
+        for (StartupStep step : warmUpSteps) {
+            try {
+                step.action().run();
+                timeline.mark(step.milestone());
+            } catch (RuntimeException e) {
+                LOGGER.warn(String.format("Warm-up step failed: %s", step.milestone()), e);
+            }
+        }
+        timeline.mark(WARMED_UP_MILESTONE);
+        LOGGER.info(timeline);
+        warmedUp.complete(null);
+    }
+
+    private record StartupStep(String milestone, Runnable action) {
+    }
+}
@@ -0,0 +1,46 @@
+package ua.foxminded.school.util.startup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class StartupTimeline {
+    private static final Logger LOGGER = LogManager.getLogger(StartupTimeline.class);
+
+    private final long startNanos;
+    private final Map<String, Long> milestonesMillis = new LinkedHashMap<>();
+
+    public StartupTimeline() {
+        this(System.nanoTime());
+    }
+
+    public StartupTimeline(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public synchronized long mark(String milestone) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        milestonesMillis.put(milestone, elapsedMillis);
+        LOGGER.info(String.format("Startup: %s after %d ms", milestone, elapsedMillis));
+        return elapsedMillis;
+    }
+
+    public synchronized Map<String, Long> getMilestonesMillis() {
+        return new LinkedHashMap<>(milestonesMillis);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder timeline = new StringBuilder("StartupTimeline [");
+        milestonesMillis.forEach((milestone, elapsedMillis) -> {
+            if (timeline.charAt(timeline.length() - 1) != '[') {
+                timeline.append(", ");
+            }
+            timeline.append(milestone).append('=').append(elapsedMillis).append(" ms");
+        });
+        return timeline.append(']').toString();
+    }
+}
@@ -0,0 +1,5 @@
+DROP TABLE IF EXISTS students_courses CASCADE;
+DROP TABLE IF EXISTS courses CASCADE;
+DROP TABLE IF EXISTS students CASCADE;
+DROP TABLE IF EXISTS groups CASCADE;
+DROP TABLE IF EXISTS schema_version CASCADE;
@@ -1,14 +1,12 @@
-DROP TABLE IF EXISTS groups CASCADE;
-CREATE TABLE groups (
+CREATE TABLE IF NOT EXISTS groups (
     id SERIAL NOT NULL,
     name VARCHAR(255) NOT NULL,
     CONSTRAINT groups_pkey PRIMARY KEY (id),
     CONSTRAINT groups_name_ukey UNIQUE (name)
 );
-INSERT INTO groups(id, name) VALUES (0, 'DEFAULT GROUP');
+INSERT INTO groups(id, name) SELECT 0, 'DEFAULT GROUP' WHERE NOT EXISTS (SELECT 1 FROM groups WHERE id = 0);
 
-DROP TABLE IF EXISTS students CASCADE;
-CREATE TABLE students (
+CREATE TABLE IF NOT EXISTS students (
     id SERIAL NOT NULL,
     group_id INT NOT NULL DEFAULT (0),
     first_name VARCHAR(255) NOT NULL,
@@ -16,9 +14,9 @@ CREATE TABLE students (
     CONSTRAINT students_pkey PRIMARY KEY (id),
     CONSTRAINT students_group_fkey FOREIGN KEY (group_id) REFERENCES groups (id)
 );
+CREATE INDEX IF NOT EXISTS students_group_id_id_idx ON students (group_id, id);
 
-DROP TABLE IF EXISTS courses CASCADE;
-CREATE TABLE courses (
+CREATE TABLE IF NOT EXISTS courses (
     id SERIAL NOT NULL,
     name VARCHAR(255) NOT NULL,
     description VARCHAR(255) NOT NULL,
@@ -26,11 +24,11 @@ CREATE TABLE courses (
     CONSTRAINT courses_name_ukey UNIQUE (name)
 );
 
-DROP TABLE IF EXISTS students_courses CASCADE;
-CREATE TABLE students_courses (
+CREATE TABLE IF NOT EXISTS students_courses (
     student_id INT NOT NULL,
     course_id INT NOT NULL,
     CONSTRAINT students_courses_pkey PRIMARY KEY (student_id, course_id),
     CONSTRAINT students_courses_students_id_fkey FOREIGN KEY (student_id) REFERENCES students (id) ON UPDATE CASCADE ON DELETE CASCADE,
     CONSTRAINT students_courses_course_id_fkey FOREIGN KEY (course_id) REFERENCES courses (id) ON UPDATE CASCADE ON DELETE CASCADE
-);
\ No newline at end of file
+);
+CREATE INDEX IF NOT EXISTS students_courses_course_id_student_id_idx ON students_courses (course_id, student_id);
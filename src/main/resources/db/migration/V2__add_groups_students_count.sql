@@ -0,0 +1,3 @@
+ALTER TABLE groups ADD COLUMN students_count INT NOT NULL DEFAULT 0;
+UPDATE groups SET students_count = (SELECT COUNT(*) FROM students WHERE students.group_id = groups.id);
+CREATE INDEX groups_students_count_id_idx ON groups (students_count, id);
@@ -0,0 +1,125 @@
+package ua.foxminded.school.dao.async;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.exception.DaoOperationException;
+import ua.foxminded.school.util.JdbcUtil;
+
+class AsyncDaoExecutorTest {
+    private static final String SLOW_QUERY_SQL = "SELECT MAX(X * 2) FROM SYSTEM_RANGE(1, 10000000000);";
+    private static final long AWAIT_SECONDS = 10;
+
+    private DataSource dataSource;
+    private AsyncDaoExecutor executor;
+
+    @BeforeEach
+    void init() {
+        dataSource = new CancellableDataSource(JdbcUtil.createDefaultInMemoryH2DataSource());
+        executor = new AsyncDaoExecutor(2, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void submit_shouldCompleteWithOperationResult_whenOperationSucceeds() throws Exception {
+        CompletableFuture<Integer> future = executor.submit(() -> 42);
+        Assertions.assertEquals(42, future.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, executor.getAvailablePermits());
+    }
+
+    @Test
+    void cancel_shouldCancelRunningStatement_whenFutureCancelled() throws Exception {
+        CountDownLatch queryFinished = new CountDownLatch(1);
+        CompletableFuture<Long> future = executor.submit(() -> runSlowQuery(queryFinished));
+        Thread.sleep(300);
+
+        Assertions.assertTrue(future.cancel(true));
+        Assertions.assertTrue(queryFinished.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void submit_shouldCompleteWithTimeoutAndCancelStatement_whenTimeoutExceeded() throws Exception {
+        CountDownLatch queryFinished = new CountDownLatch(1);
+        try (AsyncDaoExecutor timingOutExecutor = new AsyncDaoExecutor(1, Duration.ofMillis(300))) {
+            CompletableFuture<Long> future = timingOutExecutor.submit(() -> runSlowQuery(queryFinished));
+
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> {
+                future.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            });
+            Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+            Assertions.assertTrue(queryFinished.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void submit_shouldRunAtMostMaxConcurrencyOperations_whenMoreOperationsSubmitted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = executor.submit(() -> await(release));
+        CompletableFuture<Boolean> second = executor.submit(() -> await(release));
+        CompletableFuture<Integer> third = executor.submit(() -> 3);
+        Thread.sleep(200);
+
+        Assertions.assertFalse(third.isDone());
+        release.countDown();
+        Assertions.assertEquals(3, third.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertTrue(first.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertTrue(second.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancel_shouldSkipOperation_whenCancelledWhileWaitingForPermit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> await(release));
+        executor.submit(() -> await(release));
+        CompletableFuture<Integer> waiting = executor.submit(() -> {
+            throw new IllegalStateException("Cancelled operation must not run");
+        });
+        Thread.sleep(100);
+
+        Assertions.assertTrue(waiting.cancel(true));
+        release.countDown();
+        Thread.sleep(100);
+        Assertions.assertEquals(2, executor.getAvailablePermits());
+    }
+
+    private long runSlowQuery(CountDownLatch queryFinished) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery(SLOW_QUERY_SQL);
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new DaoOperationException("Slow query was interrupted", e);
+        } finally {
+            queryFinished.countDown();
+        }
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
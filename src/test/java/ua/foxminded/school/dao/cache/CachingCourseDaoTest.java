@@ -0,0 +1,60 @@
+package ua.foxminded.school.dao.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.domain.model.Course;
+
+class CachingCourseDaoTest {
+    private static final Course TEST_COURSE = new Course(1, "Name", "Descr");
+
+    private CourseDao courseDao;
+    private CachingCourseDao cachingCourseDao;
+
+    @BeforeEach
+    void init() {
+        courseDao = Mockito.mock(CourseDao.class);
+        cachingCourseDao = new CachingCourseDao(courseDao, new CacheConfig());
+    }
+
+    @Test
+    void findByName_shouldQueryDaoOnce_whenCalledRepeatedly() {
+        Mockito.when(courseDao.findByName("Name")).thenReturn(Optional.of(TEST_COURSE));
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(Optional.of(TEST_COURSE), cachingCourseDao.findByName("Name"));
+        }
+        Mockito.verify(courseDao, Mockito.times(1)).findByName("Name");
+        Assertions.assertEquals(2, cachingCourseDao.getStatistics().getHitCount());
+    }
+
+    @Test
+    void findByName_shouldQueryDaoEveryTime_whenCourseDoesntExist() {
+        Mockito.when(courseDao.findByName("Name")).thenReturn(Optional.empty());
+        cachingCourseDao.findByName("Name");
+        cachingCourseDao.findByName("Name");
+        Mockito.verify(courseDao, Mockito.times(2)).findByName("Name");
+    }
+
+    @Test
+    void saveAllBatch_shouldInvalidateCachedCourses_whenCalled() {
+        Mockito.when(courseDao.findAll()).thenReturn(List.of(TEST_COURSE));
+        cachingCourseDao.findAll();
+        cachingCourseDao.saveAllBatch(Collections.emptyList());
+        cachingCourseDao.findAll();
+        Mockito.verify(courseDao, Mockito.times(2)).findAll();
+    }
+
+    @Test
+    void findAllByStudentId_shouldAlwaysDelegate_whenCalledRepeatedly() {
+        cachingCourseDao.findAllByStudentId(1);
+        cachingCourseDao.findAllByStudentId(1);
+        Mockito.verify(courseDao, Mockito.times(2)).findAllByStudentId(1);
+    }
+}
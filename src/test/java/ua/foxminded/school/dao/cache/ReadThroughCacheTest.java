@@ -0,0 +1,88 @@
+package ua.foxminded.school.dao.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadThroughCacheTest {
+    private static final long TEST_TTL_MILLIS = 1_000;
+    private static final int TEST_MAX_SIZE = 2;
+
+    private AtomicLong clock;
+    private AtomicInteger loadCount;
+    private ReadThroughCache<String, String> cache;
+
+    @BeforeEach
+    void init() {
+        clock = new AtomicLong();
+        loadCount = new AtomicInteger();
+        CacheConfig config = new CacheConfig();
+        config.setMaxSize(TEST_MAX_SIZE);
+        config.setTtlMillis(TEST_TTL_MILLIS);
+        cache = new ReadThroughCache<>(config, value -> !value.isEmpty(), clock::get);
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenKeyRequestedTwiceWithinTtl() {
+        Assertions.assertEquals("value", get("key", "value"));
+        Assertions.assertEquals("value", get("key", "other"));
+        Assertions.assertEquals(1, loadCount.get());
+        CacheStatistics statistics = cache.getStatistics();
+        Assertions.assertEquals(1, statistics.getHitCount());
+        Assertions.assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    void get_shouldReloadValue_whenTtlExpired() {
+        get("key", "value");
+        clock.addAndGet(TEST_TTL_MILLIS);
+        Assertions.assertEquals("other", get("key", "other"));
+        Assertions.assertEquals(1, cache.getStatistics().getExpirationCount());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedKey_whenMaxSizeExceeded() {
+        get("first", "value");
+        get("second", "value");
+        get("first", "value");
+        get("third", "value");
+        Assertions.assertEquals(1, cache.getStatistics().getEvictionCount());
+        Assertions.assertEquals("value", get("first", "other"));
+        Assertions.assertEquals("other", get("second", "other"));
+    }
+
+    @Test
+    void get_shouldNotCacheValue_whenValueIsNotCacheable() {
+        get("key", "");
+        get("key", "");
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void invalidateAll_shouldForceReload_whenKeyWasCached() {
+        get("key", "value");
+        cache.invalidateAll();
+        Assertions.assertEquals("other", get("key", "other"));
+        Assertions.assertEquals(1, cache.getStatistics().getInvalidationCount());
+    }
+
+    @Test
+    void get_shouldNotCacheLoadedValue_whenInvalidatedDuringLoad() {
+        cache.get("key", () -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+        Assertions.assertEquals("fresh", get("key", "fresh"));
+    }
+
+    private String get(String key, String value) {
+        return cache.get(key, () -> {
+            loadCount.incrementAndGet();
+            return value;
+        });
+    }
+}
@@ -1,11 +1,13 @@
 package ua.foxminded.school.dao.impl;
 
-import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -19,11 +21,10 @@ import ua.foxminded.school.dao.CourseDao;
 import ua.foxminded.school.dao.StudentDao;
 import ua.foxminded.school.domain.model.Course;
 import ua.foxminded.school.domain.model.Student;
-import ua.foxminded.school.util.FileReader;
 import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
 
 class CourseDaoImplTest {
-    private static final String TABLE_TEST_INITIALIZATION_SQL_FILE = "test_tables_initialization.sql";
     private static final int TEST_STUDENT_ID = 1;
 
     private static CourseDao courseDao;
@@ -39,7 +40,7 @@ class CourseDaoImplTest {
     void init() {
         spyDataSource = Mockito.spy(originalDataSource);
         courseDao = new CourseDaoImpl(spyDataSource);
-        createTables(originalDataSource);
+        new SchoolDbInitializer(originalDataSource).reset();
     }
 
     @Test
@@ -113,6 +114,24 @@ class CourseDaoImplTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void streamAllByStudentId_shouldStreamCorrectCourses_whenExample1() {
+        Course first = new Course(1, "Test1", "Test1");
+        Course second = new Course(2, "Test2", "Test2");
+        List<Course> expected = List.of(first, second);
+        courseDao.saveAllBatch(expected);
+
+        StudentDao studentDao = new StudentDaoImpl(originalDataSource);
+        Student student = new Student(1, 0, "FirstName", "LastName");
+        studentDao.save(student);
+        studentDao.assignToCourse(student.getId(), first.getId());
+        studentDao.assignToCourse(student.getId(), second.getId());
+
+        try (Stream<Course> courses = courseDao.streamAllByStudentId(student.getId())) {
+            Assertions.assertEquals(expected, courses.collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void findByName_shouldThrowNullPointerException_whenPassingNull() {
         Assertions.assertThrows(NullPointerException.class, () -> {
@@ -143,13 +162,52 @@ class CourseDaoImplTest {
         Assertions.assertEquals(expected, actual);
     }
 
-    static void createTables(DataSource dataSource) {
-        try (Connection connection = dataSource.getConnection()) {
-            Statement statement = connection.createStatement();
-            String createTablesSql = FileReader.readWholeFileFromResources(TABLE_TEST_INITIALIZATION_SQL_FILE);
-            statement.execute(createTablesSql);
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Test
+    void findAllByStudentIds_shouldGroupCoursesByStudent_whenKeysSpanSeveralChunks() {
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setLookupChunkSize(2);
+        CourseDao chunkedCourseDao = new CourseDaoImpl(spyDataSource, daoConfig);
+        Course first = new Course(0, "Test1", "Test1");
+        Course second = new Course(0, "Test2", "Test2");
+        courseDao.saveAllBatch(List.of(first, second));
+        StudentDao studentDao = new StudentDaoImpl(originalDataSource);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Student student = new Student(0, 0, "FirstName" + i, "LastName" + i);
+            studentDao.save(student);
+            studentDao.assignToCourse(student.getId(), first.getId());
+            if (i % 2 == 0) {
+                studentDao.assignToCourse(student.getId(), second.getId());
+            }
+            students.add(student);
         }
+        List<Integer> studentIds = new ArrayList<>(students.stream().map(Student::getId).toList());
+        studentIds.add(1_000);
+
+        Map<Integer, List<Course>> actual = chunkedCourseDao.findAllByStudentIds(studentIds);
+
+        Assertions.assertEquals(studentIds, new ArrayList<>(actual.keySet()));
+        Assertions.assertEquals(List.of(first, second), actual.get(students.get(0).getId()));
+        Assertions.assertEquals(List.of(first), actual.get(students.get(1).getId()));
+        Assertions.assertEquals(List.of(first, second), actual.get(students.get(4).getId()));
+        Assertions.assertTrue(actual.get(1_000).isEmpty());
+    }
+
+    @Test
+    void findAllByStudentIds_shouldReturnEmptyMap_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        Assertions.assertTrue(courseDao.findAllByStudentIds(List.of(TEST_STUDENT_ID)).isEmpty());
+    }
+
+    @Test
+    void findByNames_shouldReturnOnlyExistingCourses_whenSomeNamesAreUnknown() {
+        Course first = new Course(0, "Test1", "Test1");
+        Course second = new Course(0, "Test2", "Test2");
+        Course third = new Course(0, "Test3", "Test3");
+        courseDao.saveAllBatch(List.of(first, second, third));
+
+        Map<String, Course> actual = courseDao.findByNames(List.of("Test3", "Unknown", "Test1", "Test3"));
+
+        Assertions.assertEquals(Map.of("Test1", first, "Test3", third), actual);
     }
 }
@@ -1,10 +1,11 @@
 package ua.foxminded.school.dao.impl;
 
-import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -18,11 +19,10 @@ import ua.foxminded.school.dao.GroupDao;
 import ua.foxminded.school.dao.StudentDao;
 import ua.foxminded.school.domain.model.Group;
 import ua.foxminded.school.domain.model.Student;
-import ua.foxminded.school.util.FileReader;
 import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
 
 class GroupDaoImplTest {
-    private static final String TABLE_TEST_INITIALIZATION_SQL_FILE = "test_tables_initialization.sql";
     private static final int TEST_STUDENTS_COUNT = 1;
 
     private static GroupDao groupDao;
@@ -38,7 +38,7 @@ class GroupDaoImplTest {
     void init() {
         spyDataSource = Mockito.spy(originalDataSource);
         groupDao = new GroupDaoImpl(spyDataSource);
-        createTables(originalDataSource);
+        new SchoolDbInitializer(originalDataSource).reset();
     }
 
     @Test
@@ -64,6 +64,15 @@ class GroupDaoImplTest {
         Assertions.assertTrue(coursesWasSaved);
     }
 
+    @Test
+    void saveAllBatch_shouldWriteBackGeneratedIds_whenExample1() {
+        Group first = new Group(0, "Name1");
+        Group second = new Group(0, "Name2");
+        groupDao.saveAllBatch(List.of(first, second));
+        Assertions.assertEquals(1, first.getId());
+        Assertions.assertEquals(2, second.getId());
+    }
+
     @Test
     void findAll_shouldReturnEmptyList_whenDBError() throws SQLException {
         Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
@@ -85,6 +94,15 @@ class GroupDaoImplTest {
         Assertions.assertTrue(actual.isEmpty());
     }
 
+    @Test
+    void streamAll_shouldStreamAllGroupsExceptDefault_whenExample1() {
+        List<Group> expected = List.of(new Group(1, "Name1"), new Group(2, "Name2"));
+        groupDao.saveAllBatch(expected);
+        try (Stream<Group> groups = groupDao.streamAll()) {
+            Assertions.assertEquals(expected, groups.collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void findAllByEqualOrLessStudentsCount_shouldReturnEmptyList_whenDBError() throws SQLException {
         Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
@@ -110,13 +128,65 @@ class GroupDaoImplTest {
         Assertions.assertTrue(actual.isEmpty());
     }
 
-    private static void createTables(DataSource dataSource) {
-        try (Connection connection = dataSource.getConnection()) {
-            Statement statement = connection.createStatement();
-            String createTablesSql = FileReader.readWholeFileFromResources(TABLE_TEST_INITIALIZATION_SQL_FILE);
-            statement.execute(createTablesSql);
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Test
+    void findAllByEqualOrLessStudentsCount_shouldExcludeGroup_whenStudentsSavedInBatch() {
+        List<Group> groups = createGroupsWithStudents(1, 3);
+        List<Group> actual = groupDao.findAllByEqualOrLessStudentsCount(2);
+        Assertions.assertEquals(List.of(groups.get(0)), actual);
+    }
+
+    @Test
+    void findAllByEqualOrLessStudentsCount_shouldIncludeGroup_whenStudentDeleted() {
+        Group group = new Group(0, "Name1");
+        groupDao.saveAllBatch(List.of(group));
+        StudentDao studentDao = new StudentDaoImpl(spyDataSource);
+        Student first = new Student(0, group.getId(), "FirstName", "LastName");
+        Student second = new Student(0, group.getId(), "FirstName", "LastName");
+        studentDao.save(first);
+        studentDao.save(second);
+        studentDao.deleteById(first.getId());
+        Assertions.assertEquals(List.of(group), groupDao.findAllByEqualOrLessStudentsCount(TEST_STUDENTS_COUNT));
+    }
+
+    @Test
+    void findAllByStudentsCountBetween_shouldReturnGroupsOrderedByCount_whenCountsInRange() {
+        List<Group> groups = createGroupsWithStudents(4, 1, 2, 0);
+        List<Group> actual = groupDao.findAllByStudentsCountBetween(1, 2);
+        Assertions.assertEquals(List.of(groups.get(1), groups.get(2)), actual);
+    }
+
+    @Test
+    void findLargest_shouldReturnLargestGroupsFirst_whenLimitIsLessThanGroupsCount() {
+        List<Group> groups = createGroupsWithStudents(1, 3, 2);
+        Assertions.assertEquals(List.of(groups.get(1), groups.get(2)), groupDao.findLargest(2));
+    }
+
+    @Test
+    void findSmallest_shouldReturnSmallestGroupsFirst_whenLimitIsLessThanGroupsCount() {
+        List<Group> groups = createGroupsWithStudents(1, 3, 2);
+        Assertions.assertEquals(List.of(groups.get(0), groups.get(2)), groupDao.findSmallest(2));
+    }
+
+    @Test
+    void findLargest_shouldThrowIllegalArgumentException_whenLimitIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            groupDao.findLargest(0);
+        });
+    }
+
+    private List<Group> createGroupsWithStudents(int... studentsCounts) {
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < studentsCounts.length; i++) {
+            groups.add(new Group(0, "Name" + (i + 1)));
+        }
+        groupDao.saveAllBatch(groups);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentsCounts.length; i++) {
+            for (int j = 0; j < studentsCounts[i]; j++) {
+                students.add(new Student(0, groups.get(i).getId(), "FirstName", "LastName"));
+            }
         }
+        new StudentDaoImpl(spyDataSource).saveAllBatch(students);
+        return groups;
     }
 }
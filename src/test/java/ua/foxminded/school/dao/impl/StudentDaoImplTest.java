@@ -2,11 +2,16 @@ package ua.foxminded.school.dao.impl;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -16,15 +21,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import ua.foxminded.school.dao.BulkOperationResult;
 import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.GroupDao;
 import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.impl.DaoConfig.CommitMode;
 import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Enrollment;
+import ua.foxminded.school.domain.model.Group;
 import ua.foxminded.school.domain.model.Student;
-import ua.foxminded.school.util.FileReader;
+import ua.foxminded.school.exception.DaoOperationException;
 import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
 
 class StudentDaoImplTest {
-    private static final String TABLE_TEST_INITIALIZATION_SQL_FILE = "test_tables_initialization.sql";
 
     private static StudentDao studentDao;
     private static DataSource originalDataSource;
@@ -39,7 +49,7 @@ class StudentDaoImplTest {
     void init() {
         spyDataSource = Mockito.spy(originalDataSource);
         studentDao = new StudentDaoImpl(spyDataSource);
-        createTables(originalDataSource);
+        new SchoolDbInitializer(originalDataSource).reset();
     }
 
     @Test
@@ -65,6 +75,150 @@ class StudentDaoImplTest {
         Assertions.assertTrue(studentsWasSaved);
     }
 
+    @Test
+    void saveAllBatch_shouldSaveAllStudents_whenStudentsExceedOneMultiRowStatement() {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            expected.add(new Student(i, 0, "FirstName" + i, "LastName" + i));
+        }
+        boolean studentsWasSaved = studentDao.saveAllBatch(expected);
+        List<Student> actual = studentDao.findAll();
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(studentsWasSaved);
+    }
+
+    @Test
+    void saveAllBatch_shouldWriteBackGeneratedIds_whenSavedInSeveralChunks() {
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setBatchChunkSize(2);
+        daoConfig.setCommitMode(CommitMode.PER_CHUNK);
+        StudentDao chunkedStudentDao = new StudentDaoImpl(spyDataSource, daoConfig);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student(0, 0, "FirstName" + i, "LastName" + i));
+        }
+
+        boolean studentsWasSaved = chunkedStudentDao.saveAllBatch(students);
+
+        List<Integer> expectedIds = List.of(1, 2, 3, 4, 5);
+        List<Integer> actualIds = students.stream().map(Student::getId).toList();
+        Assertions.assertTrue(studentsWasSaved);
+        Assertions.assertEquals(expectedIds, actualIds);
+        Assertions.assertEquals(students, studentDao.findAll());
+    }
+
+    @Test
+    void saveAllBatch_shouldSaveAllStudentsThroughStagingTable_whenParallelismGreaterThanOne() {
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createAllOrNothingParallelDaoConfig());
+        List<Student> students = createTestStudents(1_000, 0);
+        students.forEach(student -> student.setId(0));
+
+        boolean studentsWasSaved = parallelStudentDao.saveAllBatch(students);
+
+        Assertions.assertTrue(studentsWasSaved);
+        Assertions.assertEquals(1_000, students.stream().map(Student::getId).distinct().count());
+        Assertions.assertEquals(new HashSet<>(students), new HashSet<>(studentDao.findAll()));
+    }
+
+    @Test
+    void saveAllBatch_shouldUpdateGroupStudentsCount_whenParallelInsertIsAllOrNothing() {
+        GroupDao groupDao = new GroupDaoImpl(spyDataSource);
+        Group group = new Group(0, "Name");
+        groupDao.saveAllBatch(List.of(group));
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createAllOrNothingParallelDaoConfig());
+
+        parallelStudentDao.saveAllBatch(createTestStudents(200, group.getId()));
+
+        Assertions.assertEquals(List.of(group), groupDao.findAllByStudentsCountBetween(200, 200));
+    }
+
+    @Test
+    void saveAllBatch_shouldUpdateGroupStudentsCount_whenParallelismGreaterThanOne() {
+        GroupDao groupDao = new GroupDaoImpl(spyDataSource);
+        Group group = new Group(0, "Name");
+        groupDao.saveAllBatch(List.of(group));
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createParallelDaoConfig());
+
+        parallelStudentDao.saveAllBatch(createTestStudents(200, group.getId()));
+
+        Assertions.assertEquals(List.of(group), groupDao.findAllByStudentsCountBetween(200, 200));
+    }
+
+    @Test
+    void findAllByCourseNames_shouldGroupStudentsByCourseName_whenSeveralCoursesRequested() {
+        List<Student> students = createTestStudents(3, 0);
+        studentDao.saveAllBatch(students);
+        Course math = new Course(0, "Math", "Descr");
+        Course history = new Course(0, "History", "Descr");
+        new CourseDaoImpl(spyDataSource).saveAllBatch(List.of(math, history));
+        studentDao.assignToCoursesBatch(Map.of(students.get(0), List.of(math, history), students.get(2), List.of(math)));
+
+        Map<String, List<Student>> actual = studentDao.findAllByCourseNames(List.of("Math", "History", "Art"));
+
+        Assertions.assertEquals(List.of("Math", "History", "Art"), new ArrayList<>(actual.keySet()));
+        Assertions.assertEquals(List.of(students.get(0), students.get(2)), actual.get("Math"));
+        Assertions.assertEquals(List.of(students.get(0)), actual.get("History"));
+        Assertions.assertTrue(actual.get("Art").isEmpty());
+    }
+
+    @Test
+    void saveAllBatch_shouldSaveNothingAndReturnFalse_whenOnePartitionFailsInAllOrNothingMode() {
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createAllOrNothingParallelDaoConfig());
+        List<Student> students = createTestStudents(100, 0);
+        students.get(99).setFirstName(null);
+
+        boolean studentsWasSaved = parallelStudentDao.saveAllBatch(students);
+
+        Assertions.assertFalse(studentsWasSaved);
+        Assertions.assertTrue(studentDao.findAll().isEmpty());
+    }
+
+    @Test
+    void saveAllBatch_shouldKeepSuccessfulPartitions_whenOnePartitionFailsInPerChunkMode() {
+        DaoConfig daoConfig = createParallelDaoConfig();
+        daoConfig.setCommitMode(CommitMode.PER_CHUNK);
+        daoConfig.setBatchChunkSize(1_000);
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, daoConfig);
+        List<Student> students = createTestStudents(100, 0);
+        students.get(99).setFirstName(null);
+
+        boolean studentsWasSaved = parallelStudentDao.saveAllBatch(students);
+
+        Assertions.assertFalse(studentsWasSaved);
+        Assertions.assertEquals(75, studentDao.findAll().size());
+    }
+
+    @Test
+    void assignToCoursesBatch_shouldAssignAllStudents_whenParallelismGreaterThanOne() {
+        List<Student> students = createTestStudents(50, 0);
+        studentDao.saveAllBatch(students);
+        Course course = new Course(1, "Name", "Descr");
+        new CourseDaoImpl(spyDataSource).saveAllBatch(List.of(course));
+        Map<Student, List<Course>> studentsCourses = new HashMap<>();
+        students.forEach(student -> studentsCourses.put(student, List.of(course)));
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createAllOrNothingParallelDaoConfig());
+
+        boolean studentsWasAssigned = parallelStudentDao.assignToCoursesBatch(studentsCourses);
+
+        Assertions.assertTrue(studentsWasAssigned);
+        Assertions.assertEquals(new HashSet<>(students),
+                new HashSet<>(studentDao.findAllByCourseName(course.getName())));
+    }
+
+    @Test
+    void assignToCoursesBatch_shouldAssignAllStudents_whenPartitionsReceiveManyChunksInPerChunkMode() {
+        Map<Student, List<Course>> studentsCourses = createStudentsCourses(1_000);
+        DaoConfig daoConfig = createParallelDaoConfig();
+        daoConfig.setCommitMode(CommitMode.PER_CHUNK);
+        daoConfig.setBatchChunkSize(10);
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, daoConfig);
+
+        boolean studentsWereAssigned = parallelStudentDao.assignToCoursesBatch(studentsCourses);
+
+        Assertions.assertTrue(studentsWereAssigned);
+        Assertions.assertEquals(2_000, studentDao.streamAllEnrollments().count());
+    }
+
     @Test
     void assignToCoursesBatch_shouldThrowNullPointerException_whenPassingNull() {
         Assertions.assertThrows(NullPointerException.class, () -> {
@@ -97,6 +251,49 @@ class StudentDaoImplTest {
         Assertions.assertTrue(studentsWasAssigned);
     }
 
+    @Test
+    void assignToCoursesBatch_shouldSkipExistingEnrollmentsAndReturnTrue_whenPairsAlreadyAssigned() {
+        Map<Student, List<Course>> studentsCourses = createStudentsCourses(3);
+        studentDao.assignToCoursesBatch(studentsCourses);
+
+        boolean studentsWereAssigned = studentDao.assignToCoursesBatch(studentsCourses);
+
+        Assertions.assertTrue(studentsWereAssigned);
+        Assertions.assertEquals(6, studentDao.streamAllEnrollments().count());
+    }
+
+    @Test
+    void assignToCoursesBatch_shouldSkipExistingEnrollments_whenParallelismGreaterThanOne() {
+        Map<Student, List<Course>> studentsCourses = createStudentsCourses(3);
+        StudentDao parallelStudentDao = new StudentDaoImpl(spyDataSource, createParallelDaoConfig());
+        parallelStudentDao.assignToCoursesBatch(studentsCourses);
+
+        boolean studentsWereAssigned = parallelStudentDao.assignToCoursesBatch(studentsCourses);
+
+        Assertions.assertTrue(studentsWereAssigned);
+        Assertions.assertEquals(6, studentDao.streamAllEnrollments().count());
+    }
+
+    @Test
+    void assignAllToCourses_shouldReturnNewlyInsertedCount_whenSomePairsAlreadyAssigned() {
+        createStudentsCourses(2);
+        studentDao.assignToCourse(1, 1);
+        StudentDao chunkedStudentDao = new StudentDaoImpl(spyDataSource, createChunkedDaoConfig(2));
+
+        OptionalInt insertedCount = chunkedStudentDao.assignAllToCourses(List.of(new Enrollment(1, 1),
+                new Enrollment(1, 2), new Enrollment(1, 2), new Enrollment(2, 1), new Enrollment(1, 1)));
+
+        Assertions.assertEquals(OptionalInt.of(2), insertedCount);
+        Assertions.assertEquals(Set.of(new Enrollment(1, 1), new Enrollment(1, 2), new Enrollment(2, 1)),
+                studentDao.streamAllEnrollments().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void assignAllToCourses_shouldReturnEmpty_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        Assertions.assertEquals(OptionalInt.empty(), studentDao.assignAllToCourses(List.of(new Enrollment(1, 1))));
+    }
+
     @Test
     void findAllByCourseName_shouldThrowNullPointerException_whenPassingNull() {
         Assertions.assertThrows(NullPointerException.class, () -> {
@@ -205,6 +402,110 @@ class StudentDaoImplTest {
         List<Student> actual = studentDao.findAll();
         Assertions.assertTrue(actual.isEmpty());
     }
+    @Test
+    void streamAll_shouldThrowDaoOperationException_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        Assertions.assertThrows(DaoOperationException.class, () -> {
+            studentDao.streamAll();
+        });
+    }
+
+    @Test
+    void streamAll_shouldStreamAllStudents_whenFetchSizeSmallerThanRowsCount() {
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setFetchSize(2);
+        StudentDao streamingStudentDao = new StudentDaoImpl(spyDataSource, daoConfig);
+        List<Student> expected = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            expected.add(new Student(i, 0, "FirstName" + i, "LastName" + i));
+        }
+        streamingStudentDao.saveAllBatch(expected);
+
+        try (Stream<Student> students = streamingStudentDao.streamAll()) {
+            Assertions.assertEquals(expected, students.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void streamAll_shouldCloseConnection_whenStreamClosedBeforeExhausted() throws SQLException {
+        studentDao.saveAllBatch(List.of(new Student(1, 0, "FirstName1", "LastName1"),
+                new Student(2, 0, "FirstName2", "LastName2")));
+        Connection spyConnection = Mockito.spy(originalDataSource.getConnection());
+        Mockito.doReturn(spyConnection).when(spyDataSource).getConnection();
+
+        try (Stream<Student> students = studentDao.streamAll()) {
+            Assertions.assertTrue(students.findFirst().isPresent());
+        }
+        Mockito.verify(spyConnection).setAutoCommit(true);
+        Mockito.verify(spyConnection).close();
+    }
+
+    @Test
+    void streamAllByCourseName_shouldStreamCorrectStudents_whenExample1() {
+        Student student = new Student(1, 0, "FirstName", "LastName");
+        studentDao.save(student);
+        Course course = new Course(1, "Name", "Descr");
+        CourseDao courseDao = new CourseDaoImpl(spyDataSource);
+        courseDao.saveAllBatch(List.of(course));
+        studentDao.assignToCourse(student.getId(), course.getId());
+
+        try (Stream<Student> students = studentDao.streamAllByCourseName(course.getName())) {
+            Assertions.assertEquals(List.of(student), students.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void findPage_shouldThrowIllegalArgumentException_whenLimitIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            studentDao.findPage(0, 0);
+        });
+    }
+
+    @Test
+    void findPage_shouldReturnEmptyList_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        List<Student> actual = studentDao.findPage(0, 10);
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void findPage_shouldReturnStudentsAfterGivenId_whenExample1() {
+        List<Student> students = createTestStudents(5, 0);
+        studentDao.saveAllBatch(students);
+
+        Assertions.assertEquals(students.subList(0, 2), studentDao.findPage(0, 2));
+        Assertions.assertEquals(students.subList(2, 4), studentDao.findPage(2, 2));
+        Assertions.assertEquals(students.subList(4, 5), studentDao.findPage(4, 2));
+        Assertions.assertTrue(studentDao.findPage(5, 2).isEmpty());
+    }
+
+    @Test
+    void findPageByGroupId_shouldReturnOnlyStudentsOfGivenGroup_whenExample1() {
+        new GroupDaoImpl(spyDataSource).saveAllBatch(List.of(new Group(1, "Name1")));
+        Student first = new Student(0, 1, "FirstName1", "LastName1");
+        Student second = new Student(0, 0, "FirstName2", "LastName2");
+        Student third = new Student(0, 1, "FirstName3", "LastName3");
+        studentDao.saveAllBatch(List.of(first, second, third));
+
+        Assertions.assertEquals(List.of(first), studentDao.findPageByGroupId(1, 0, 1));
+        Assertions.assertEquals(List.of(third), studentDao.findPageByGroupId(1, first.getId(), 1));
+    }
+
+    @Test
+    void findPageByCourseId_shouldReturnOnlyStudentsOfGivenCourse_whenExample1() {
+        List<Student> students = createTestStudents(3, 0);
+        studentDao.saveAllBatch(students);
+        Course course = new Course(1, "Name", "Descr");
+        new CourseDaoImpl(spyDataSource).saveAllBatch(List.of(course));
+        studentDao.assignToCourse(students.get(0).getId(), course.getId());
+        studentDao.assignToCourse(students.get(2).getId(), course.getId());
+
+        Assertions.assertEquals(List.of(students.get(0), students.get(2)),
+                studentDao.findPageByCourseId(course.getId(), 0, 10));
+        Assertions.assertEquals(List.of(students.get(2)),
+                studentDao.findPageByCourseId(course.getId(), students.get(0).getId(), 10));
+    }
+
     @Test
     void assignToCourse_shouldReturnFalse_whenDBError() throws SQLException {
         Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
@@ -281,13 +582,101 @@ class StudentDaoImplTest {
         Assertions.assertFalse(studentWasDeletedFromCourse);
     }
 
-    private static void createTables(DataSource dataSource) {
-        try (Connection connection = dataSource.getConnection()) {
-            Statement statement = connection.createStatement();
-            String createTablesSql = FileReader.readWholeFileFromResources(TABLE_TEST_INITIALIZATION_SQL_FILE);
-            statement.execute(createTablesSql);
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Test
+    void deleteByIds_shouldReportDeletedAndMissingIds_whenSeveralChunks() {
+        GroupDao groupDao = new GroupDaoImpl(spyDataSource);
+        Group group = new Group(0, "Name");
+        groupDao.saveAllBatch(List.of(group));
+        studentDao.saveAllBatch(createTestStudents(10, group.getId()));
+        StudentDao chunkedStudentDao = new StudentDaoImpl(spyDataSource, createChunkedDaoConfig(3));
+
+        BulkOperationResult<Integer> result = chunkedStudentDao.deleteByIds(List.of(2, 4, 4, 6, 8, 777, 10, 778));
+
+        Assertions.assertEquals(Set.of(2, 4, 6, 8, 10), result.getSucceeded());
+        Assertions.assertEquals(Set.of(777, 778), result.getNotFound());
+        Assertions.assertFalse(result.hasFailures());
+        Assertions.assertEquals(List.of(1, 3, 5, 7, 9),
+                studentDao.findAll().stream().map(Student::getId).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(group), groupDao.findAllByStudentsCountBetween(5, 5));
+    }
+
+    @Test
+    void deleteByIds_shouldReportAllIdsAsFailed_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        BulkOperationResult<Integer> result = studentDao.deleteByIds(List.of(1, 2));
+        Assertions.assertEquals(Set.of(1, 2), result.getFailed());
+        Assertions.assertTrue(result.getSucceeded().isEmpty());
+    }
+
+    @Test
+    void deleteFromCourses_shouldReportDeletedAndMissingEnrollments_whenSeveralChunks() {
+        studentDao.assignToCoursesBatch(createStudentsCourses(3));
+        StudentDao chunkedStudentDao = new StudentDaoImpl(spyDataSource, createChunkedDaoConfig(2));
+
+        BulkOperationResult<Enrollment> result = chunkedStudentDao.deleteFromCourses(
+                List.of(new Enrollment(1, 1), new Enrollment(2, 2), new Enrollment(3, 1), new Enrollment(3, 777)));
+
+        Assertions.assertEquals(Set.of(new Enrollment(1, 1), new Enrollment(2, 2), new Enrollment(3, 1)),
+                result.getSucceeded());
+        Assertions.assertEquals(Set.of(new Enrollment(3, 777)), result.getNotFound());
+        Assertions.assertEquals(Set.of(new Enrollment(1, 2), new Enrollment(2, 1), new Enrollment(3, 2)),
+                studentDao.streamAllEnrollments().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void deleteAllFromCourse_shouldUnenrollEveryStudent_whenStudentsExceedOneChunk() {
+        studentDao.assignToCoursesBatch(createStudentsCourses(7));
+        StudentDao chunkedStudentDao = new StudentDaoImpl(spyDataSource, createChunkedDaoConfig(3));
+
+        BulkOperationResult<Integer> result = chunkedStudentDao.deleteAllFromCourse(1);
+
+        Assertions.assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7), result.getSucceeded());
+        Assertions.assertTrue(result.isComplete());
+        Assertions.assertTrue(studentDao.findAllByCourseName("Math").isEmpty());
+        Assertions.assertEquals(7, studentDao.findAllByCourseName("Art").size());
+    }
+
+    @Test
+    void deleteAllFromCourse_shouldReturnAbortedResult_whenDBError() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        BulkOperationResult<Integer> result = studentDao.deleteAllFromCourse(1);
+        Assertions.assertTrue(result.isAborted());
+    }
+
+    private Map<Student, List<Course>> createStudentsCourses(int studentsCount) {
+        List<Student> students = createTestStudents(studentsCount, 0);
+        studentDao.saveAllBatch(students);
+        List<Course> courses = List.of(new Course(1, "Math", "Descr"), new Course(2, "Art", "Descr"));
+        new CourseDaoImpl(spyDataSource).saveAllBatch(courses);
+        Map<Student, List<Course>> studentsCourses = new HashMap<>();
+        students.forEach(student -> studentsCourses.put(student, courses));
+        return studentsCourses;
+    }
+
+    private DaoConfig createChunkedDaoConfig(int chunkSize) {
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setBatchChunkSize(chunkSize);
+        return daoConfig;
+    }
+
+    private DaoConfig createParallelDaoConfig() {
+        DaoConfig daoConfig = new DaoConfig();
+        daoConfig.setParallelism(4);
+        daoConfig.setBatchChunkSize(100);
+        return daoConfig;
+    }
+
+    private DaoConfig createAllOrNothingParallelDaoConfig() {
+        DaoConfig daoConfig = createParallelDaoConfig();
+        daoConfig.setParallelAllOrNothing(true);
+        return daoConfig;
+    }
+
+    private List<Student> createTestStudents(int count, int groupId) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            students.add(new Student(i, groupId, "FirstName" + i, "LastName" + i));
         }
+        return students;
     }
 }
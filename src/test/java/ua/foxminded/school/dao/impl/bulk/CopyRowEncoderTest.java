@@ -0,0 +1,82 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.postgresql.copy.CopyIn;
+
+class CopyRowEncoderTest {
+    private ByteArrayOutputStream copyData;
+    private CopyIn copyIn;
+    private CopyRowEncoder encoder;
+
+    @BeforeEach
+    void init() throws SQLException {
+        copyData = new ByteArrayOutputStream();
+        copyIn = Mockito.mock(CopyIn.class);
+        Mockito.doAnswer(invocation -> {
+            byte[] buffer = invocation.getArgument(0);
+            copyData.write(buffer, invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt());
+        encoder = new CopyRowEncoder(copyIn);
+    }
+
+    @Test
+    void finish_shouldWriteTabSeparatedRows_whenExample1() throws SQLException {
+        encoder.writeInt(-120);
+        encoder.writeText("First");
+        encoder.endRow();
+        encoder.writeInt(Integer.MIN_VALUE);
+        encoder.writeText("Last");
+        encoder.endRow();
+        encoder.finish();
+
+        Assertions.assertEquals("-120\tFirst\n-2147483648\tLast\n", readCopyData());
+        Mockito.verify(copyIn).endCopy();
+    }
+
+    @Test
+    void finish_shouldEscapeSpecialCharacters_whenTextContainsDelimiters() throws SQLException {
+        encoder.writeText("a\tb\nc\\d\re");
+        encoder.endRow();
+        encoder.finish();
+
+        Assertions.assertEquals("a\\tb\\nc\\\\d\\re\n", readCopyData());
+    }
+
+    @Test
+    void finish_shouldEncodeUtf8_whenTextContainsNonAsciiCharacters() throws SQLException {
+        String text = "Ärger Олег 😀";
+        encoder.writeText(text);
+        encoder.endRow();
+        encoder.finish();
+
+        Assertions.assertEquals(text + "\n", readCopyData());
+    }
+
+    @Test
+    void finish_shouldFlushAllRows_whenDataExceedsBuffer() throws SQLException {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            encoder.writeInt(i);
+            encoder.writeText("Name");
+            encoder.endRow();
+            expected.append(i).append("\tName\n");
+        }
+        encoder.finish();
+
+        Assertions.assertEquals(expected.toString(), readCopyData());
+    }
+
+    private String readCopyData() {
+        return new String(copyData.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
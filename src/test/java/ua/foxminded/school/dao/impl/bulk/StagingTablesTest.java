@@ -0,0 +1,79 @@
+package ua.foxminded.school.dao.impl.bulk;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class StagingTablesTest {
+    private static final String LEFTOVER_STUDENTS_STAGING_TABLE = "students_staging_0123456789abcdef0123456789abcdef";
+    private static final String LEFTOVER_ENROLLMENTS_STAGING_TABLE = "students_courses_staging_fedcba9876543210fedcba9876543210";
+    private static final String UNRELATED_TABLE = "students_staging_backup";
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE %s (id INT NOT NULL);";
+    private static final String DROP_TABLE_SQL = "DROP TABLE IF EXISTS %s;";
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        executeUpdate(String.format(DROP_TABLE_SQL, UNRELATED_TABLE));
+    }
+
+    @Test
+    void dropLeftovers_shouldDropOnlyStagingTables_whenPreviousInsertWasInterrupted() throws SQLException {
+        executeUpdate(String.format(CREATE_TABLE_SQL, LEFTOVER_STUDENTS_STAGING_TABLE));
+        executeUpdate(String.format(CREATE_TABLE_SQL, LEFTOVER_ENROLLMENTS_STAGING_TABLE));
+        executeUpdate(String.format(CREATE_TABLE_SQL, UNRELATED_TABLE));
+
+        try (Connection connection = dataSource.getConnection()) {
+            Assertions.assertEquals(2, StagingTables.dropLeftovers(connection));
+        }
+
+        Assertions.assertFalse(tableExists(LEFTOVER_STUDENTS_STAGING_TABLE));
+        Assertions.assertFalse(tableExists(LEFTOVER_ENROLLMENTS_STAGING_TABLE));
+        Assertions.assertTrue(tableExists(UNRELATED_TABLE));
+    }
+
+    @Test
+    void init_shouldDropLeftoverStagingTables_whenDatabaseIsInitialized() throws SQLException {
+        executeUpdate(String.format(CREATE_TABLE_SQL, LEFTOVER_STUDENTS_STAGING_TABLE));
+
+        new SchoolDbInitializer(dataSource).init();
+
+        Assertions.assertFalse(tableExists(LEFTOVER_STUDENTS_STAGING_TABLE));
+    }
+
+    private boolean tableExists(String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                ResultSet tables = connection.getMetaData().getTables(null, null, tableName.toUpperCase(), null)) {
+            return tables.next();
+        }
+    }
+
+    private void executeUpdate(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+}
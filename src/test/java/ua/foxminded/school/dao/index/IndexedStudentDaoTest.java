@@ -0,0 +1,136 @@
+package ua.foxminded.school.dao.index;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.cache.CacheConfig;
+import ua.foxminded.school.dao.cache.CachingCourseDao;
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class IndexedStudentDaoTest {
+
+    private static DataSource originalDataSource;
+
+    private DataSource spyDataSource;
+    private EnrollmentIndex enrollmentIndex;
+    private StudentDao studentDao;
+    private CourseDao courseDao;
+    private Course math;
+    private Course history;
+    private Student first;
+    private Student second;
+
+    @BeforeAll
+    static void setup() {
+        originalDataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(originalDataSource).reset();
+        spyDataSource = Mockito.spy(originalDataSource);
+        StudentDao studentDaoImpl = new StudentDaoImpl(spyDataSource);
+        CourseDao cachingCourseDao = new CachingCourseDao(new CourseDaoImpl(spyDataSource), new CacheConfig());
+        math = new Course(0, "Math", "Math course");
+        history = new Course(0, "History", "History course");
+        cachingCourseDao.saveAllBatch(List.of(math, history));
+        first = new Student(0, 0, "First", "Student");
+        second = new Student(0, 0, "Second", "Student");
+        studentDaoImpl.saveAllBatch(List.of(first, second));
+        studentDaoImpl.assignToCoursesBatch(Map.of(first, List.of(math, history), second, List.of(math)));
+
+        enrollmentIndex = new EnrollmentIndex();
+        enrollmentIndex.load(studentDaoImpl);
+        studentDao = new IndexedStudentDao(studentDaoImpl, cachingCourseDao, enrollmentIndex);
+        courseDao = new IndexedCourseDao(cachingCourseDao, enrollmentIndex);
+        courseDao.findAll();
+        courseDao.findByName(math.getName());
+    }
+
+    @Test
+    void findAllByCourseName_shouldAnswerFromIndexWithoutDatabase_whenIndexLoaded() throws SQLException {
+        Mockito.clearInvocations(spyDataSource);
+        Assertions.assertEquals(List.of(first, second), studentDao.findAllByCourseName(math.getName()));
+        Assertions.assertEquals(List.of(math, history), courseDao.findAllByStudentId(first.getId()));
+        Mockito.verify(spyDataSource, Mockito.never()).getConnection();
+    }
+
+    @Test
+    void findPageByCourseId_shouldAnswerFromIndexWithoutDatabase_whenIndexLoaded() throws SQLException {
+        Mockito.clearInvocations(spyDataSource);
+        Assertions.assertEquals(List.of(first), studentDao.findPageByCourseId(math.getId(), 0, 1));
+        Assertions.assertEquals(List.of(second), studentDao.findPageByCourseId(math.getId(), first.getId(), 5));
+        Assertions.assertTrue(studentDao.findPageByCourseId(math.getId(), second.getId(), 5).isEmpty());
+        Mockito.verify(spyDataSource, Mockito.never()).getConnection();
+    }
+
+    @Test
+    void deleteFromCourse_shouldRemoveEnrollmentFromIndex_whenDeletedInDatabase() {
+        studentDao.deleteFromCourse(second.getId(), math.getId());
+        Assertions.assertEquals(List.of(first), studentDao.findAllByCourseName(math.getName()));
+        Assertions.assertTrue(courseDao.findAllByStudentId(second.getId()).isEmpty());
+    }
+
+    @Test
+    void deleteById_shouldRemoveStudentFromBothAdjacencies_whenDeletedInDatabase() {
+        studentDao.deleteById(first.getId());
+        Assertions.assertEquals(List.of(second), studentDao.findAllByCourseName(math.getName()));
+        Assertions.assertTrue(studentDao.findAllByCourseName(history.getName()).isEmpty());
+        Assertions.assertTrue(courseDao.findAllByStudentId(first.getId()).isEmpty());
+    }
+
+    @Test
+    void deleteAllFromCourse_shouldRemoveOnlyDeletedEnrollmentsFromIndex_whenDeletedInDatabase() {
+        studentDao.deleteAllFromCourse(math.getId());
+        Assertions.assertTrue(studentDao.findAllByCourseName(math.getName()).isEmpty());
+        Assertions.assertEquals(List.of(history), courseDao.findAllByStudentId(first.getId()));
+    }
+
+    @Test
+    void assignToCourse_shouldAddStudentToIndex_whenNewStudentSaved() {
+        Student third = new Student(0, 0, "Third", "Student");
+        studentDao.save(third);
+        studentDao.assignToCourse(third.getId(), history.getId());
+        Assertions.assertEquals(List.of(first, third), studentDao.findAllByCourseName(history.getName()));
+    }
+
+    @Test
+    void findAllByCourseName_shouldQueryDatabase_whenBatchWriteFailed() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        Assertions.assertFalse(studentDao.saveAllBatch(List.of(new Student(0, 0, "Third", "Student"))));
+        Mockito.doCallRealMethod().when(spyDataSource).getConnection();
+        Assertions.assertEquals(2, studentDao.findAllByCourseName(math.getName()).size());
+    }
+
+    @Test
+    void reloadInBackground_shouldRestoreIndex_whenDatabaseRecoveredAfterFailedWrite() throws SQLException {
+        Mockito.doThrow(new SQLException("Mock testing Exception")).when(spyDataSource).getConnection();
+        Assertions.assertFalse(studentDao.saveAllBatch(List.of(new Student(0, 0, "Third", "Student"))));
+        enrollmentIndex.reloadInBackground().exceptionally(e -> null).join();
+        Mockito.doCallRealMethod().when(spyDataSource).getConnection();
+        studentDao.assignToCourse(second.getId(), history.getId());
+
+        enrollmentIndex.reloadInBackground().join();
+
+        Assertions.assertTrue(enrollmentIndex.isLoaded());
+        Mockito.clearInvocations(spyDataSource);
+        Assertions.assertEquals(List.of(math, history), courseDao.findAllByStudentId(second.getId()));
+        Mockito.verify(spyDataSource, Mockito.never()).getConnection();
+    }
+}
@@ -0,0 +1,54 @@
+package ua.foxminded.school.dao.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class IntObjectMapTest {
+    private static final int TEST_OPERATIONS_COUNT = 100_000;
+    private static final int TEST_KEYS_RANGE = 5_000;
+
+    @Test
+    void put_shouldBehaveLikeHashMap_whenRandomPutsAndRemovesApplied() {
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < TEST_OPERATIONS_COUNT; i++) {
+            int key = random.nextInt(TEST_KEYS_RANGE) - TEST_KEYS_RANGE / 2;
+            if (random.nextBoolean()) {
+                Assertions.assertEquals(expected.put(key, i), map.put(key, i));
+            } else {
+                Assertions.assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.size());
+        for (int key = -TEST_KEYS_RANGE / 2; key < TEST_KEYS_RANGE / 2; key++) {
+            Assertions.assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void clear_shouldRemoveAllEntries_whenMapIsNotEmpty() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(1, "one");
+        map.put(17, "seventeen");
+        map.clear();
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertNull(map.get(17));
+    }
+
+    @Test
+    void add_shouldKeepSetSortedWithoutDuplicates_whenValuesAddedOutOfOrder() {
+        int[] set = null;
+        for (int value : new int[] { 5, 1, 9, 5, 3, 7, 1 }) {
+            set = IntSets.add(set, value);
+        }
+        Assertions.assertArrayEquals(new int[] { 1, 3, 5, 7, 9 }, IntSets.toArray(set));
+        Assertions.assertTrue(IntSets.remove(set, 5));
+        Assertions.assertFalse(IntSets.remove(set, 5));
+        Assertions.assertArrayEquals(new int[] { 1, 3, 7, 9 }, IntSets.toArray(set));
+    }
+}
@@ -0,0 +1,93 @@
+package ua.foxminded.school.dao.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import ua.foxminded.school.dao.CourseDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.exception.DaoOperationException;
+
+class DaoInstrumentationTest {
+    private static final Course TEST_COURSE = new Course(1, "Name", "Descr");
+
+    private CourseDao courseDao;
+    private DaoMetrics daoMetrics;
+    private CourseDao instrumentedCourseDao;
+
+    @BeforeEach
+    void init() {
+        courseDao = Mockito.mock(CourseDao.class);
+        daoMetrics = new DaoMetrics();
+        instrumentedCourseDao = DaoInstrumentation.instrument(CourseDao.class, courseDao, daoMetrics);
+    }
+
+    @Test
+    void instrument_shouldRecordCallsAndRows_whenListReturned() {
+        Mockito.when(courseDao.findAll()).thenReturn(List.of(TEST_COURSE, TEST_COURSE));
+        instrumentedCourseDao.findAll();
+        instrumentedCourseDao.findAll();
+
+        OperationStatistics statistics = findStatistics("CourseDao.findAll");
+        Assertions.assertEquals(2, statistics.getCallCount());
+        Assertions.assertEquals(4, statistics.getRowCount());
+        Assertions.assertEquals(0, statistics.getErrorCount());
+    }
+
+    @Test
+    void instrument_shouldRecordError_whenFailedOperationReturned() {
+        Mockito.when(courseDao.saveAllBatch(List.of())).thenReturn(false);
+        Assertions.assertFalse(instrumentedCourseDao.saveAllBatch(List.of()));
+        Assertions.assertEquals(1, findStatistics("CourseDao.saveAllBatch").getErrorCount());
+    }
+
+    @Test
+    void instrument_shouldNotRecordError_whenStudentAlreadyAssignedToCourse() {
+        StudentDao studentDao = Mockito.mock(StudentDao.class);
+        StudentDao instrumentedStudentDao = DaoInstrumentation.instrument(StudentDao.class, studentDao, daoMetrics);
+        Mockito.when(studentDao.assignToCourse(1, 1)).thenReturn(false);
+        Assertions.assertFalse(instrumentedStudentDao.assignToCourse(1, 1));
+        OperationStatistics statistics = findStatistics("StudentDao.assignToCourse");
+        Assertions.assertEquals(1, statistics.getCallCount());
+        Assertions.assertEquals(0, statistics.getErrorCount());
+    }
+
+    @Test
+    void instrument_shouldRecordErrorAndRethrow_whenDaoThrows() {
+        Mockito.when(courseDao.streamAllByStudentId(1)).thenThrow(new DaoOperationException("Mock testing Exception"));
+        Assertions.assertThrows(DaoOperationException.class, () -> {
+            instrumentedCourseDao.streamAllByStudentId(1);
+        });
+        Assertions.assertEquals(1, findStatistics("CourseDao.streamAllByStudentId").getErrorCount());
+    }
+
+    @Test
+    void instrument_shouldCountStreamedRows_whenStreamConsumed() {
+        Mockito.when(courseDao.streamAllByStudentId(1)).thenReturn(Stream.of(TEST_COURSE, TEST_COURSE));
+        try (Stream<Course> courses = instrumentedCourseDao.streamAllByStudentId(1)) {
+            Assertions.assertEquals(2, courses.count());
+        }
+        Assertions.assertEquals(2, findStatistics("CourseDao.streamAllByStudentId").getRowCount());
+    }
+
+    @Test
+    void reset_shouldClearRecordedStatistics_whenOperationsWereCalled() {
+        Mockito.when(courseDao.findByName("Name")).thenReturn(Optional.of(TEST_COURSE));
+        instrumentedCourseDao.findByName("Name");
+        daoMetrics.reset();
+        OperationStatistics statistics = findStatistics("CourseDao.findByName");
+        Assertions.assertEquals(0, statistics.getCallCount());
+        Assertions.assertEquals(0, statistics.getRowCount());
+    }
+
+    private OperationStatistics findStatistics(String operationName) {
+        return daoMetrics.getStatistics().stream()
+                .filter(statistics -> statistics.getOperationName().equals(operationName)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package ua.foxminded.school.dao.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 16;
+
+    @Test
+    void upperBoundOf_shouldContainValue_whenValueMappedToBucket() {
+        long[] values = { 0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE };
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            Assertions.assertTrue(LatencyHistogram.upperBoundOf(index) >= value);
+            Assertions.assertTrue(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value);
+        }
+    }
+
+    @Test
+    void getPercentileNanos_shouldReturnValueWithinBucketError_whenUniformValuesRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        assertWithinBucketError(5_000_000, histogram.getPercentileNanos(50));
+        assertWithinBucketError(9_500_000, histogram.getPercentileNanos(95));
+        assertWithinBucketError(9_900_000, histogram.getPercentileNanos(99));
+        Assertions.assertEquals(10_000_000, histogram.getMaxNanos());
+        Assertions.assertEquals(10_000, histogram.getCount());
+    }
+
+    @Test
+    void reset_shouldClearAllValues_whenValuesRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getPercentileNanos(99));
+        Assertions.assertEquals(0, histogram.getMaxNanos());
+    }
+
+    private void assertWithinBucketError(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(actual - expected) <= expected * MAX_RELATIVE_ERROR,
+                String.format("Expected %d but was %d", expected, actual));
+    }
+}
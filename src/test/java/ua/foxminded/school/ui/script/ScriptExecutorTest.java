@@ -0,0 +1,105 @@
+package ua.foxminded.school.ui.script;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Course;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class ScriptExecutorTest {
+
+    private static DataSource dataSource;
+
+    private StudentDao studentDao;
+    private ScriptExecutor scriptExecutor;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+        studentDao = new StudentDaoImpl(dataSource);
+        CourseDaoImpl courseDao = new CourseDaoImpl(dataSource);
+        courseDao.saveAllBatch(List.of(new Course(0, "Math", "Math course"), new Course(0, "Art", "Art course")));
+        scriptExecutor = new ScriptExecutor(studentDao, courseDao, new GroupDaoImpl(dataSource));
+    }
+
+    @Test
+    void execute_shouldGroupConsecutiveWritesIntoBatches_whenScriptMixesWritesAndReads() throws IOException {
+        String script = String.join("\n", "# new students", "add-student Ann Smith", "add-student Bob Brown", "",
+                "enroll 1 1", "enroll-all 2:1 2:2", "find-students Math", "delete-student 2", "delete-student 777");
+        StringWriter output = new StringWriter();
+
+        ScriptReport report = scriptExecutor.execute(new BufferedReader(new StringReader(script)), output);
+
+        List<String> expected = List.of("2\tadd-student\tok\t1", "3\tadd-student\tok\t2", "5\tenroll\tok",
+                "6\tenroll-all\tok", "7\tfind-students\trow\t1\t0\tAnn\tSmith",
+                "7\tfind-students\trow\t2\t0\tBob\tBrown", "7\tfind-students\tok\t2",
+                "8\tdelete-student\tok\t1\t0\t0", "9\tdelete-student\tnot_found\t0\t1\t0");
+        Assertions.assertEquals(expected, output.toString().lines().toList());
+        Assertions.assertEquals(7, report.getCommandsCount());
+        Assertions.assertEquals(3, report.getBatchesCount());
+        Assertions.assertTrue(report.isSuccessful());
+    }
+
+    @Test
+    void execute_shouldReportErrorAndContinue_whenLineHasSyntaxError() throws IOException {
+        String script = String.join("\n", "teleport 1", "enroll 1 x", "add-student Ann Smith");
+        StringWriter output = new StringWriter();
+
+        ScriptReport report = scriptExecutor.execute(new BufferedReader(new StringReader(script)), output);
+
+        List<String> lines = output.toString().lines().toList();
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertTrue(lines.get(0).startsWith("1\tteleport\terror\t"));
+        Assertions.assertTrue(lines.get(1).startsWith("2\tenroll\terror\t"));
+        Assertions.assertEquals("3\tadd-student\tok\t1", lines.get(2));
+        Assertions.assertEquals(2, report.getErrorsCount());
+    }
+
+    @Test
+    void execute_shouldIsolateFailingCommand_whenInsertBatchFails() throws IOException {
+        String script = String.join("\n", "add-student Ann Smith", "enroll 1 1", "enroll 777 1", "enroll 1 2");
+        StringWriter output = new StringWriter();
+
+        ScriptReport report = scriptExecutor.execute(new BufferedReader(new StringReader(script)), output);
+
+        List<String> lines = output.toString().lines().toList();
+        Assertions.assertEquals("2\tenroll\tok", lines.get(1));
+        Assertions.assertTrue(lines.get(2).startsWith("3\tenroll\terror\t"));
+        Assertions.assertEquals("4\tenroll\tok", lines.get(3));
+        Assertions.assertEquals(1, report.getErrorsCount());
+        Assertions.assertEquals(2, studentDao.streamAllEnrollments().count());
+    }
+
+    @Test
+    void execute_shouldReportRepeatedKeyAsNotFound_whenDeletedTwiceInOneBatch() throws IOException {
+        String script = String.join("\n", "add-student Ann Smith", "add-student Bob Brown", "delete-students 1 2",
+                "delete-student 1");
+        StringWriter output = new StringWriter();
+
+        scriptExecutor.execute(new BufferedReader(new StringReader(script)), output);
+
+        List<String> lines = output.toString().lines().toList();
+        Assertions.assertEquals("3\tdelete-students\tok\t2\t0\t0", lines.get(2));
+        Assertions.assertEquals("4\tdelete-student\tnot_found\t0\t1\t0", lines.get(3));
+    }
+}
@@ -0,0 +1,67 @@
+package ua.foxminded.school.ui.table;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.domain.model.Course;
+
+class TableRendererTest {
+    private static final TableRenderer<Course> COURSES_TABLE = new TableRenderer<>(
+            List.of(TableColumn.right("ID", course -> String.valueOf(course.getId())),
+                    TableColumn.left("Name", Course::getName), TableColumn.left("Description", Course::getDescription)));
+
+    @Test
+    void render_shouldAlignColumnsToWidestCell_whenAlignedFormat() throws IOException {
+        StringWriter output = new StringWriter();
+
+        COURSES_TABLE.render(List.of(new Course(7, "Math", "Numbers"), new Course(12, "History", "Past")),
+                TableFormat.ALIGNED, output);
+
+        String expected = String.join("\n", "ID | Name    | Description", "-- | ------- | -----------",
+                " 7 | Math    | Numbers", "12 | History | Past", "");
+        Assertions.assertEquals(expected, output.toString());
+    }
+
+    @Test
+    void render_shouldQuoteSpecialCharacters_whenCsvFormat() throws IOException {
+        StringWriter output = new StringWriter();
+
+        COURSES_TABLE.render(List.of(new Course(1, "Art, modern", "The \"best\" one")), TableFormat.CSV, output);
+
+        Assertions.assertEquals("ID,Name,Description\n1,\"Art, modern\",\"The \"\"best\"\" one\"\n",
+                output.toString());
+    }
+
+    @Test
+    void render_shouldEscapeSeparators_whenTsvFormat() throws IOException {
+        StringWriter output = new StringWriter();
+
+        COURSES_TABLE.render(List.of(new Course(1, "Art\tmodern", "Line\nbreak")), TableFormat.TSV, output);
+
+        Assertions.assertEquals("ID\tName\tDescription\n1\tArt\\tmodern\tLine\\nbreak\n", output.toString());
+    }
+
+    @Test
+    void render_shouldStopAfterPage_whenMorePromptDeclines() throws IOException {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            courses.add(new Course(i, "Course" + i, "Description"));
+        }
+        StringWriter output = new StringWriter();
+        List<Integer> promptedAt = new ArrayList<>();
+
+        int renderedRows = COURSES_TABLE.render(courses, TableFormat.TSV, output, 2, (rendered, total) -> {
+            promptedAt.add(rendered);
+            return rendered < 4;
+        });
+
+        Assertions.assertEquals(4, renderedRows);
+        Assertions.assertEquals(List.of(2, 4), promptedAt);
+        Assertions.assertEquals(5, output.toString().lines().count());
+    }
+}
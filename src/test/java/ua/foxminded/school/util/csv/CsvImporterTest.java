@@ -0,0 +1,122 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.CsvFormatException;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+import ua.foxminded.school.util.data.Data;
+
+class CsvImporterTest {
+    private static final int TEST_CHUNK_SIZE = 2;
+    private static final String SELECT_GROUPS_STUDENTS_COUNTS_SQL = "SELECT students_count FROM groups "
+            + "WHERE id != 0 ORDER BY id;";
+
+    private static DataSource dataSource;
+
+    private CsvImporter csvImporter;
+    private CsvExporter csvExporter;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+        csvImporter = new CsvImporter(dataSource, TEST_CHUNK_SIZE);
+        csvExporter = new CsvExporter(new StudentDaoImpl(dataSource), new CourseDaoImpl(dataSource),
+                new GroupDaoImpl(dataSource));
+    }
+
+    @Test
+    void importTable_shouldRestoreExportedRows_whenDatabaseWasReset() throws IOException, SQLException {
+        JdbcUtil.insertTestDataInDatabase(new Data(), dataSource);
+        Map<CsvTable, String> exported = new EnumMap<>(CsvTable.class);
+        for (CsvTable table : CsvTable.values()) {
+            StringWriter output = new StringWriter();
+            csvExporter.exportTable(table, output);
+            exported.put(table, output.toString());
+        }
+        List<Student> students = new StudentDaoImpl(dataSource).findPage(0, Integer.MAX_VALUE);
+        List<Integer> studentsCounts = findGroupsStudentsCounts();
+
+        new SchoolDbInitializer(dataSource).reset();
+        for (CsvTable table : CsvTable.values()) {
+            CsvTransferReport report = csvImporter.importTable(table, new StringReader(exported.get(table)));
+            Assertions.assertEquals(0, report.getSkippedRowsCount());
+        }
+
+        for (CsvTable table : CsvTable.values()) {
+            StringWriter output = new StringWriter();
+            csvExporter.exportTable(table, output);
+            Assertions.assertEquals(exported.get(table), output.toString());
+        }
+        Assertions.assertEquals(students, new StudentDaoImpl(dataSource).findPage(0, Integer.MAX_VALUE));
+        Assertions.assertEquals(studentsCounts, findGroupsStudentsCounts());
+    }
+
+    @Test
+    void importTable_shouldSkipExistingRowsAndContinueIds_whenRowsAlreadyImported() throws IOException {
+        String groupsCsv = "id,name\n5,AA-05\n7,\"BB,07\"\n5,AA-05\n";
+        Assertions.assertEquals(1, csvImporter.importTable(CsvTable.GROUPS, new StringReader(groupsCsv))
+                .getSkippedRowsCount());
+        Assertions.assertEquals(3, csvImporter.importTable(CsvTable.GROUPS, new StringReader(groupsCsv))
+                .getSkippedRowsCount());
+        GroupDaoImpl groupDao = new GroupDaoImpl(dataSource);
+        Group group = new Group(0, "CC-08");
+        Assertions.assertTrue(groupDao.saveAllBatch(List.of(group)));
+        Assertions.assertEquals(8, group.getId());
+    }
+
+    @Test
+    void importTable_shouldRollbackImport_whenRowIsMalformed() throws IOException, SQLException {
+        String studentsCsv = "id,group_id,first_name,last_name\n1,0,First,Student\n2,0,Second,Student\n3,zero,X,Y\n";
+        Assertions.assertThrows(CsvFormatException.class, () -> {
+            csvImporter.importTable(CsvTable.STUDENTS, new StringReader(studentsCsv));
+        });
+        Assertions.assertTrue(new SchoolDbInitializer(dataSource).isEmpty());
+    }
+
+    @Test
+    void importTable_shouldThrowCsvFormatException_whenHeaderDoesNotMatchTable() {
+        Assertions.assertThrows(CsvFormatException.class, () -> {
+            csvImporter.importTable(CsvTable.COURSES, new StringReader("id,name\n1,Math\n"));
+        });
+    }
+
+    private List<Integer> findGroupsStudentsCounts() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SELECT_GROUPS_STUDENTS_COUNTS_SQL)) {
+            List<Integer> counts = new ArrayList<>();
+            while (resultSet.next()) {
+                counts.add(resultSet.getInt(1));
+            }
+            return counts;
+        }
+    }
+}
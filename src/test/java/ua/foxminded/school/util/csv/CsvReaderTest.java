@@ -0,0 +1,60 @@
+package ua.foxminded.school.util.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.exception.CsvFormatException;
+
+class CsvReaderTest {
+
+    @Test
+    void nextRecord_shouldParseQuotedFields_whenFieldsContainDelimitersQuotesAndLineBreaks() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("id,name\r\n7,\"Smith, \"\"Jr\"\"\nline\"\r\n\n-12,\n"));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertTrue(csv.fieldEquals(1, "name"));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertEquals(7, csv.getInt(0));
+        Assertions.assertEquals("Smith, \"Jr\"\nline", csv.getString(1));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertEquals(5, csv.getLineNumber());
+        Assertions.assertEquals(-12, csv.getInt(0));
+        Assertions.assertEquals("", csv.getString(1));
+        Assertions.assertFalse(csv.nextRecord());
+    }
+
+    @Test
+    void getInt_shouldThrowCsvFormatException_whenFieldIsNotAnInteger() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("12a,2147483648"));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertThrows(CsvFormatException.class, () -> csv.getInt(0));
+        Assertions.assertThrows(CsvFormatException.class, () -> csv.getInt(1));
+    }
+
+    @Test
+    void nextRecord_shouldThrowCsvFormatException_whenQuoteIsUnterminated() {
+        CsvReader csv = new CsvReader(new StringReader("1,\"open"));
+        Assertions.assertThrows(CsvFormatException.class, csv::nextRecord);
+    }
+
+    @Test
+    void nextRecord_shouldReadWrittenRecords_whenWrittenByCsvWriter() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvWriter writer = new CsvWriter(output);
+        writer.writeRecord(List.of("plain", "with,comma", "with \"quote\"", ""));
+        writer.writeField(Integer.MIN_VALUE);
+        writer.endRecord();
+        CsvReader csv = new CsvReader(new StringReader(output.toString()));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertEquals(4, csv.getFieldsCount());
+        Assertions.assertEquals("with,comma", csv.getString(1));
+        Assertions.assertEquals("with \"quote\"", csv.getString(2));
+        Assertions.assertTrue(csv.nextRecord());
+        Assertions.assertEquals(Integer.MIN_VALUE, csv.getInt(0));
+        Assertions.assertFalse(csv.nextRecord());
+    }
+}
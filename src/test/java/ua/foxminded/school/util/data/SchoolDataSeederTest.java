@@ -0,0 +1,79 @@
+package ua.foxminded.school.util.data;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import ua.foxminded.school.exception.DaoOperationException;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class SchoolDataSeederTest {
+    private static final String COUNT_STUDENTS_SQL = "SELECT COUNT(*) FROM students;";
+    private static final String COUNT_STUDENTS_COURSES_SQL = "SELECT COUNT(*) FROM students_courses;";
+    private static final String COUNT_GROUPS_SQL = "SELECT COUNT(*) FROM groups WHERE id != 0;";
+
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+    }
+
+    @Test
+    void seed_shouldInsertAllGeneratedRows_whenSeveralProducersAndChunks() throws SQLException {
+        SeederConfig config = new SeederConfig();
+        config.setStudentsAmount(2_500);
+        config.setChunkSize(300);
+        config.setProducersCount(3);
+        config.setQueueCapacity(2);
+
+        SeedingReport report = new SchoolDataSeeder(dataSource, config).seed(new Data());
+
+        Assertions.assertEquals(2_500, report.getStudentsCount());
+        Assertions.assertEquals(2_500, count(COUNT_STUDENTS_SQL));
+        Assertions.assertEquals(report.getEnrollmentsCount(), count(COUNT_STUDENTS_COURSES_SQL));
+        Assertions.assertEquals(0, report.getFailedChunksCount());
+    }
+
+    @Test
+    void seed_shouldRollbackAllRows_whenWritingFails() throws SQLException {
+        DataSource spyDataSource = Mockito.spy(dataSource);
+        Mockito.doAnswer(invocation -> {
+            Connection connection = dataSource.getConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE students_courses;");
+            }
+            return connection;
+        }).when(spyDataSource).getConnection();
+        SeederConfig config = new SeederConfig();
+
+        Assertions.assertThrows(DaoOperationException.class, () -> {
+            new SchoolDataSeeder(spyDataSource, config).seed(new Data());
+        });
+        Assertions.assertEquals(0, count(COUNT_STUDENTS_SQL));
+        Assertions.assertEquals(0, count(COUNT_GROUPS_SQL));
+    }
+
+    private long count(String countSql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery(countSql);
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ua.foxminded.school.util.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.exception.SchoolDbInitializerException;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class SchemaMigratorTest {
+    private static final String COUNT_SCHEMA_VERSIONS_SQL = "SELECT COUNT(*) FROM schema_version;";
+    private static final String COUNT_STUDENTS_SQL = "SELECT COUNT(*) FROM students;";
+    private static final String INSERT_STUDENT_SQL = "INSERT INTO students(group_id, first_name, last_name) "
+            + "VALUES (0, 'First', 'Last');";
+    private static final String CORRUPT_CHECKSUM_SQL = "UPDATE schema_version SET checksum = 'corrupted';";
+    private static final String LOCK_SCHEMA_VERSIONS_SQL = "SELECT version FROM schema_version FOR UPDATE;";
+
+    private static DataSource dataSource;
+
+    private SchemaMigrator schemaMigrator;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+        schemaMigrator = new SchemaMigrator(dataSource);
+    }
+
+    @Test
+    void migrate_shouldApplyNothing_whenSchemaIsCurrent() throws SQLException {
+        Assertions.assertEquals(0, schemaMigrator.migrate());
+        Assertions.assertEquals(schemaMigrator.getLatestVersion(), count(COUNT_SCHEMA_VERSIONS_SQL));
+    }
+
+    @Test
+    void migrate_shouldKeepExistingData_whenRunAgain() throws SQLException {
+        execute(INSERT_STUDENT_SQL);
+        new SchoolDbInitializer(dataSource).init();
+        Assertions.assertEquals(1, count(COUNT_STUDENTS_SQL));
+    }
+
+    @Test
+    void migrate_shouldThrowSchoolDbInitializerException_whenAppliedChecksumDiffers() throws SQLException {
+        execute(CORRUPT_CHECKSUM_SQL);
+        Assertions.assertThrows(SchoolDbInitializerException.class, () -> {
+            schemaMigrator.migrate();
+        });
+    }
+
+    @Test
+    void migrate_shouldThrowSchoolDbInitializerException_whenSchemaVersionIsLockedByAnotherMigration()
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.executeQuery(LOCK_SCHEMA_VERSIONS_SQL).close();
+            Assertions.assertThrows(SchoolDbInitializerException.class, () -> {
+                schemaMigrator.migrate();
+            });
+            connection.rollback();
+        }
+        Assertions.assertEquals(0, schemaMigrator.migrate());
+    }
+
+    @Test
+    void isEmpty_shouldReturnFalse_whenStudentsExist() throws SQLException {
+        SchoolDbInitializer schoolDbInitializer = new SchoolDbInitializer(dataSource);
+        Assertions.assertTrue(schoolDbInitializer.isEmpty());
+        execute(INSERT_STUDENT_SQL);
+        Assertions.assertFalse(schoolDbInitializer.isEmpty());
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private int count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
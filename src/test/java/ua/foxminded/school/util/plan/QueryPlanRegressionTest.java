@@ -0,0 +1,71 @@
+package ua.foxminded.school.util.plan;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+import ua.foxminded.school.util.data.Data;
+import ua.foxminded.school.util.data.SeederConfig;
+
+class QueryPlanRegressionTest {
+    private static final int TEST_STUDENTS_AMOUNT = 20_000;
+    private static final Set<String> REFERENCE_TABLES = Set.of("groups", "courses");
+    private static final Set<String> FULL_SCAN_STATEMENTS = Set.of("StudentDaoImpl.SELECT_ALL_STUDENTS_SQL",
+            "StudentDaoImpl.SELECT_ALL_ENROLLMENTS_SQL");
+    private static final Set<String> POSTGRESQL_ONLY_STATEMENTS = Set.of(
+            "StudentDaoImpl.INSERT_STUDENTS_COURSES_ON_CONFLICT_DO_NOTHING_SQL",
+            "StudentDaoImpl.DELETE_STUDENTS_COURSES_BY_PAIRS_SQL");
+    private static final String UNINDEXED_STUDENTS_SQL = "SELECT * FROM students WHERE first_name = ?;";
+    private static final String UNINDEXED_JOIN_SQL = "SELECT namesakes.id FROM students "
+            + "INNER JOIN students namesakes ON namesakes.first_name = students.last_name;";
+
+    private static QueryPlanInspector queryPlanInspector;
+
+    @BeforeAll
+    static void setup() {
+        DataSource dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+        new SchoolDbInitializer(dataSource).reset();
+        SeederConfig seederConfig = new SeederConfig();
+        seederConfig.setStudentsAmount(TEST_STUDENTS_AMOUNT);
+        JdbcUtil.insertTestDataInDatabase(new Data(), dataSource, seederConfig);
+        queryPlanInspector = new QueryPlanInspector(dataSource);
+        queryPlanInspector.updateStatistics();
+    }
+
+    @Test
+    void explainAll_shouldFindNoSequentialScansOrNestedLoops_whenDaoStatementsExplained() {
+        Map<String, String> statements = QueryPlanInspector.collectSqlConstants(StudentDaoImpl.class,
+                CourseDaoImpl.class, GroupDaoImpl.class);
+        statements.keySet().removeAll(POSTGRESQL_ONLY_STATEMENTS);
+        Assertions.assertFalse(statements.isEmpty());
+        for (QueryPlan plan : queryPlanInspector.explainAll(statements)) {
+            if (!FULL_SCAN_STATEMENTS.contains(plan.getName())) {
+                List<String> problems = plan.getProblems(REFERENCE_TABLES);
+                Assertions.assertTrue(problems.isEmpty(), () -> problems + System.lineSeparator() + plan);
+            }
+        }
+    }
+
+    @Test
+    void explain_shouldReportSequentialScan_whenFilteredColumnIsNotIndexed() {
+        QueryPlan plan = queryPlanInspector.explain("unindexed", UNINDEXED_STUDENTS_SQL);
+        Assertions.assertEquals(List.of("students"), plan.getFullScanTables());
+    }
+
+    @Test
+    void explain_shouldReportNestedLoop_whenJoinedTableIsScannedForEveryRow() {
+        QueryPlan plan = queryPlanInspector.explain("unindexed join", UNINDEXED_JOIN_SQL);
+        Assertions.assertEquals(1, plan.getNestedLoopWarnings().size());
+    }
+}
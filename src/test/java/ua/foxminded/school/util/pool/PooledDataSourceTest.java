@@ -0,0 +1,229 @@
+package ua.foxminded.school.util.pool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.dao.GroupDao;
+import ua.foxminded.school.dao.StudentDao;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Group;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+
+class PooledDataSourceTest {
+    private static final int TEST_MAX_SIZE = 2;
+    private static final long TEST_ACQUIRE_TIMEOUT_MILLIS = 100;
+    private static final String TEST_QUERY_SQL = "SELECT 1;";
+    private static final String OTHER_TEST_QUERY_SQL = "SELECT 2;";
+    private static final int TEST_FETCH_SIZE = 500;
+    private static final int TEST_MAX_ROWS = 7;
+    private static final int TEST_QUERY_TIMEOUT_SECONDS = 30;
+
+    private DataSource targetDataSource;
+    private PooledDataSource pooledDataSource;
+
+    @BeforeEach
+    void init() {
+        targetDataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+        pooledDataSource = new PooledDataSource(targetDataSource, createTestConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledDataSource.close();
+    }
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenMinIdleGreaterThanMaxSize() {
+        PoolConfig config = createTestConfig();
+        config.setMinIdle(TEST_MAX_SIZE + 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new PooledDataSource(targetDataSource, config);
+        });
+    }
+
+    @Test
+    void getConnection_shouldReusePhysicalConnection_whenConnectionWasClosed() throws SQLException {
+        for (int i = 0; i < 5; i++) {
+            try (Connection connection = pooledDataSource.getConnection()) {
+                Assertions.assertTrue(connection.isValid(1));
+            }
+        }
+        PoolStatistics statistics = pooledDataSource.getStatistics();
+        Assertions.assertEquals(1, statistics.getCreatedCount());
+        Assertions.assertEquals(5, statistics.getAcquiredCount());
+        Assertions.assertEquals(0, statistics.getActiveConnections());
+        Assertions.assertEquals(1, statistics.getIdleConnections());
+    }
+
+    @Test
+    void prewarm_shouldCreateIdleConnectionsUpToMaxSize_whenPoolIsEmpty() throws SQLException {
+        Assertions.assertEquals(TEST_MAX_SIZE, pooledDataSource.prewarm(TEST_MAX_SIZE + 1));
+        Assertions.assertEquals(0, pooledDataSource.prewarm(TEST_MAX_SIZE));
+        try (Connection connection = pooledDataSource.getConnection()) {
+            Assertions.assertTrue(connection.isValid(1));
+        }
+        PoolStatistics statistics = pooledDataSource.getStatistics();
+        Assertions.assertEquals(TEST_MAX_SIZE, statistics.getCreatedCount());
+        Assertions.assertEquals(TEST_MAX_SIZE, statistics.getIdleConnections());
+    }
+
+    @Test
+    void getConnection_shouldThrowSQLTimeoutException_whenPoolIsExhausted() throws SQLException {
+        try (Connection first = pooledDataSource.getConnection(); Connection second = pooledDataSource.getConnection()) {
+            Assertions.assertThrows(SQLTimeoutException.class, () -> {
+                pooledDataSource.getConnection();
+            });
+            Assertions.assertEquals(1, pooledDataSource.getStatistics().getAcquireTimeoutCount());
+        }
+    }
+
+    @Test
+    void close_shouldRestoreAutoCommit_whenConnectionReturnedInTransaction() throws SQLException {
+        try (Connection connection = pooledDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+        try (Connection connection = pooledDataSource.getConnection()) {
+            Assertions.assertTrue(connection.getAutoCommit());
+        }
+    }
+
+    @Test
+    void close_shouldMakeHandleUnusable_whenConnectionReturnedToPool() throws SQLException {
+        Connection connection = pooledDataSource.getConnection();
+        connection.close();
+        Assertions.assertTrue(connection.isClosed());
+        Assertions.assertThrows(SQLException.class, () -> {
+            connection.createStatement();
+        });
+    }
+
+    @Test
+    void getStatistics_shouldReportLeak_whenConnectionIsNotReturned() throws Exception {
+        PoolConfig config = createTestConfig();
+        config.setLeakDetectionThresholdMillis(20);
+        config.setHousekeepingPeriodMillis(10);
+        try (PooledDataSource leakDetectingDataSource = new PooledDataSource(targetDataSource, config)) {
+            Connection connection = leakDetectingDataSource.getConnection();
+            Thread.sleep(200);
+            Assertions.assertEquals(1, leakDetectingDataSource.getStatistics().getLeakCount());
+            connection.close();
+        }
+    }
+
+    @Test
+    void getConnection_shouldServeDaoOperations_whenUsedAsDaoDataSource() {
+        new SchoolDbInitializer(pooledDataSource).reset();
+        GroupDao groupDao = new GroupDaoImpl(pooledDataSource);
+        List<Group> expected = List.of(new Group(1, "Name1"));
+        groupDao.saveAllBatch(expected);
+        Assertions.assertEquals(expected, groupDao.findAll());
+        Assertions.assertEquals(0, pooledDataSource.getStatistics().getActiveConnections());
+    }
+
+    @Test
+    void prepareStatement_shouldReuseCachedStatement_whenSameSqlPreparedAgain() throws SQLException {
+        try (Connection connection = pooledDataSource.getConnection()) {
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL));
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL));
+        }
+        PoolStatistics statistics = pooledDataSource.getStatistics();
+        Assertions.assertEquals(1, statistics.getStatementCacheMisses());
+        Assertions.assertEquals(1, statistics.getStatementCacheHits());
+    }
+
+    @Test
+    void prepareStatement_shouldNotReuseCachedStatement_whenGeneratedKeysOptionDiffers() throws SQLException {
+        try (Connection connection = pooledDataSource.getConnection()) {
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL));
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL, Statement.RETURN_GENERATED_KEYS));
+        }
+        Assertions.assertEquals(0, pooledDataSource.getStatistics().getStatementCacheHits());
+    }
+
+    @Test
+    void prepareStatement_shouldEvictLeastRecentlyUsedStatement_whenCacheIsFull() throws SQLException {
+        PoolConfig config = createTestConfig();
+        config.setStatementCacheSize(1);
+        try (PooledDataSource smallCacheDataSource = new PooledDataSource(targetDataSource, config);
+                Connection connection = smallCacheDataSource.getConnection()) {
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL));
+            executeQuery(connection.prepareStatement(OTHER_TEST_QUERY_SQL));
+            executeQuery(connection.prepareStatement(TEST_QUERY_SQL));
+            Assertions.assertEquals(3, smallCacheDataSource.getStatistics().getStatementCacheMisses());
+        }
+    }
+
+    @Test
+    void prepareStatement_shouldRestoreDefaultSettings_whenCachedStatementReused() throws SQLException {
+        try (Connection connection = pooledDataSource.getConnection()) {
+            int defaultFetchSize;
+            int defaultMaxRows;
+            int defaultQueryTimeout;
+            try (PreparedStatement statement = connection.prepareStatement(TEST_QUERY_SQL)) {
+                defaultFetchSize = statement.getFetchSize();
+                defaultMaxRows = statement.getMaxRows();
+                defaultQueryTimeout = statement.getQueryTimeout();
+                statement.setFetchSize(TEST_FETCH_SIZE);
+                statement.setMaxRows(TEST_MAX_ROWS);
+                statement.setQueryTimeout(TEST_QUERY_TIMEOUT_SECONDS);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(TEST_QUERY_SQL)) {
+                Assertions.assertEquals(1, pooledDataSource.getStatistics().getStatementCacheHits());
+                Assertions.assertEquals(defaultFetchSize, statement.getFetchSize());
+                Assertions.assertEquals(defaultMaxRows, statement.getMaxRows());
+                Assertions.assertEquals(defaultQueryTimeout, statement.getQueryTimeout());
+            }
+        }
+    }
+
+    @Test
+    void prepare_shouldBypassStatementCache_whenUncachedStatementRequested() throws SQLException {
+        try (Connection connection = pooledDataSource.getConnection()) {
+            executeQuery(UncachedStatements.prepare(connection, TEST_QUERY_SQL));
+            executeQuery(UncachedStatements.prepare(connection, TEST_QUERY_SQL));
+        }
+        PoolStatistics statistics = pooledDataSource.getStatistics();
+        Assertions.assertEquals(0, statistics.getStatementCacheMisses());
+        Assertions.assertEquals(0, statistics.getStatementCacheHits());
+    }
+
+    @Test
+    void prepareStatement_shouldHitCache_whenDaoQueryRepeated() {
+        new SchoolDbInitializer(pooledDataSource).reset();
+        StudentDao studentDao = new StudentDaoImpl(pooledDataSource);
+        long initialCacheHits = pooledDataSource.getStatistics().getStatementCacheHits();
+        for (int i = 0; i < 3; i++) {
+            studentDao.findAllByCourseName("CourseName");
+        }
+        Assertions.assertEquals(2, pooledDataSource.getStatistics().getStatementCacheHits() - initialCacheHits);
+    }
+
+    private void executeQuery(PreparedStatement statement) throws SQLException {
+        try (statement) {
+            ResultSet resultSet = statement.executeQuery();
+            Assertions.assertTrue(resultSet.next());
+        }
+    }
+
+    private PoolConfig createTestConfig() {
+        PoolConfig config = new PoolConfig();
+        config.setMinIdle(0);
+        config.setMaxSize(TEST_MAX_SIZE);
+        config.setAcquireTimeoutMillis(TEST_ACQUIRE_TIMEOUT_MILLIS);
+        return config;
+    }
+}
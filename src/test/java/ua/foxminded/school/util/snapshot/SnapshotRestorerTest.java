@@ -0,0 +1,173 @@
+package ua.foxminded.school.util.snapshot;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ua.foxminded.school.dao.impl.CourseDaoImpl;
+import ua.foxminded.school.dao.impl.GroupDaoImpl;
+import ua.foxminded.school.dao.impl.StudentDaoImpl;
+import ua.foxminded.school.domain.model.Student;
+import ua.foxminded.school.exception.SnapshotFormatException;
+import ua.foxminded.school.util.JdbcUtil;
+import ua.foxminded.school.util.SchoolDbInitializer;
+import ua.foxminded.school.util.csv.CsvExporter;
+import ua.foxminded.school.util.csv.CsvTable;
+import ua.foxminded.school.util.data.Data;
+
+class SnapshotRestorerTest {
+    private static final int TEST_BLOCK_ROWS_COUNT = 7;
+    private static final String SNAPSHOT_FILE = "school.snapshot";
+    private static final byte[] TEST_DICTIONARY = { 'd', 'i', 'c', 't' };
+    private static final Duration RESTORE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static DataSource dataSource;
+
+    @TempDir
+    Path temporaryDirectory;
+
+    private SnapshotRestorer snapshotRestorer;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() {
+        new SchoolDbInitializer(dataSource).reset();
+        JdbcUtil.insertTestDataInDatabase(new Data(), dataSource);
+        snapshotRestorer = new SnapshotRestorer(dataSource);
+    }
+
+    @Test
+    void restore_shouldRestoreSavedDatabase_whenSnapshotIsUncompressed() throws IOException {
+        assertRoundTrip(false);
+    }
+
+    @Test
+    void restore_shouldRestoreSavedDatabase_whenSnapshotIsCompressed() throws IOException {
+        assertRoundTrip(true);
+    }
+
+    @Test
+    void restore_shouldThrowSnapshotFormatExceptionAndKeepDatabaseEmpty_whenSnapshotIsCorrupted()
+            throws IOException {
+        Path snapshotFile = temporaryDirectory.resolve(SNAPSHOT_FILE);
+        createSnapshotWriter(false).write(snapshotFile);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length - 10] ^= 0x5A;
+        Files.write(snapshotFile, bytes);
+        new SchoolDbInitializer(dataSource).reset();
+        Assertions.assertThrows(SnapshotFormatException.class, () -> snapshotRestorer.restore(snapshotFile));
+        Assertions.assertTrue(new SchoolDbInitializer(dataSource).isEmpty());
+    }
+
+    @Test
+    void restore_shouldThrowSnapshotFormatException_whenFileIsNotSnapshot() throws IOException {
+        Path snapshotFile = temporaryDirectory.resolve(SNAPSHOT_FILE);
+        Files.writeString(snapshotFile, "id,name\n");
+        Assertions.assertThrows(SnapshotFormatException.class, () -> snapshotRestorer.restore(snapshotFile));
+    }
+
+    @Test
+    void restore_shouldThrowSnapshotFormatException_whenCompressedBlockNeedsPresetDictionary() throws IOException {
+        byte[] storedPayload = deflateWithDictionary(new byte[] { 1, 2, 3 });
+        BlockBuffer snapshot = new BlockBuffer(storedPayload.length + 32);
+        snapshot.writeBytes(SnapshotFormat.MAGIC, 0, SnapshotFormat.MAGIC.length);
+        snapshot.writeByte(SnapshotFormat.VERSION);
+        snapshot.writeByte(SnapshotFormat.COMPRESSED_FLAG);
+        snapshot.writeByte(SnapshotSection.GROUPS.tag());
+        snapshot.writeVarInt(1);
+        snapshot.writeVarInt(storedPayload.length);
+        snapshot.writeVarInt(3);
+        snapshot.writeInt(0);
+        snapshot.writeBytes(storedPayload, 0, storedPayload.length);
+        Path snapshotFile = temporaryDirectory.resolve(SNAPSHOT_FILE);
+        Files.write(snapshotFile, Arrays.copyOf(snapshot.array(), snapshot.length()));
+
+        Assertions.assertTimeoutPreemptively(RESTORE_TIMEOUT, () -> {
+            Assertions.assertThrows(SnapshotFormatException.class, () -> snapshotRestorer.restore(snapshotFile));
+        });
+    }
+
+    @Test
+    void restore_shouldThrowSnapshotFormatException_whenBlockLengthExceedsMaximum() throws IOException {
+        BlockBuffer snapshot = new BlockBuffer(32);
+        snapshot.writeBytes(SnapshotFormat.MAGIC, 0, SnapshotFormat.MAGIC.length);
+        snapshot.writeByte(SnapshotFormat.VERSION);
+        snapshot.writeByte(0);
+        snapshot.writeByte(SnapshotSection.GROUPS.tag());
+        snapshot.writeVarInt(1);
+        snapshot.writeVarInt(SnapshotFormat.MAX_BLOCK_LENGTH + 1);
+        snapshot.writeInt(0);
+        Path snapshotFile = temporaryDirectory.resolve(SNAPSHOT_FILE);
+        Files.write(snapshotFile, Arrays.copyOf(snapshot.array(), snapshot.length()));
+
+        Assertions.assertThrows(SnapshotFormatException.class, () -> snapshotRestorer.restore(snapshotFile));
+    }
+
+    private byte[] deflateWithDictionary(byte[] payload) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setDictionary(TEST_DICTIONARY);
+            deflater.setInput(payload);
+            deflater.finish();
+            byte[] deflated = new byte[payload.length + 64];
+            int deflatedLength = deflater.deflate(deflated);
+            return Arrays.copyOf(deflated, deflatedLength);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void assertRoundTrip(boolean compressed) throws IOException {
+        Path snapshotFile = temporaryDirectory.resolve(SNAPSHOT_FILE);
+        Map<CsvTable, String> savedTables = exportTables();
+        List<Student> savedStudents = new StudentDaoImpl(dataSource).findPage(0, Integer.MAX_VALUE);
+        SnapshotReport savedReport = createSnapshotWriter(compressed).write(snapshotFile);
+        Assertions.assertEquals(Files.size(snapshotFile), savedReport.getBytesCount());
+
+        new SchoolDbInitializer(dataSource).reset();
+        SnapshotReport restoredReport = snapshotRestorer.restore(snapshotFile);
+
+        Assertions.assertEquals(savedReport.getRowsCount(), restoredReport.getRowsCount());
+        Assertions.assertEquals(savedTables, exportTables());
+        Assertions.assertEquals(savedStudents, new StudentDaoImpl(dataSource).findPage(0, Integer.MAX_VALUE));
+        Student student = new Student(0, 0, "New", "Student");
+        Assertions.assertTrue(new StudentDaoImpl(dataSource).saveAllBatch(List.of(student)));
+        Assertions.assertEquals(savedStudents.get(savedStudents.size() - 1).getId() + 1, student.getId());
+    }
+
+    private SnapshotWriter createSnapshotWriter(boolean compressed) {
+        return new SnapshotWriter(new StudentDaoImpl(dataSource), new CourseDaoImpl(dataSource),
+                new GroupDaoImpl(dataSource), compressed, TEST_BLOCK_ROWS_COUNT);
+    }
+
+    private Map<CsvTable, String> exportTables() throws IOException {
+        CsvExporter csvExporter = new CsvExporter(new StudentDaoImpl(dataSource), new CourseDaoImpl(dataSource),
+                new GroupDaoImpl(dataSource));
+        Map<CsvTable, String> tables = new EnumMap<>(CsvTable.class);
+        for (CsvTable table : CsvTable.values()) {
+            StringWriter output = new StringWriter();
+            csvExporter.exportTable(table, output);
+            tables.put(table, output.toString());
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,84 @@
+package ua.foxminded.school.util.sql;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.foxminded.school.exception.FileReaderException;
+import ua.foxminded.school.util.JdbcUtil;
+
+class SqlScriptExecutorTest {
+    private static final String DROP_TEST_TABLE_SQL = "DROP TABLE IF EXISTS script_test;";
+    private static final String COUNT_ROWS_SQL = "SELECT COUNT(*) FROM script_test;";
+    private static final int TEST_BATCH_SIZE = 2;
+
+    private static DataSource dataSource;
+
+    private SqlScriptExecutor scriptExecutor;
+
+    @BeforeAll
+    static void setup() {
+        dataSource = JdbcUtil.createDefaultInMemoryH2DataSource();
+    }
+
+    @BeforeEach
+    void init() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(DROP_TEST_TABLE_SQL);
+        }
+        scriptExecutor = new SqlScriptExecutor(TEST_BATCH_SIZE);
+    }
+
+    @Test
+    void execute_shouldExecuteAllStatements_whenScriptSpansSeveralBatches() throws SQLException, IOException {
+        String script = "CREATE TABLE script_test (id INT, name VARCHAR(20));\n"
+                + "INSERT INTO script_test VALUES (1, 'a;b');\n"
+                + "-- comment\n"
+                + "INSERT INTO script_test VALUES (2, 'c');\n"
+                + "INSERT INTO script_test VALUES (3, 'd')";
+        try (Connection connection = dataSource.getConnection()) {
+            Assertions.assertEquals(4, scriptExecutor.execute(connection, new StringReader(script)));
+            Assertions.assertEquals(3, countRows(connection));
+        }
+    }
+
+    @Test
+    void execute_shouldReportFailedStatementLine_whenStatementFails() throws SQLException {
+        String script = "CREATE TABLE script_test (id INT);\n"
+                + "INSERT INTO script_test VALUES (1);\n"
+                + "INSERT INTO missing_table VALUES (2);";
+        try (Connection connection = dataSource.getConnection()) {
+            SQLException exception = Assertions.assertThrows(SQLException.class, () -> {
+                scriptExecutor.execute(connection, new StringReader(script));
+            });
+            Assertions.assertTrue(exception.getMessage().contains("line 3"));
+        }
+    }
+
+    @Test
+    void executeResource_shouldThrowFileReaderException_whenResourceIsMissing() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Assertions.assertThrows(FileReaderException.class, () -> {
+                scriptExecutor.executeResource(connection, "db/missing.sql");
+            });
+        }
+    }
+
+    private int countRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(COUNT_ROWS_SQL)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ua.foxminded.school.util.sql;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SqlScriptTokenizerTest {
+
+    @Test
+    void next_shouldSplitStatementsAndSkipComments_whenScriptHasComments() throws IOException {
+        String script = "-- header comment\n"
+                + "CREATE TABLE a (id INT); /* block /* nested */ comment */\n"
+                + "\n"
+                + "INSERT INTO a VALUES (1) -- trailing\n"
+                + ";\n"
+                + "SELECT 1";
+        List<SqlStatement> expected = List.of(new SqlStatement(2, "CREATE TABLE a (id INT)"),
+                new SqlStatement(4, "INSERT INTO a VALUES (1)"), new SqlStatement(6, "SELECT 1"));
+        Assertions.assertEquals(expected, tokenize(script));
+    }
+
+    @Test
+    void next_shouldKeepTerminatorsAndCommentMarkers_whenInsideQuotes() throws IOException {
+        String script = "INSERT INTO a VALUES ('it''s; -- not a comment');"
+                + "SELECT \"odd;name\" FROM a;"
+                + "SELECT E'back\\'slash;' FROM a;";
+        List<String> expected = List.of("INSERT INTO a VALUES ('it''s; -- not a comment')",
+                "SELECT \"odd;name\" FROM a", "SELECT E'back\\'slash;' FROM a");
+        Assertions.assertEquals(expected, tokenize(script).stream().map(SqlStatement::sql).toList());
+    }
+
+    @Test
+    void next_shouldKeepFunctionBody_whenDollarQuoted() throws IOException {
+        String body = "CREATE FUNCTION f() RETURNS INT AS $fn$ BEGIN RETURN 1; /* $$ */ END; $fn$ LANGUAGE plpgsql";
+        String script = body + ";\nSELECT $$a;b$$, $1;";
+        List<String> expected = List.of(body, "SELECT $$a;b$$, $1");
+        Assertions.assertEquals(expected, tokenize(script).stream().map(SqlStatement::sql).toList());
+    }
+
+    @Test
+    void next_shouldThrowEOFException_whenQuoteIsUnterminated() {
+        SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(new StringReader("SELECT 1;\nSELECT 'open;"));
+        Assertions.assertThrows(EOFException.class, () -> {
+            tokenizer.next();
+            tokenizer.next();
+        });
+    }
+
+    private List<SqlStatement> tokenize(String script) throws IOException {
+        SqlScriptTokenizer tokenizer = new SqlScriptTokenizer(new StringReader(script));
+        List<SqlStatement> statements = new ArrayList<>();
+        SqlStatement statement;
+        while ((statement = tokenizer.next()) != null) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,87 @@
+package ua.foxminded.school.util.startup;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BackgroundStartupTest {
+    private StartupTimeline timeline;
+    private BackgroundStartup startup;
+    private List<String> executedSteps;
+
+    @BeforeEach
+    void init() {
+        timeline = new StartupTimeline();
+        startup = new BackgroundStartup(timeline);
+        executedSteps = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void start_shouldCompleteDataReadyBeforeWarmUp_whenReadinessStepsSucceed() throws InterruptedException {
+        CountDownLatch warmUpStarted = new CountDownLatch(1);
+        CountDownLatch releaseWarmUp = new CountDownLatch(1);
+        startup.readinessStep("schema ready", () -> executedSteps.add("schema"))
+                .readinessStep("data seeded", () -> executedSteps.add("data"))
+                .warmUpStep("queries warmed", () -> {
+                    warmUpStarted.countDown();
+                    awaitQuietly(releaseWarmUp);
+                    executedSteps.add("warm-up");
+                });
+        startup.start().join();
+        Assertions.assertTrue(warmUpStarted.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of("schema", "data"), executedSteps);
+        Assertions.assertFalse(startup.warmedUp().isDone());
+        releaseWarmUp.countDown();
+        startup.warmedUp().join();
+        Assertions.assertEquals(List.of("schema", "data", "warm-up"), executedSteps);
+        Assertions.assertEquals(List.of("schema ready", "data seeded", "data ready", "queries warmed", "warmed up"),
+                List.copyOf(timeline.getMilestonesMillis().keySet()));
+    }
+
+    @Test
+    void start_shouldCompleteDataReadyExceptionallyAndSkipWarmUp_whenReadinessStepFails() {
+        IllegalStateException failure = new IllegalStateException("Database is down");
+        startup.readinessStep("schema ready", () -> {
+            throw failure;
+        }).readinessStep("data seeded", () -> executedSteps.add("data"))
+                .warmUpStep("queries warmed", () -> executedSteps.add("warm-up"));
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> startup.start().join());
+        Assertions.assertSame(failure, exception.getCause());
+        Assertions.assertThrows(CompletionException.class, () -> startup.warmedUp().join());
+        Assertions.assertTrue(executedSteps.isEmpty());
+    }
+
+    @Test
+    void start_shouldContinueWarmUp_whenWarmUpStepFails() {
+        startup.readinessStep("schema ready", () -> executedSteps.add("schema")).warmUpStep("pool warmed", () -> {
+            throw new IllegalStateException("Cannot connect");
+        }).warmUpStep("queries warmed", () -> executedSteps.add("warm-up"));
+        startup.start();
+        startup.warmedUp().join();
+        Assertions.assertFalse(startup.dataReady().isCompletedExceptionally());
+        Assertions.assertEquals(List.of("schema", "warm-up"), executedSteps);
+        Assertions.assertFalse(timeline.getMilestonesMillis().containsKey("pool warmed"));
+    }
+
+    @Test
+    void readinessStep_shouldThrowIllegalStateException_whenAlreadyStarted() {
+        startup.start().join();
+        Assertions.assertThrows(IllegalStateException.class, () -> startup.readinessStep("late", () -> {
+        }));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}